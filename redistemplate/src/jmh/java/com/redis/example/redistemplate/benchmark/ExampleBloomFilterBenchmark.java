@@ -0,0 +1,82 @@
+package com.redis.example.redistemplate.benchmark;
+
+import com.redis.example.redistemplate.service.ExampleBloomFilterService;
+import com.redis.example.redistemplate.service.ExampleSetOperationsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link ExampleBloomFilterService} 벤치마크
+ *
+ * <p>같은 중복 확인을 Set(SADD/SISMEMBER)과 비교한다. 로컬 캐시에 걸리지 않도록 호출마다 새 값을 사용하고, *Cached 는 이미 확인한
+ * 값을 다시 확인한다. 메모리 차이는 벤치마크 후 MEMORY USAGE 로 확인한다.
+ */
+@State(Scope.Thread)
+public class ExampleBloomFilterBenchmark {
+  private static final String BLOOM_KEY = "bench:bloom";
+  private static final String SET_KEY = "bench:bloom:set";
+
+  @Param({"100"})
+  public int batchSize;
+
+  private ExampleBloomFilterService service;
+  private ExampleSetOperationsService setService;
+  private long sequence;
+
+  @Setup(Level.Trial)
+  public void setUp(RedisServerState redisServerState) {
+    service = redisServerState.getBean(ExampleBloomFilterService.class);
+    setService = redisServerState.getBean(ExampleSetOperationsService.class);
+    service.add(BLOOM_KEY, "cached");
+  }
+
+  @Benchmark
+  public boolean add() {
+    return service.add(BLOOM_KEY, "id:" + sequence++);
+  }
+
+  @Benchmark
+  public long setAdd() {
+    return setService.addValueToSet(SET_KEY, "id:" + sequence++);
+  }
+
+  @Benchmark
+  public boolean mightContain() {
+    return service.mightContain(BLOOM_KEY, "id:" + sequence++);
+  }
+
+  @Benchmark
+  public boolean mightContainCached() {
+    return service.mightContain(BLOOM_KEY, "cached");
+  }
+
+  @Benchmark
+  public boolean setIsMember() {
+    return setService.isMember(SET_KEY, "id:" + sequence++);
+  }
+
+  @Benchmark
+  public List<Boolean> addAll() {
+    return service.addAll(BLOOM_KEY, nextValues());
+  }
+
+  @Benchmark
+  public List<Boolean> mightContainAll() {
+    return service.mightContainAll(BLOOM_KEY, nextValues());
+  }
+
+  private List<String> nextValues() {
+    List<String> values = new ArrayList<>(batchSize);
+    for (int i = 0; i < batchSize; i++) {
+      values.add("id:" + sequence++);
+    }
+    return values;
+  }
+}
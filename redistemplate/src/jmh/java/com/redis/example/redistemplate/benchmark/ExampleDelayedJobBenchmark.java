@@ -0,0 +1,84 @@
+package com.redis.example.redistemplate.benchmark;
+
+import com.redis.example.redistemplate.service.DelayedJobPoller;
+import com.redis.example.redistemplate.service.ExampleDelayedJobService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link ExampleDelayedJobService} 벤치마크
+ *
+ * <p>실행 시각이 이미 지난 작업 {@link #BATCH_SIZE} 개를 넣고 폴러가 모두 처리(ack 포함)할 때까지 기다린다. 결과는 작업 한 건
+ * 기준이다. 실행 시각이 먼 작업 pendingJobs 개가 Sorted Set 에 함께 들어 있다.
+ */
+@State(Scope.Thread)
+public class ExampleDelayedJobBenchmark {
+  private static final int BATCH_SIZE = 1000;
+  private static final String QUEUE = "bench:delayed";
+
+  @Param({"1", "8"})
+  public int workerCount;
+
+  @Param({"1000000"})
+  public int pendingJobs;
+
+  private ExampleDelayedJobService service;
+  private DelayedJobPoller poller;
+  private long round;
+
+  @Setup(Level.Trial)
+  public void setUp(RedisServerState redisServerState) {
+    service = redisServerState.getBean(ExampleDelayedJobService.class);
+    Instant farFuture = Instant.now().plusSeconds(TimeUnit.DAYS.toSeconds(1));
+    Map<String, Instant> pending = new HashMap<>();
+    for (int i = 0; i < pendingJobs; i++) {
+      pending.put("pending:" + i, farFuture);
+      if (pending.size() == 100_000) {
+        service.scheduleAll(QUEUE, pending);
+        pending.clear();
+      }
+    }
+    service.scheduleAll(QUEUE, pending);
+    poller = service.startPoller(QUEUE, workerCount, job -> {});
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    poller.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public long scheduleAllAndProcess() {
+    long target = poller.getProcessedCount() + BATCH_SIZE;
+    Instant now = Instant.now();
+    Map<String, Instant> jobs = new HashMap<>();
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      jobs.put("job:" + round + ":" + i, now);
+    }
+    round++;
+    service.scheduleAll(QUEUE, jobs);
+    while (poller.getProcessedCount() < target) {
+      LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(10));
+    }
+    return target;
+  }
+
+  @Benchmark
+  public boolean scheduleAndCancel() {
+    service.schedule(QUEUE, "cancel:0", Instant.now().plusSeconds(60));
+    return service.cancel(QUEUE, "cancel:0");
+  }
+}
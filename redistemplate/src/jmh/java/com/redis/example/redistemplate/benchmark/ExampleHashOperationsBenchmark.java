@@ -0,0 +1,153 @@
+package com.redis.example.redistemplate.benchmark;
+
+import com.redis.example.redistemplate.service.ExampleHashOperationsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/** {@link ExampleHashOperationsService} 벤치마크 */
+@State(Scope.Thread)
+public class ExampleHashOperationsBenchmark {
+  private static final String KEY = "bench:hash";
+  private static final String COUNTER_KEY = "bench:hash:counter";
+  private static final String HASH_KEY = "field:0";
+
+  @Param({"100"})
+  public int fieldCount;
+
+  private ExampleHashOperationsService service;
+  private List<String> hashKeys;
+  private Map<String, String> fields;
+  private ScanOptions scanOptions;
+
+  @Setup(Level.Trial)
+  public void setUp(RedisServerState redisServerState) {
+    service = redisServerState.getBean(ExampleHashOperationsService.class);
+    hashKeys = new ArrayList<>(fieldCount);
+    fields = new HashMap<>();
+    for (int i = 0; i < fieldCount; i++) {
+      hashKeys.add("field:" + i);
+      fields.put("field:" + i, "value:" + i);
+    }
+    service.putAll(KEY, fields);
+    scanOptions = ScanOptions.scanOptions().match("field:*").count(fieldCount).build();
+  }
+
+  @Benchmark
+  public boolean hasHashKey() {
+    return service.hasHashKey(KEY, HASH_KEY);
+  }
+
+  @Benchmark
+  public long lengthOfValue() {
+    return service.lengthOfValue(KEY, HASH_KEY);
+  }
+
+  @Benchmark
+  public long size() {
+    return service.size(KEY);
+  }
+
+  @Benchmark
+  public Set<String> keys() {
+    return service.keys(KEY);
+  }
+
+  @Benchmark
+  public String get() {
+    return service.get(KEY, HASH_KEY);
+  }
+
+  @Benchmark
+  public List<String> multiGet() {
+    return service.multiGet(KEY, hashKeys);
+  }
+
+  @Benchmark
+  public Map<String, String> entries() {
+    return service.entries(KEY);
+  }
+
+  @Benchmark
+  public void scan(Blackhole blackhole) throws IOException {
+    try (Cursor<Map.Entry<String, String>> cursor = service.scan(KEY, scanOptions)) {
+      while (cursor.hasNext()) {
+        blackhole.consume(cursor.next());
+      }
+    }
+  }
+
+  @Benchmark
+  public void streamEntries(Blackhole blackhole) {
+    service.streamEntries(KEY, fieldCount).forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public void streamEntryChunks(Blackhole blackhole) {
+    service.streamEntryChunks(KEY, fieldCount, 10).forEach(blackhole::consume);
+  }
+
+  /** 삭제할 field가 항상 존재하도록 put 후 삭제한다. (put 1회 비용 포함) */
+  @Benchmark
+  public long deleteHashKeys() {
+    service.put(KEY, HASH_KEY, "value:0");
+    return service.deleteHashKeys(KEY, HASH_KEY);
+  }
+
+  @Benchmark
+  public void put() {
+    service.put(KEY, HASH_KEY, "value:0");
+  }
+
+  @Benchmark
+  public boolean putIfAbsent() {
+    return service.putIfAbsent(KEY, HASH_KEY, "value:0");
+  }
+
+  @Benchmark
+  public void putAll() {
+    service.putAll(KEY, fields);
+  }
+
+  @Benchmark
+  public long increaseLong() {
+    return service.increase(COUNTER_KEY, "long", 1L);
+  }
+
+  @Benchmark
+  public double increaseDouble() {
+    return service.increase(COUNTER_KEY, "double", 0.5D);
+  }
+
+  /** put, get, size 를 커넥션 하나를 고정한 세션 안에서 실행 */
+  @Benchmark
+  public long putGetSizeInSession() {
+    return service.executeInSession(
+        hashOperations -> {
+          hashOperations.put(KEY, HASH_KEY, "value:0");
+          hashOperations.get(KEY, HASH_KEY);
+          return hashOperations.size(KEY);
+        });
+  }
+
+  /** putGetSizeInSession 과 비교하기 위해 같은 작업을 메소드 호출마다 커넥션을 얻어서 실행 */
+  @Benchmark
+  public long putGetSize() {
+    service.put(KEY, HASH_KEY, "value:0");
+    service.get(KEY, HASH_KEY);
+    return service.size(KEY);
+  }
+}
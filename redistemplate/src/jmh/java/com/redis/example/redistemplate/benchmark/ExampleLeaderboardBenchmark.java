@@ -0,0 +1,81 @@
+package com.redis.example.redistemplate.benchmark;
+
+import com.redis.example.redistemplate.dto.LeaderboardEntry;
+import com.redis.example.redistemplate.service.ExampleLeaderboardService;
+import com.redis.example.redistemplate.service.ExampleSortedSetOperationsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link ExampleLeaderboardService} 벤치마크
+ *
+ * <p>스레드 4개가 hotMembers 명에게 점수 이벤트를 보낼 때, 이벤트마다 ZINCRBY 를 보내는 경우(incrementScoreDirect)와 모아서
+ * 보내는 경우(incrementScore)를 비교한다. 상위 10 명 조회는 스냅샷(top)과 매번 ZREVRANGE(topDirect)를 비교한다.
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+public class ExampleLeaderboardBenchmark {
+  private static final String KEY = "bench:leaderboard";
+  private static final String DIRECT_KEY = "bench:leaderboard:direct";
+
+  @Param({"100"})
+  public int hotMembers;
+
+  private RedisServerState redisServerState;
+  private ExampleSortedSetOperationsService sortedSetService;
+  private ExampleLeaderboardService leaderboard;
+
+  @Setup(Level.Trial)
+  public void setUp(RedisServerState redisServerState) {
+    this.redisServerState = redisServerState;
+    sortedSetService = redisServerState.getBean(ExampleSortedSetOperationsService.class);
+    leaderboard = redisServerState.createBean(ExampleLeaderboardService.class);
+    for (int i = 0; i < hotMembers; i++) {
+      sortedSetService.addValueToSet(KEY, "member:" + i, i);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    redisServerState.destroyBean(leaderboard);
+  }
+
+  @Benchmark
+  public double incrementScoreDirect() {
+    return sortedSetService.incrementScore(DIRECT_KEY, randomMember(), 1);
+  }
+
+  @Benchmark
+  public void incrementScore() {
+    leaderboard.incrementScore(KEY, randomMember(), 1);
+  }
+
+  @Benchmark
+  public List<LeaderboardEntry> top() {
+    return leaderboard.top(KEY, 10);
+  }
+
+  @Benchmark
+  public Set<String> topDirect() {
+    return sortedSetService.reverseRange(KEY, 0, 9);
+  }
+
+  @Benchmark
+  public List<LeaderboardEntry> around() {
+    return leaderboard.around(KEY, randomMember(), 5);
+  }
+
+  private String randomMember() {
+    return "member:" + ThreadLocalRandom.current().nextInt(hotMembers);
+  }
+}
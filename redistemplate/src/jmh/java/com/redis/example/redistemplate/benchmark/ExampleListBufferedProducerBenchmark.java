@@ -0,0 +1,91 @@
+package com.redis.example.redistemplate.benchmark;
+
+import com.redis.example.redistemplate.service.ExampleListBufferedProducer;
+import com.redis.example.redistemplate.service.ExampleListOperationsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link ExampleListBufferedProducer} 벤치마크
+ *
+ * <p>키 {@link #KEY_COUNT} 개에 값 {@link #BATCH_SIZE} 개를 나눠 넣을 때, 값마다 RPUSH 를 보내는 경우(rightPushEach), 키마다
+ * RPUSH 한 번으로 보내는 경우(rightPushAll), 버퍼에 넣고 모두 보내질 때까지 기다리는 경우(bufferedOffer)를 비교한다. 결과는 값 한 건
+ * 기준이다. 리스트가 계속 커지지 않도록 매 호출 후 LTRIM 으로 비운다.
+ */
+@State(Scope.Thread)
+public class ExampleListBufferedProducerBenchmark {
+  private static final int BATCH_SIZE = 1000;
+  private static final int KEY_COUNT = 10;
+  private static final String KEY_PREFIX = "bench:list:buffered:";
+
+  private RedisServerState redisServerState;
+  private ExampleListOperationsService service;
+  private ExampleListBufferedProducer producer;
+  private List<String> values;
+
+  @Setup(Level.Trial)
+  public void setUp(RedisServerState redisServerState) {
+    this.redisServerState = redisServerState;
+    service = redisServerState.getBean(ExampleListOperationsService.class);
+    producer = redisServerState.createBean(ExampleListBufferedProducer.class);
+    values = new ArrayList<>(BATCH_SIZE / KEY_COUNT);
+    for (int i = 0; i < BATCH_SIZE / KEY_COUNT; i++) {
+      values.add("event:" + i);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    redisServerState.destroyBean(producer);
+  }
+
+  @TearDown(Level.Invocation)
+  public void clearLists() {
+    for (int k = 0; k < KEY_COUNT; k++) {
+      service.trim(KEY_PREFIX + k, 1, 0);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void rightPushEach() {
+    for (int k = 0; k < KEY_COUNT; k++) {
+      for (String value : values) {
+        service.rightPush(KEY_PREFIX + k, value);
+      }
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void rightPushAll() {
+    for (int k = 0; k < KEY_COUNT; k++) {
+      service.rightPushAll(KEY_PREFIX + k, values);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public long bufferedOffer() {
+    long target = producer.getPushedCount() + BATCH_SIZE;
+    for (String value : values) {
+      for (int k = 0; k < KEY_COUNT; k++) {
+        producer.offer(KEY_PREFIX + k, value);
+      }
+    }
+    while (producer.getPushedCount() < target) {
+      LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(10));
+    }
+    return target;
+  }
+}
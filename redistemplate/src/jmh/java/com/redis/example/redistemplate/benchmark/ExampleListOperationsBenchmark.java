@@ -0,0 +1,171 @@
+package com.redis.example.redistemplate.benchmark;
+
+import com.redis.example.redistemplate.service.ExampleListOperationsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ExampleListOperationsService} 벤치마크
+ *
+ * <p>push/pop 계열은 리스트 길이가 변하지 않도록 짝을 맞춰 호출하므로, 측정값에는 두 명령어의 비용이 함께 포함된다.
+ */
+@State(Scope.Thread)
+public class ExampleListOperationsBenchmark {
+  private static final String KEY = "bench:list";
+  private static final String WORK_KEY = "bench:list:work";
+  private static final String DEST_KEY = "bench:list:dest";
+  private static final String EMPTY_KEY = "bench:list:empty";
+  private static final String PIVOT = "pivot";
+
+  @Param({"100"})
+  public int listSize;
+
+  private ExampleListOperationsService service;
+  private StringRedisTemplate stringRedisTemplate;
+
+  @Setup(Level.Trial)
+  public void setUp(RedisServerState redisServerState) {
+    service = redisServerState.getBean(ExampleListOperationsService.class);
+    stringRedisTemplate = redisServerState.getBean(StringRedisTemplate.class);
+    service.rightPush(KEY, PIVOT);
+    for (int i = 1; i < listSize; i++) {
+      service.rightPush(KEY, "value:" + i);
+    }
+  }
+
+  @Benchmark
+  public String rightPushAndRightPop() {
+    service.rightPush(WORK_KEY, "value");
+    return service.rightPop(WORK_KEY);
+  }
+
+  @Benchmark
+  public String rightPushIfPresentAndRightPop() {
+    service.rightPushIfPresent(KEY, "value");
+    return service.rightPop(KEY);
+  }
+
+  @Benchmark
+  public long rightInsertValueAndRemove() {
+    long size = service.rightInsertValue(KEY, PIVOT, "inserted");
+    removeInserted();
+    return size;
+  }
+
+  @Benchmark
+  public String leftPushAndLeftPop() {
+    service.leftPush(WORK_KEY, "value");
+    return service.leftPop(WORK_KEY);
+  }
+
+  @Benchmark
+  public String leftPushIfPresentAndLeftPop() {
+    service.leftPushIfPresent(KEY, "value");
+    return service.leftPop(KEY);
+  }
+
+  @Benchmark
+  public long leftInsertValueAndRemove() {
+    long size = service.leftInsertValue(KEY, PIVOT, "inserted");
+    removeInserted();
+    return size;
+  }
+
+  @Benchmark
+  public String blockingRightPop() {
+    service.rightPush(WORK_KEY, "value");
+    return service.blockingRightPop(WORK_KEY, 1, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public String blockingLeftPop() {
+    service.leftPush(WORK_KEY, "value");
+    return service.blockingLeftPop(WORK_KEY, 1, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public String rightPopAndLeftPush() {
+    service.rightPush(WORK_KEY, "value");
+    String moved = service.rightPopAndLeftPush(WORK_KEY, DEST_KEY);
+    service.rightPop(DEST_KEY);
+    return moved;
+  }
+
+  @Benchmark
+  public String blockingRightPopAndLeftPush() {
+    service.rightPush(WORK_KEY, "value");
+    String moved = service.blockingRightPopAndLeftPush(WORK_KEY, DEST_KEY, 1, TimeUnit.SECONDS);
+    service.rightPop(DEST_KEY);
+    return moved;
+  }
+
+  @Benchmark
+  public String index() {
+    return service.index(KEY, listSize / 2);
+  }
+
+  @Benchmark
+  public void setValue() {
+    service.setValue(KEY, listSize - 1, "value:" + (listSize - 1));
+  }
+
+  @Benchmark
+  public Long listSize() {
+    return service.listSize(KEY);
+  }
+
+  @Benchmark
+  public List<String> listRange() {
+    return service.listRange(KEY, 0, -1);
+  }
+
+  /** 전체 범위로 trim 하므로 리스트는 변하지 않는다. */
+  @Benchmark
+  public void trim() {
+    service.trim(KEY, 0, -1);
+  }
+
+  /**
+   * 빈 리스트를 기다리는 소비자 8개(블로킹 커넥션 풀 기본 크기)가 있는 동안의 LINDEX 지연시간
+   *
+   * <p>블로킹 pop 은 별도 풀을 쓰므로 소비자가 커넥션을 모두 붙잡고 있어도 index 는 기다리지 않아야 한다.
+   */
+  @Benchmark
+  @Group("blockedConsumers")
+  @GroupThreads(8)
+  public String blockedConsumer() {
+    return service.blockingRightPop(EMPTY_KEY, 1, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  @Group("blockedConsumers")
+  @GroupThreads(1)
+  public String indexWhileConsumersBlocked() {
+    return service.index(KEY, listSize / 2);
+  }
+
+  /** insert 벤치마크에서 삽입한 값을 제거 (서비스에 LREM 메소드가 없어 템플릿을 직접 사용) */
+  private void removeInserted() {
+    stringRedisTemplate.opsForList().remove(KEY, 1, "inserted");
+  }
+
+  /** rightPushAndRightPop 과 같은 작업을 커넥션 하나를 고정한 세션 안에서 실행 */
+  @Benchmark
+  public String rightPushAndRightPopInSession() {
+    return service.executeInSession(
+        listOperations -> {
+          listOperations.rightPush(WORK_KEY, "value");
+          return listOperations.rightPop(WORK_KEY);
+        });
+  }
+}
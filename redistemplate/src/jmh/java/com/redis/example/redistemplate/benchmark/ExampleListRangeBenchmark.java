@@ -0,0 +1,85 @@
+package com.redis.example.redistemplate.benchmark;
+
+import com.redis.example.redistemplate.service.ExampleListOperationsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 큰 List 전체를 읽는 방법별 벤치마크
+ *
+ * <p>LRANGE 0 -1 한 번과 window 단위 Stream(prefetch 유무)을 비교한다. window 마다 consumeTokens 만큼 CPU 를 쓰는 처리를
+ * 흉내내서, prefetch 가 처리 시간과 다음 응답 대기 시간을 겹치는지 확인한다. 메모리 차이는 -prof gc 로 확인한다.
+ */
+@State(Scope.Thread)
+public class ExampleListRangeBenchmark {
+  private static final String KEY = "bench:list:range";
+
+  @Param({"100000"})
+  public int listSize;
+
+  @Param({"1000"})
+  public int windowSize;
+
+  @Param({"0", "10000"})
+  public long consumeTokens;
+
+  private ExampleListOperationsService service;
+
+  @Setup(Level.Trial)
+  public void setUp(RedisServerState redisServerState) {
+    service = redisServerState.getBean(ExampleListOperationsService.class);
+    List<String> values = new ArrayList<>(windowSize);
+    for (int i = 0; i < listSize; i++) {
+      values.add("value:" + i);
+      if (values.size() == windowSize) {
+        service.rightPushAll(KEY, values);
+        values.clear();
+      }
+    }
+    service.rightPushAll(KEY, values);
+  }
+
+  @Benchmark
+  public void listRangeAll(Blackhole blackhole) {
+    List<String> values = service.listRange(KEY, 0, -1);
+    for (int i = 0; i < values.size(); i += windowSize) {
+      blackhole.consume(values.subList(i, Math.min(i + windowSize, values.size())));
+      Blackhole.consumeCPU(consumeTokens);
+    }
+  }
+
+  @Benchmark
+  public void streamRangeWindows(Blackhole blackhole) {
+    service
+        .streamRangeWindows(KEY, windowSize, false)
+        .forEach(
+            window -> {
+              blackhole.consume(window);
+              Blackhole.consumeCPU(consumeTokens);
+            });
+  }
+
+  @Benchmark
+  public void streamRangeWindowsPrefetch(Blackhole blackhole) {
+    service
+        .streamRangeWindows(KEY, windowSize, true)
+        .forEach(
+            window -> {
+              blackhole.consume(window);
+              Blackhole.consumeCPU(consumeTokens);
+            });
+  }
+
+  @Benchmark
+  public void streamRangePrefetch(Blackhole blackhole) {
+    service.streamRange(KEY, windowSize, true).forEach(blackhole::consume);
+  }
+}
@@ -0,0 +1,63 @@
+package com.redis.example.redistemplate.benchmark;
+
+import com.redis.example.redistemplate.service.ExampleRateLimiterService;
+import com.redis.example.redistemplate.service.ExampleSortedSetOperationsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link ExampleRateLimiterService} 벤치마크
+ *
+ * <p>local-share 는 0.5 로 설정되어 있다. tryAcquire 는 limit 이 커서 대부분 로컬 버킷에서 허용되고, tryAcquireRejected 는 limit
+ * 이 작아서 대부분 레디스에서 거절된다. incrementAndCount 는 항상 Lua 스크립트를 실행하고, incrementAndCountManual 은 같은 작업을
+ * ZADD, ZREMRANGEBYSCORE, ZCOUNT 세 번의 왕복으로 실행한다.
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+public class ExampleRateLimiterBenchmark {
+  private static final String KEY = "bench:rate-limit";
+  private static final String REJECTED_KEY = "bench:rate-limit:rejected";
+  private static final String COUNTER_KEY = "bench:rate-limit:counter";
+  private static final String MANUAL_KEY = "bench:rate-limit:manual";
+  private static final Duration WINDOW = Duration.ofSeconds(1);
+
+  private ExampleRateLimiterService rateLimiter;
+  private ExampleSortedSetOperationsService sortedSetService;
+
+  @Setup(Level.Trial)
+  public void setUp(RedisServerState redisServerState) {
+    rateLimiter = redisServerState.getBean(ExampleRateLimiterService.class);
+    sortedSetService = redisServerState.getBean(ExampleSortedSetOperationsService.class);
+  }
+
+  @Benchmark
+  public boolean tryAcquire() {
+    return rateLimiter.tryAcquire(KEY, 1_000_000, WINDOW);
+  }
+
+  @Benchmark
+  public boolean tryAcquireRejected() {
+    return rateLimiter.tryAcquire(REJECTED_KEY, 10, WINDOW);
+  }
+
+  @Benchmark
+  public long incrementAndCount() {
+    return rateLimiter.incrementAndCount(COUNTER_KEY, WINDOW);
+  }
+
+  @Benchmark
+  public long incrementAndCountManual() {
+    double now = System.currentTimeMillis();
+    sortedSetService.addValueToSet(
+        MANUAL_KEY, now + ":" + ThreadLocalRandom.current().nextLong(), now);
+    sortedSetService.removeRangeByScore(MANUAL_KEY, 0, now - WINDOW.toMillis());
+    return sortedSetService.count(MANUAL_KEY, now - WINDOW.toMillis(), Double.MAX_VALUE);
+  }
+}
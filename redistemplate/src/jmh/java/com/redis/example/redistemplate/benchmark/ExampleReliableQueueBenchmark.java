@@ -0,0 +1,61 @@
+package com.redis.example.redistemplate.benchmark;
+
+import com.redis.example.redistemplate.service.ExampleReliableQueueService;
+import com.redis.example.redistemplate.service.ReliableQueueConsumers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link ExampleReliableQueueService} 벤치마크
+ *
+ * <p>작업 {@link #BATCH_SIZE} 개를 넣고 소비자가 모두 처리(ack 포함)할 때까지 기다린다. 결과는 작업 한 건 기준이다.
+ */
+@State(Scope.Thread)
+public class ExampleReliableQueueBenchmark {
+  private static final int BATCH_SIZE = 1000;
+  private static final String QUEUE = "bench:queue";
+
+  @Param({"1", "8"})
+  public int workerCount;
+
+  private ExampleReliableQueueService service;
+  private ReliableQueueConsumers consumers;
+  private List<String> jobs;
+
+  @Setup(Level.Trial)
+  public void setUp(RedisServerState redisServerState) {
+    service = redisServerState.getBean(ExampleReliableQueueService.class);
+    consumers = service.startConsumers(QUEUE, workerCount, job -> {});
+    jobs = new ArrayList<>(BATCH_SIZE);
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      jobs.add("job:" + i);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    consumers.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public long enqueueAllAndProcess() {
+    long target = consumers.getProcessedCount() + BATCH_SIZE;
+    service.enqueueAll(QUEUE, jobs);
+    while (consumers.getProcessedCount() < target) {
+      LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(10));
+    }
+    return target;
+  }
+}
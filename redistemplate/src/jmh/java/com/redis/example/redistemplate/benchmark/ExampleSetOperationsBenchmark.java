@@ -0,0 +1,231 @@
+package com.redis.example.redistemplate.benchmark;
+
+import com.redis.example.redistemplate.service.ExampleSetOperationsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link ExampleSetOperationsService} 벤치마크
+ *
+ * <p>pop/move 계열은 Set의 크기가 변하지 않도록 꺼낸 요소를 다시 넣으므로, 측정값에는 SADD 비용이 함께 포함된다.
+ *
+ * <p>합집합, 교집합, 차집합 계열은 Set 크기의 합이 client-side-threshold 이하이므로 서버 명령어로 실행되고, 크기를 확인하는 SCARD
+ * 파이프라인 비용이 함께 포함된다. *OnClient 는 같은 연산을 항상 애플리케이션에서 계산한다.
+ */
+@State(Scope.Thread)
+public class ExampleSetOperationsBenchmark {
+  private static final String KEY = "bench:set:a";
+  private static final String OTHER_KEY = "bench:set:b";
+  private static final String DEST_KEY = "bench:set:dest";
+  private static final String SMALL_KEY = "bench:set:small";
+  private static final List<String> KEYS = List.of(KEY, OTHER_KEY);
+
+  @Param({"1000"})
+  public int setSize;
+
+  private ExampleSetOperationsService service;
+  private String[] values;
+
+  @Setup(Level.Trial)
+  public void setUp(RedisServerState redisServerState) {
+    service = redisServerState.getBean(ExampleSetOperationsService.class);
+    String[] members = new String[setSize];
+    String[] otherMembers = new String[setSize];
+    for (int i = 0; i < setSize; i++) {
+      members[i] = "member:" + i;
+      otherMembers[i] = "member:" + (i + setSize / 2);
+    }
+    service.addValuesToSet(KEY, members);
+    service.addValuesToSet(OTHER_KEY, otherMembers);
+    service.addValuesToSet(SMALL_KEY, "member:0", "member:" + (setSize - 1), "member:" + setSize);
+    values = new String[] {"member:0", "member:1", "member:2", "member:3"};
+  }
+
+  @Benchmark
+  public long addValueToSet() {
+    return service.addValueToSet(KEY, "member:0");
+  }
+
+  @Benchmark
+  public long addValuesToSet() {
+    return service.addValuesToSet(KEY, values);
+  }
+
+  @Benchmark
+  public long size() {
+    return service.size(KEY);
+  }
+
+  @Benchmark
+  public Set<String> members() {
+    return service.members(KEY);
+  }
+
+  @Benchmark
+  public boolean isMember() {
+    return service.isMember(KEY, "member:0");
+  }
+
+  @Benchmark
+  public boolean move() {
+    boolean moved = service.move(KEY, DEST_KEY, "member:0");
+    service.move(DEST_KEY, KEY, "member:0");
+    return moved;
+  }
+
+  @Benchmark
+  public String pop() {
+    String popped = service.pop(KEY);
+    service.addValueToSet(KEY, popped);
+    return popped;
+  }
+
+  @Benchmark
+  public List<String> popWithCount() {
+    List<String> popped = service.popWithCount(KEY, values.length);
+    service.addValuesToSet(KEY, popped.toArray(new String[0]));
+    return popped;
+  }
+
+  @Benchmark
+  public Set<String> differenceKeys() {
+    return service.difference(KEYS);
+  }
+
+  @Benchmark
+  public Set<String> difference() {
+    return service.difference(KEY, OTHER_KEY);
+  }
+
+  @Benchmark
+  public Set<String> differenceOtherKeys() {
+    return service.difference(KEY, List.of(OTHER_KEY));
+  }
+
+  @Benchmark
+  public Long differenceAndStoreKeys() {
+    return service.differenceAndStore(KEYS, DEST_KEY);
+  }
+
+  @Benchmark
+  public Long differenceAndStore() {
+    return service.differenceAndStore(KEY, OTHER_KEY, DEST_KEY);
+  }
+
+  @Benchmark
+  public Long differenceAndStoreOtherKeys() {
+    return service.differenceAndStore(KEY, List.of(OTHER_KEY), DEST_KEY);
+  }
+
+  @Benchmark
+  public Set<String> intersectKeys() {
+    return service.intersect(KEYS);
+  }
+
+  @Benchmark
+  public Set<String> intersect() {
+    return service.intersect(KEY, OTHER_KEY);
+  }
+
+  @Benchmark
+  public Set<String> intersectOtherKeys() {
+    return service.intersect(KEY, List.of(OTHER_KEY));
+  }
+
+  @Benchmark
+  public Long intersectAndStoreKeys() {
+    return service.intersectAndStore(KEYS, DEST_KEY);
+  }
+
+  @Benchmark
+  public Long intersectAndStore() {
+    return service.intersectAndStore(KEY, OTHER_KEY, DEST_KEY);
+  }
+
+  @Benchmark
+  public Long intersectAndStoreOtherKeys() {
+    return service.intersectAndStore(KEY, List.of(OTHER_KEY), DEST_KEY);
+  }
+
+  @Benchmark
+  public Set<String> unionKeys() {
+    return service.union(KEYS);
+  }
+
+  @Benchmark
+  public Set<String> union() {
+    return service.union(KEY, OTHER_KEY);
+  }
+
+  @Benchmark
+  public Set<String> unionOtherKeys() {
+    return service.union(KEY, List.of(OTHER_KEY));
+  }
+
+  @Benchmark
+  public Long unionAndStoreKeys() {
+    return service.unionAndStore(KEYS, DEST_KEY);
+  }
+
+  @Benchmark
+  public Long unionAndStore() {
+    return service.unionAndStore(KEY, OTHER_KEY, DEST_KEY);
+  }
+
+  @Benchmark
+  public Long unionAndStoreOtherKeys() {
+    return service.unionAndStore(KEY, List.of(OTHER_KEY), DEST_KEY);
+  }
+
+  @Benchmark
+  public Set<String> unionOnClient() {
+    return service.unionOnClient(KEYS);
+  }
+
+  @Benchmark
+  public Set<String> intersectOnClient() {
+    return service.intersectOnClient(KEYS);
+  }
+
+  @Benchmark
+  public Set<String> differenceOnClient() {
+    return service.differenceOnClient(KEYS);
+  }
+
+  /** 작은 Set(3개)의 후보를 큰 Set 마다 SISMEMBER 파이프라인으로 확인하므로 큰 Set 은 읽지 않는다. */
+  @Benchmark
+  public Set<String> intersectSmallOnClient() {
+    return service.intersectOnClient(List.of(KEY, OTHER_KEY, SMALL_KEY));
+  }
+
+  @Benchmark
+  public Set<String> intersectSmall() {
+    return service.intersect(List.of(KEY, OTHER_KEY, SMALL_KEY));
+  }
+
+  /** addValueToSet, isMember, size 를 커넥션 하나를 고정한 세션 안에서 실행 */
+  @Benchmark
+  public long addIsMemberSizeInSession() {
+    return service.executeInSession(
+        setOperations -> {
+          setOperations.add(KEY, "member:0");
+          setOperations.isMember(KEY, "member:0");
+          return setOperations.size(KEY);
+        });
+  }
+
+  /** addIsMemberSizeInSession 과 비교하기 위해 같은 작업을 메소드 호출마다 커넥션을 얻어서 실행 */
+  @Benchmark
+  public long addIsMemberSize() {
+    service.addValueToSet(KEY, "member:0");
+    service.isMember(KEY, "member:0");
+    return service.size(KEY);
+  }
+}
@@ -0,0 +1,82 @@
+package com.redis.example.redistemplate.benchmark;
+
+import com.redis.example.redistemplate.service.ExampleShardedSortedSetService;
+import com.redis.example.redistemplate.service.ExampleSortedSetOperationsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link ExampleShardedSortedSetService} 벤치마크
+ *
+ * <p>같은 멤버와 점수를 Sorted Set 하나(*Single)와 샤드(기본 8개)에 넣고 조회 비용을 비교한다. 레디스 하나에서는 샤드의 이점(여러
+ * 노드로 분산)이 드러나지 않으므로, fan-out 과 merge 로 늘어나는 지연시간을 확인하는 용도이다.
+ */
+@State(Scope.Thread)
+public class ExampleShardedSortedSetBenchmark {
+  private static final String KEY = "bench:zset:sharded";
+  private static final String SINGLE_KEY = "bench:zset:single";
+
+  @Param({"10000"})
+  public int memberCount;
+
+  private ExampleShardedSortedSetService service;
+  private ExampleSortedSetOperationsService sortedSetService;
+
+  @Setup(Level.Trial)
+  public void setUp(RedisServerState redisServerState) {
+    service = redisServerState.getBean(ExampleShardedSortedSetService.class);
+    sortedSetService = redisServerState.getBean(ExampleSortedSetOperationsService.class);
+    for (int i = 0; i < memberCount; i++) {
+      service.addValueToSet(KEY, "member:" + i, i);
+      sortedSetService.addValueToSet(SINGLE_KEY, "member:" + i, i);
+    }
+  }
+
+  @Benchmark
+  public double incrementScore() {
+    return service.incrementScore(KEY, randomMember(), 0);
+  }
+
+  @Benchmark
+  public List<String> range() {
+    return service.range(KEY, 0, 9);
+  }
+
+  @Benchmark
+  public Set<String> rangeSingle() {
+    return sortedSetService.range(SINGLE_KEY, 0, 9);
+  }
+
+  @Benchmark
+  public List<ZSetOperations.TypedTuple<String>> reverseRangeByScoreWithScores() {
+    return service.reverseRangeByScoreWithScores(KEY, 0, memberCount, 100, 10);
+  }
+
+  @Benchmark
+  public Set<ZSetOperations.TypedTuple<String>> reverseRangeByScoreWithScoresSingle() {
+    return sortedSetService.reverseRangeByScoreWithScores(SINGLE_KEY, 0, memberCount, 100, 10);
+  }
+
+  @Benchmark
+  public Long reverseRank() {
+    return service.reverseRank(KEY, randomMember());
+  }
+
+  @Benchmark
+  public Long reverseRankSingle() {
+    return sortedSetService.reverseRank(SINGLE_KEY, randomMember());
+  }
+
+  private String randomMember() {
+    return "member:" + ThreadLocalRandom.current().nextInt(memberCount);
+  }
+}
@@ -0,0 +1,250 @@
+package com.redis.example.redistemplate.benchmark;
+
+import com.redis.example.redistemplate.dto.SortedSetPage;
+import com.redis.example.redistemplate.service.ExampleSortedSetOperationsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link ExampleSortedSetOperationsService} 벤치마크
+ *
+ * <p>remove 계열은 Sorted Set의 크기가 변하지 않도록 삭제한 요소를 다시 넣으므로, 측정값에는 ZADD 비용이 함께 포함된다.
+ */
+@State(Scope.Thread)
+public class ExampleSortedSetOperationsBenchmark {
+  private static final String KEY = "bench:zset:a";
+  private static final String OTHER_KEY = "bench:zset:b";
+  private static final String DEST_KEY = "bench:zset:dest";
+  private static final String MEMBER = "member:0";
+
+  @Param({"1000"})
+  public int setSize;
+
+  private ExampleSortedSetOperationsService service;
+  private Set<ZSetOperations.TypedTuple<String>> tuples;
+  private RedisZSetCommands.Range lexRange;
+  private RedisZSetCommands.Limit limit;
+  private RedisZSetCommands.Weights weights;
+  private String deepCursor;
+  private String deepReverseCursor;
+
+  @Setup(Level.Trial)
+  public void setUp(RedisServerState redisServerState) {
+    service = redisServerState.getBean(ExampleSortedSetOperationsService.class);
+    Set<ZSetOperations.TypedTuple<String>> members = new HashSet<>();
+    Set<ZSetOperations.TypedTuple<String>> otherMembers = new HashSet<>();
+    for (int i = 0; i < setSize; i++) {
+      members.add(new DefaultTypedTuple<>("member:" + i, (double) i));
+      otherMembers.add(new DefaultTypedTuple<>("member:" + (i + setSize / 2), (double) i));
+    }
+    service.addValuesToSet(KEY, members);
+    service.addValuesToSet(OTHER_KEY, otherMembers);
+
+    tuples = new HashSet<>();
+    for (int i = 0; i < 4; i++) {
+      tuples.add(new DefaultTypedTuple<>("member:" + i, (double) i));
+    }
+    lexRange = RedisZSetCommands.Range.range().gte("member:0").lt("member:5");
+    limit = RedisZSetCommands.Limit.limit().offset(0).count(10);
+    weights = RedisZSetCommands.Weights.of(1, 2);
+    deepCursor = service.rangeByScorePage(KEY, 0, setSize, setSize - 10, null).getNextCursor();
+    deepReverseCursor =
+        service.reverseRangeByScorePage(KEY, 0, setSize, setSize - 10, null).getNextCursor();
+  }
+
+  @Benchmark
+  public boolean addValueToSet() {
+    return service.addValueToSet(KEY, MEMBER, 0D);
+  }
+
+  @Benchmark
+  public long addValuesToSet() {
+    return service.addValuesToSet(KEY, tuples);
+  }
+
+  /** score가 무한정 커지지 않도록 증가 후 원래 값으로 되돌린다. */
+  @Benchmark
+  public double incrementScore() {
+    double score = service.incrementScore(KEY, MEMBER, 1D);
+    service.incrementScore(KEY, MEMBER, -1D);
+    return score;
+  }
+
+  @Benchmark
+  public long size() {
+    return service.size(KEY);
+  }
+
+  @Benchmark
+  public long count() {
+    return service.count(KEY, 0, setSize / 2D);
+  }
+
+  @Benchmark
+  public Set<String> range() {
+    return service.range(KEY, 0, 9);
+  }
+
+  @Benchmark
+  public Set<String> rangeByScore() {
+    return service.rangeByScore(KEY, 0, 9);
+  }
+
+  @Benchmark
+  public Set<String> rangeByScoreWithLimit() {
+    return service.rangeByScore(KEY, 0, setSize, 100, 10);
+  }
+
+  @Benchmark
+  public Set<String> rangeByLex() {
+    return service.rangeByLex(KEY, lexRange);
+  }
+
+  @Benchmark
+  public Set<String> rangeByLexWithLimit() {
+    return service.rangeByLex(KEY, lexRange, limit);
+  }
+
+  @Benchmark
+  public Set<ZSetOperations.TypedTuple<String>> rangeByScoreWithScores() {
+    return service.rangeByScoreWithScores(KEY, 0, 9);
+  }
+
+  @Benchmark
+  public Set<ZSetOperations.TypedTuple<String>> rangeByScoreWithScoresWithLimit() {
+    return service.rangeByScoreWithScores(KEY, 0, setSize, 100, 10);
+  }
+
+  @Benchmark
+  public Set<String> reverseRange() {
+    return service.reverseRange(KEY, 0, 9);
+  }
+
+  @Benchmark
+  public Set<String> reverseRangeByScore() {
+    return service.reverseRangeByScore(KEY, 0, 9);
+  }
+
+  @Benchmark
+  public Set<String> reverseRangeByScoreWithLimit() {
+    return service.reverseRangeByScore(KEY, 0, setSize, 100, 10);
+  }
+
+  @Benchmark
+  public Set<ZSetOperations.TypedTuple<String>> reverseRangeByScoreWithScores() {
+    return service.reverseRangeByScoreWithScores(KEY, 0, 9);
+  }
+
+  @Benchmark
+  public Set<ZSetOperations.TypedTuple<String>> reverseRangeByScoreWithScoresWithLimit() {
+    return service.reverseRangeByScoreWithScores(KEY, 0, setSize, 100, 10);
+  }
+
+  /** 마지막 페이지를 LIMIT offset 으로 조회 (offset 만큼 건너뛰는 비용 포함) */
+  @Benchmark
+  public Set<ZSetOperations.TypedTuple<String>> rangeByScoreWithScoresDeepOffset() {
+    return service.rangeByScoreWithScores(KEY, 0, setSize, setSize - 10, 10);
+  }
+
+  /** rangeByScoreWithScoresDeepOffset 과 같은 페이지를 cursor 로 조회 */
+  @Benchmark
+  public SortedSetPage rangeByScorePageDeep() {
+    return service.rangeByScorePage(KEY, 0, setSize, 10, deepCursor);
+  }
+
+  @Benchmark
+  public Set<ZSetOperations.TypedTuple<String>> reverseRangeByScoreWithScoresDeepOffset() {
+    return service.reverseRangeByScoreWithScores(KEY, 0, setSize, setSize - 10, 10);
+  }
+
+  @Benchmark
+  public SortedSetPage reverseRangeByScorePageDeep() {
+    return service.reverseRangeByScorePage(KEY, 0, setSize, 10, deepReverseCursor);
+  }
+
+  @Benchmark
+  public Long rank() {
+    return service.rank(KEY, "member:" + setSize / 2);
+  }
+
+  @Benchmark
+  public Long reverseRank() {
+    return service.reverseRank(KEY, "member:" + setSize / 2);
+  }
+
+  @Benchmark
+  public Long remove() {
+    Long removed = service.remove(KEY, MEMBER);
+    service.addValueToSet(KEY, MEMBER, 0D);
+    return removed;
+  }
+
+  @Benchmark
+  public Long removeRange() {
+    Long removed = service.removeRange(KEY, 0, 3);
+    service.addValuesToSet(KEY, tuples);
+    return removed;
+  }
+
+  @Benchmark
+  public Long removeRangeByScore() {
+    Long removed = service.removeRangeByScore(KEY, 0, 3);
+    service.addValuesToSet(KEY, tuples);
+    return removed;
+  }
+
+  @Benchmark
+  public Long intersectAndStore() {
+    return service.intersectAndStore(KEY, OTHER_KEY, DEST_KEY);
+  }
+
+  @Benchmark
+  public Long intersectAndStoreOtherKeys() {
+    return service.intersectAndStore(KEY, List.of(OTHER_KEY), DEST_KEY);
+  }
+
+  @Benchmark
+  public Long intersectAndStoreWithAggregate() {
+    return service.intersectAndStore(
+        KEY, List.of(OTHER_KEY), DEST_KEY, RedisZSetCommands.Aggregate.MAX);
+  }
+
+  @Benchmark
+  public Long intersectAndStoreWithWeights() {
+    return service.intersectAndStore(
+        KEY, List.of(OTHER_KEY), DEST_KEY, RedisZSetCommands.Aggregate.MAX, weights);
+  }
+
+  @Benchmark
+  public Long unionAndStore() {
+    return service.unionAndStore(KEY, OTHER_KEY, DEST_KEY);
+  }
+
+  @Benchmark
+  public Long unionAndStoreOtherKeys() {
+    return service.unionAndStore(KEY, List.of(OTHER_KEY), DEST_KEY);
+  }
+
+  @Benchmark
+  public Long unionAndStoreWithAggregate() {
+    return service.unionAndStore(
+        KEY, List.of(OTHER_KEY), DEST_KEY, RedisZSetCommands.Aggregate.MAX);
+  }
+
+  @Benchmark
+  public Long unionAndStoreWithWeights() {
+    return service.unionAndStore(
+        KEY, List.of(OTHER_KEY), DEST_KEY, RedisZSetCommands.Aggregate.MAX, weights);
+  }
+}
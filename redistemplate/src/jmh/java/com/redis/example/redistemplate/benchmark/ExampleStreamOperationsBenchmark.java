@@ -0,0 +1,79 @@
+package com.redis.example.redistemplate.benchmark;
+
+import com.redis.example.redistemplate.service.ExampleStreamOperationsService;
+import com.redis.example.redistemplate.service.StreamGroupConsumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.stream.RecordId;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link ExampleStreamOperationsService} 벤치마크
+ *
+ * <p>XADD 단건과 파이프라인 XADD 를 비교하고, 소비자 그룹이 메시지 {@link #BATCH_SIZE} 개를 모두 처리(ack 포함)하는 데 걸리는 시간을
+ * 측정한다. 결과는 메시지 한 건 기준이다.
+ */
+@State(Scope.Thread)
+public class ExampleStreamOperationsBenchmark {
+  private static final int BATCH_SIZE = 1000;
+  private static final String KEY = "bench:stream";
+  private static final String CONSUMED_KEY = "bench:stream:consumed";
+  private static final Map<String, String> FIELDS = Map.of("type", "click", "userId", "12345");
+
+  private ExampleStreamOperationsService service;
+  private StreamGroupConsumer consumer;
+  private List<Map<String, String>> messages;
+
+  @Setup(Level.Trial)
+  public void setUp(RedisServerState redisServerState) {
+    service = redisServerState.getBean(ExampleStreamOperationsService.class);
+    consumer = service.startConsumer(CONSUMED_KEY, "bench-group", "bench-consumer", record -> {});
+    messages = new ArrayList<>(BATCH_SIZE);
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      messages.add(FIELDS);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    consumer.close();
+  }
+
+  @TearDown(Level.Iteration)
+  public void trim() {
+    service.trimApproximately(KEY, 0);
+    service.trimApproximately(CONSUMED_KEY, 0);
+  }
+
+  @Benchmark
+  public RecordId add() {
+    return service.add(KEY, FIELDS);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public List<RecordId> addAll() {
+    return service.addAll(KEY, messages);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public long addAllAndConsume() {
+    long target = consumer.getAckedCount() + BATCH_SIZE;
+    service.addAll(CONSUMED_KEY, messages);
+    while (consumer.getAckedCount() < target) {
+      LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(10));
+    }
+    return target;
+  }
+}
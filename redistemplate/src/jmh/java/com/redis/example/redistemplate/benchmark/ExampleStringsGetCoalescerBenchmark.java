@@ -0,0 +1,58 @@
+package com.redis.example.redistemplate.benchmark;
+
+import com.redis.example.redistemplate.service.ExampleStringsGetCoalescer;
+import com.redis.example.redistemplate.service.ExampleStringsOperationsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link ExampleStringsGetCoalescer} 벤치마크
+ *
+ * <p>여러 스레드에서 동시에 단건 조회를 할 때, 매번 GET 을 보내는 경우(directGet)와 MGET 으로 모아서 보내는 경우(coalescedGet)를
+ * 비교한다.
+ */
+@State(Scope.Benchmark)
+@Threads(32)
+public class ExampleStringsGetCoalescerBenchmark {
+  private static final int KEY_COUNT = 1024;
+
+  private RedisServerState redisServerState;
+  private ExampleStringsOperationsService service;
+  private ExampleStringsGetCoalescer coalescer;
+
+  @Setup(Level.Trial)
+  public void setUp(RedisServerState redisServerState) {
+    this.redisServerState = redisServerState;
+    service = redisServerState.getBean(ExampleStringsOperationsService.class);
+    coalescer = redisServerState.createBean(ExampleStringsGetCoalescer.class);
+    for (int i = 0; i < KEY_COUNT; i++) {
+      service.set("bench:coalesce:" + i, "value:" + i);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    redisServerState.destroyBean(coalescer);
+  }
+
+  @Benchmark
+  public String directGet() {
+    return service.get(randomKey());
+  }
+
+  @Benchmark
+  public String coalescedGet() {
+    return coalescer.get(randomKey());
+  }
+
+  private static String randomKey() {
+    return "bench:coalesce:" + ThreadLocalRandom.current().nextInt(KEY_COUNT);
+  }
+}
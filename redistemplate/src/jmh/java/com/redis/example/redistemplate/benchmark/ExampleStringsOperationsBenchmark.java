@@ -0,0 +1,110 @@
+package com.redis.example.redistemplate.benchmark;
+
+import com.redis.example.redistemplate.dto.StringsCommand;
+import com.redis.example.redistemplate.dto.StringsCommandResult;
+import com.redis.example.redistemplate.service.ExampleStringsOperationsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** {@link ExampleStringsOperationsService} 벤치마크 */
+@State(Scope.Thread)
+public class ExampleStringsOperationsBenchmark {
+  private static final String KEY = "bench:strings";
+
+  @Param({"16", "1024"})
+  public int valueSize;
+
+  @Param({"16"})
+  public int batchSize;
+
+  private ExampleStringsOperationsService service;
+  private String value;
+  private List<String> keys;
+  private Map<String, String> keyValues;
+  private List<StringsCommand> commands;
+
+  @Setup(Level.Trial)
+  public void setUp(RedisServerState redisServerState) {
+    service = redisServerState.getBean(ExampleStringsOperationsService.class);
+    value = "v".repeat(valueSize);
+    keys = new ArrayList<>(batchSize);
+    keyValues = new HashMap<>();
+    for (int i = 0; i < batchSize; i++) {
+      keys.add(KEY + ":" + i);
+      keyValues.put(KEY + ":" + i, value);
+    }
+    service.set(KEY, value);
+    service.multiSet(keyValues);
+
+    commands = new ArrayList<>(batchSize);
+    for (int i = 0; i < batchSize; i++) {
+      commands.add(
+          i % 2 == 0
+              ? StringsCommand.set(keys.get(i), value, Duration.ofMinutes(10))
+              : StringsCommand.get(keys.get(i)));
+    }
+  }
+
+  @Benchmark
+  public void set() {
+    service.set(KEY, value);
+  }
+
+  @Benchmark
+  public void multiSet() {
+    service.multiSet(keyValues);
+  }
+
+  @Benchmark
+  public String get() {
+    return service.get(KEY);
+  }
+
+  @Benchmark
+  public List<String> multiGet() {
+    return service.multiGet(keys);
+  }
+
+  @Benchmark
+  public String getAndSet() {
+    return service.getAndSet(KEY, value);
+  }
+
+  /** 값이 무한정 늘어나지 않도록 append 후 원래 값으로 되돌린다. (set 1회 비용 포함) */
+  @Benchmark
+  public Integer append() {
+    Integer length = service.append(KEY, value);
+    service.set(KEY, value);
+    return length;
+  }
+
+  /** 삭제할 키가 항상 존재하도록 set 후 삭제한다. (set 1회 비용 포함) */
+  @Benchmark
+  public boolean delete() {
+    service.set(KEY, value);
+    return service.delete(KEY);
+  }
+
+  /** 삭제할 키가 항상 존재하도록 multiSet 후 삭제한다. (multiSet 1회 비용 포함) */
+  @Benchmark
+  public long deleteMulti() {
+    service.multiSet(keyValues);
+    return service.delete(keys);
+  }
+
+  /** SET(TTL)/GET 을 번갈아 batchSize 개 파이프라인으로 실행한다. set/get 을 batchSize 번 호출하는 것과 비교 */
+  @Benchmark
+  public List<StringsCommandResult> executeBatch() {
+    return service.executeBatch(commands, batchSize);
+  }
+}
@@ -0,0 +1,87 @@
+package com.redis.example.redistemplate.benchmark;
+
+import com.redis.example.redistemplate.dto.ValueDto;
+import com.redis.example.redistemplate.serializer.ValueDtoHashMapper;
+import com.redis.example.redistemplate.service.ExampleValueDtoHashOperationsService;
+import com.redis.example.redistemplate.service.ExampleValueDtoStringsOperationsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * {@link ExampleValueDtoHashOperationsService} 벤치마크
+ *
+ * <p>프로퍼티 하나를 바꿀 때 Strings 로 저장한 DTO 를 읽고 다시 쓰는 경우(readModifyWriteString)와 Hash field 하나만 쓰는
+ * 경우(setField)를 비교한다.
+ */
+@State(Scope.Thread)
+public class ExampleValueDtoHashOperationsBenchmark {
+  private static final String KEY = "bench:dto:hash";
+  private static final String STRING_KEY = "bench:dto:hash:string";
+  private static final List<String> SECOND_FIELD_ONLY =
+      List.of(ValueDtoHashMapper.SECOND_EXAMPLE_VALUE);
+
+  @Param({"16", "1024", "8192"})
+  public int valueSize;
+
+  private ExampleValueDtoHashOperationsService service;
+  private ExampleValueDtoStringsOperationsService stringsService;
+  private ValueDto valueDto;
+  private String secondValue;
+
+  @Setup(Level.Trial)
+  public void setUp(RedisServerState redisServerState) {
+    service = redisServerState.getBean(ExampleValueDtoHashOperationsService.class);
+    stringsService = redisServerState.getBean(ExampleValueDtoStringsOperationsService.class);
+    valueDto =
+        ValueDto.builder()
+            .firstExampleValue("f".repeat(valueSize))
+            .secondExampleValue("s".repeat(valueSize))
+            .build();
+    secondValue = "t".repeat(valueSize);
+    service.setValueDtoHash(KEY, valueDto);
+    stringsService.setValueDtoString(STRING_KEY, valueDto);
+  }
+
+  @Benchmark
+  public void setValueDtoHash() {
+    service.setValueDtoHash(KEY, valueDto);
+  }
+
+  @Benchmark
+  public ValueDto getValueDtoHash() {
+    return service.getValueDtoHash(KEY);
+  }
+
+  @Benchmark
+  public String getField() {
+    return service.getField(KEY, ValueDtoHashMapper.SECOND_EXAMPLE_VALUE);
+  }
+
+  @Benchmark
+  public ValueDto getFields() {
+    return service.getFields(KEY, SECOND_FIELD_ONLY);
+  }
+
+  @Benchmark
+  public void setField() {
+    service.setField(KEY, ValueDtoHashMapper.SECOND_EXAMPLE_VALUE, secondValue);
+  }
+
+  /** Strings 로 저장한 DTO 의 프로퍼티 하나를 바꾸는 기존 방식 (GET + SET) */
+  @Benchmark
+  public void readModifyWriteString() {
+    ValueDto current = stringsService.getValueDtoString(STRING_KEY);
+    stringsService.setValueDtoString(
+        STRING_KEY,
+        ValueDto.builder()
+            .firstExampleValue(current.getFirstExampleValue())
+            .secondExampleValue(secondValue)
+            .build());
+  }
+}
@@ -0,0 +1,118 @@
+package com.redis.example.redistemplate.benchmark;
+
+import com.redis.example.redistemplate.dto.ValueDto;
+import com.redis.example.redistemplate.service.ExampleValueDtoStringsOperationsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** {@link ExampleValueDtoStringsOperationsService} 벤치마크 */
+@State(Scope.Thread)
+public class ExampleValueDtoStringsOperationsBenchmark {
+  private static final String KEY = "bench:dto";
+  private static final Duration TTL = Duration.ofMinutes(10);
+
+  @Param({"16", "1024"})
+  public int valueSize;
+
+  @Param({"16", "512"})
+  public int batchSize;
+
+  private ExampleValueDtoStringsOperationsService service;
+  private RedisTemplate<String, ValueDto> simpleValueDtoRedisTemplate;
+  private ValueDto valueDto;
+  private List<String> keys;
+  private Map<String, ValueDto> valueDtos;
+
+  @Setup(Level.Trial)
+  public void setUp(RedisServerState redisServerState) {
+    service = redisServerState.getBean(ExampleValueDtoStringsOperationsService.class);
+    simpleValueDtoRedisTemplate = redisServerState.getBean("simpleValueDtoRedisTemplate");
+    valueDto =
+        ValueDto.builder()
+            .firstExampleValue("f".repeat(valueSize))
+            .secondExampleValue("s".repeat(valueSize))
+            .build();
+    keys = new ArrayList<>(batchSize);
+    valueDtos = new HashMap<>();
+    for (int i = 0; i < batchSize; i++) {
+      keys.add(KEY + ":" + i);
+      valueDtos.put(KEY + ":bulk:" + i, valueDto);
+    }
+    service.setValueDtos(valueDtos, null);
+    service.setValueDtoString(KEY, valueDto);
+    simpleValueDtoRedisTemplate.opsForValue().set(KEY + ":simple", valueDto);
+  }
+
+  @Benchmark
+  public void setValueDtoString() {
+    service.setValueDtoString(KEY, valueDto);
+  }
+
+  @Benchmark
+  public ValueDto getValueDtoString() {
+    return service.getValueDtoString(KEY);
+  }
+
+  /** 삭제할 키가 항상 존재하도록 저장 후 삭제한다. (SET 1회 비용 포함) */
+  @Benchmark
+  public boolean deleteValueDtoString() {
+    service.setValueDtoString(KEY, valueDto);
+    return service.deleteValueDtoString(KEY);
+  }
+
+  /** 삭제할 키가 항상 존재하도록 저장 후 삭제한다. (SET batchSize회 비용 포함) */
+  @Benchmark
+  public long deleteValueDtoStrings() {
+    for (String key : keys) {
+      service.setValueDtoString(key, valueDto);
+    }
+    return service.deleteValueDtoStrings(keys);
+  }
+
+  /** Jackson 대신 구분자 문자열 직렬화를 사용하는 simpleValueDtoRedisTemplate 과 비교 */
+  @Benchmark
+  public void simpleTemplateSet() {
+    simpleValueDtoRedisTemplate.opsForValue().set(KEY + ":simple", valueDto);
+  }
+
+  @Benchmark
+  public ValueDto simpleTemplateGet() {
+    return simpleValueDtoRedisTemplate.opsForValue().get(KEY + ":simple");
+  }
+
+  @Benchmark
+  public void setValueDtos() {
+    service.setValueDtos(valueDtos, null);
+  }
+
+  @Benchmark
+  public void setValueDtosWithTtl() {
+    service.setValueDtos(valueDtos, TTL);
+  }
+
+  @Benchmark
+  public Map<String, ValueDto> getValueDtos() {
+    return service.getValueDtos(valueDtos.keySet());
+  }
+
+  /** getValueDtos 와 비교하기 위해 한 건씩 GET 으로 조회 */
+  @Benchmark
+  public Map<String, ValueDto> getValueDtoStringEach() {
+    Map<String, ValueDto> result = new HashMap<>();
+    for (String key : valueDtos.keySet()) {
+      result.put(key, service.getValueDtoString(key));
+    }
+    return result;
+  }
+}
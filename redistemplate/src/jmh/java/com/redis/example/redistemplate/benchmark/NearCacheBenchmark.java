@@ -0,0 +1,41 @@
+package com.redis.example.redistemplate.benchmark;
+
+import com.redis.example.redistemplate.cache.NearCache;
+import com.redis.example.redistemplate.service.ExampleStringsOperationsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+
+/**
+ * {@link NearCache} 벤치마크
+ *
+ * <p>같은 키를 반복 조회할 때, 레디스에서 직접 조회하는 경우(redisGet)와 로컬 캐시를 거치는 경우(nearCachedGet)를 비교한다.
+ */
+@State(Scope.Benchmark)
+public class NearCacheBenchmark {
+  private static final String KEY = "bench:near-cache";
+
+  private ExampleStringsOperationsService service;
+  private NearCache<String> nearCache;
+
+  @Setup(Level.Trial)
+  public void setUp(RedisServerState redisServerState) {
+    service = redisServerState.getBean(ExampleStringsOperationsService.class);
+    nearCache = new NearCache<>(10_000_000L, Duration.ofMinutes(1), String::length, null, null);
+    service.set(KEY, "value");
+  }
+
+  @Benchmark
+  public String redisGet() {
+    return service.get(KEY);
+  }
+
+  @Benchmark
+  public String nearCachedGet() {
+    return nearCache.get(KEY, service::get);
+  }
+}
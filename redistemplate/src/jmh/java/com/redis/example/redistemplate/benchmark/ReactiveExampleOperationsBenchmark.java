@@ -0,0 +1,88 @@
+package com.redis.example.redistemplate.benchmark;
+
+import com.redis.example.redistemplate.dto.ValueDto;
+import com.redis.example.redistemplate.service.ExampleStringsOperationsService;
+import com.redis.example.redistemplate.service.ReactiveExampleSortedSetOperationsService;
+import com.redis.example.redistemplate.service.ReactiveExampleStringsOperationsService;
+import com.redis.example.redistemplate.service.ReactiveExampleValueDtoStringsOperationsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * Reactive*OperationsService 벤치마크
+ *
+ * <p>스레드 하나에서 {@link #CONCURRENCY} 개의 요청을 동시에 보내는 경우(reactive)와 한 건씩 응답을 기다리는 경우(blocking)를
+ * 비교한다. 결과는 요청 한 건 기준이다.
+ */
+@State(Scope.Thread)
+public class ReactiveExampleOperationsBenchmark {
+  private static final int CONCURRENCY = 256;
+  private static final String KEY = "bench:reactive";
+  private static final String DTO_KEY = "bench:reactive:dto";
+  private static final String ZSET_KEY = "bench:reactive:zset";
+
+  private ExampleStringsOperationsService blockingService;
+  private ReactiveExampleStringsOperationsService service;
+  private ReactiveExampleValueDtoStringsOperationsService valueDtoService;
+  private ReactiveExampleSortedSetOperationsService sortedSetService;
+
+  @Setup(Level.Trial)
+  public void setUp(RedisServerState redisServerState) {
+    blockingService = redisServerState.getBean(ExampleStringsOperationsService.class);
+    service = redisServerState.getBean(ReactiveExampleStringsOperationsService.class);
+    valueDtoService = redisServerState.getBean(ReactiveExampleValueDtoStringsOperationsService.class);
+    sortedSetService = redisServerState.getBean(ReactiveExampleSortedSetOperationsService.class);
+
+    service.set(KEY, "value").block();
+    valueDtoService
+        .setValueDtoString(
+            DTO_KEY,
+            ValueDto.builder().firstExampleValue("first").secondExampleValue("second").build())
+        .block();
+    Flux.range(0, 100)
+        .flatMap(i -> sortedSetService.addValueToSet(ZSET_KEY, "member:" + i, i))
+        .blockLast();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(CONCURRENCY)
+  public void blockingGet() {
+    for (int i = 0; i < CONCURRENCY; i++) {
+      blockingService.get(KEY);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(CONCURRENCY)
+  public List<String> reactiveGet() {
+    return Flux.range(0, CONCURRENCY)
+        .flatMap(i -> service.get(KEY), CONCURRENCY)
+        .collectList()
+        .block();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(CONCURRENCY)
+  public List<ValueDto> reactiveGetValueDtoString() {
+    return Flux.range(0, CONCURRENCY)
+        .flatMap(i -> valueDtoService.getValueDtoString(DTO_KEY), CONCURRENCY)
+        .collectList()
+        .block();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(CONCURRENCY)
+  public List<Long> reactiveRank() {
+    return Flux.range(0, CONCURRENCY)
+        .flatMap(i -> sortedSetService.rank(ZSET_KEY, "member:" + (i % 100)), CONCURRENCY)
+        .collectList()
+        .block();
+  }
+}
@@ -0,0 +1,187 @@
+package com.redis.example.redistemplate.benchmark;
+
+import com.redis.example.redistemplate.config.BlockingRedisConfig;
+import com.redis.example.redistemplate.config.RedisConfig;
+import com.redis.example.redistemplate.service.ExampleBloomFilterService;
+import com.redis.example.redistemplate.service.ExampleDelayedJobService;
+import com.redis.example.redistemplate.service.ExampleHashOperationsService;
+import com.redis.example.redistemplate.service.ExampleListOperationsService;
+import com.redis.example.redistemplate.service.ExampleRateLimiterService;
+import com.redis.example.redistemplate.service.ExampleReliableQueueService;
+import com.redis.example.redistemplate.service.ExampleSetOperationsService;
+import com.redis.example.redistemplate.service.ExampleShardedSortedSetService;
+import com.redis.example.redistemplate.service.ExampleSortedSetOperationsService;
+import com.redis.example.redistemplate.service.ExampleStreamOperationsService;
+import com.redis.example.redistemplate.service.ExampleStringsOperationsService;
+import com.redis.example.redistemplate.service.ExampleValueDtoHashOperationsService;
+import com.redis.example.redistemplate.service.ExampleValueDtoStringsOperationsService;
+import com.redis.example.redistemplate.service.ReactiveExampleHashOperationsService;
+import com.redis.example.redistemplate.service.ReactiveExampleListOperationsService;
+import com.redis.example.redistemplate.service.ReactiveExampleSetOperationsService;
+import com.redis.example.redistemplate.service.ReactiveExampleSortedSetOperationsService;
+import com.redis.example.redistemplate.service.ReactiveExampleStringsOperationsService;
+import com.redis.example.redistemplate.service.ReactiveExampleValueDtoStringsOperationsService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 벤치마크 전체에서 공유하는 레디스 서버와 스프링 컨텍스트
+ *
+ * <p>redis.host 시스템 프로퍼티가 비어있으면 redis.server.path 의 redis-server를 redis.port 로 직접 띄우고, 벤치마크가
+ * 끝나면 종료한다. JPA, Web 설정 없이 RedisConfig 와 Example*OperationsService 만 올려서 측정 대상 외의 비용을 배제한다.
+ * 커넥션 팩토리는 RedisConfig 의 것(공유 커넥션 + 전용 커넥션 풀)을 그대로 쓰고, 접속 주소만 spring.redis.host/port 로 넘긴다.
+ */
+@State(Scope.Benchmark)
+public class RedisServerState {
+  private Process redisServerProcess;
+  private AnnotationConfigApplicationContext context;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    String externalHost = System.getProperty("redis.host", "");
+    String host = externalHost.isEmpty() ? "localhost" : externalHost;
+    int port = Integer.parseInt(System.getProperty("redis.port", "16379"));
+
+    if (externalHost.isEmpty()) {
+      redisServerProcess =
+          new ProcessBuilder(
+                  System.getProperty("redis.server.path", "redis-server"),
+                  "--port",
+                  String.valueOf(port),
+                  "--save",
+                  "",
+                  "--appendonly",
+                  "no")
+              .redirectErrorStream(true)
+              .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+              .start();
+      waitForPort(host, port);
+    }
+
+    context = new AnnotationConfigApplicationContext();
+    context.getBeanFactory().setConversionService(ApplicationConversionService.getSharedInstance());
+    context
+        .getEnvironment()
+        .getPropertySources()
+        .addFirst(
+            new MapPropertySource(
+                "benchmark",
+                Map.of(
+                    "spring.redis.host",
+                    host,
+                    "spring.redis.port",
+                    port,
+                    "example.redis.bloom.expected-insertions",
+                    1_000_000,
+                    "example.redis.rate-limit.local-share",
+                    0.5)));
+    context.register(
+        BenchmarkRedisConfig.class,
+        RedisConfig.class,
+        BlockingRedisConfig.class,
+        ExampleStringsOperationsService.class,
+        ExampleHashOperationsService.class,
+        ExampleListOperationsService.class,
+        ExampleSetOperationsService.class,
+        ExampleSortedSetOperationsService.class,
+        ExampleValueDtoStringsOperationsService.class,
+        ExampleValueDtoHashOperationsService.class,
+        ExampleReliableQueueService.class,
+        ExampleStreamOperationsService.class,
+        ExampleBloomFilterService.class,
+        ExampleShardedSortedSetService.class,
+        ExampleRateLimiterService.class,
+        ExampleDelayedJobService.class,
+        ReactiveExampleStringsOperationsService.class,
+        ReactiveExampleHashOperationsService.class,
+        ReactiveExampleListOperationsService.class,
+        ReactiveExampleSetOperationsService.class,
+        ReactiveExampleSortedSetOperationsService.class,
+        ReactiveExampleValueDtoStringsOperationsService.class);
+    context.refresh();
+
+    getBean(StringRedisTemplate.class)
+        .execute(
+            (RedisCallback<Void>)
+                connection -> {
+                  connection.flushDb();
+                  return null;
+                });
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws InterruptedException {
+    if (context != null) {
+      context.close();
+    }
+    if (redisServerProcess != null) {
+      redisServerProcess.destroy();
+      redisServerProcess.waitFor(5, TimeUnit.SECONDS);
+    }
+  }
+
+  public <T> T getBean(Class<T> type) {
+    return context.getBean(type);
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T> T getBean(String name) {
+    return (T) context.getBean(name);
+  }
+
+  /** 설정값에 따라 등록되지 않는 선택형 빈(@ConditionalOnProperty)을 벤치마크용으로 직접 생성 */
+  public <T> T createBean(Class<T> type) {
+    return context.getAutowireCapableBeanFactory().createBean(type);
+  }
+
+  public void destroyBean(Object bean) {
+    context.getAutowireCapableBeanFactory().destroyBean(bean);
+  }
+
+  private static void waitForPort(String host, int port) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (System.nanoTime() < deadline) {
+      try {
+        // 연결되는지만 확인하므로 바로 닫는다.
+        new Socket(host, port).close();
+        return;
+      } catch (IOException e) {
+        Thread.sleep(50);
+      }
+    }
+    throw new IllegalStateException("redis-server가 " + host + ":" + port + " 에서 응답하지 않습니다.");
+  }
+
+  /** RedisAutoConfiguration, RedisReactiveAutoConfiguration 대신 필요한 템플릿 빈만 등록 */
+  @Configuration
+  static class BenchmarkRedisConfig {
+    @Bean
+    public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+      return new StringRedisTemplate(redisConnectionFactory);
+    }
+
+    @Bean
+    public ReactiveStringRedisTemplate reactiveStringRedisTemplate(
+        ReactiveRedisConnectionFactory reactiveRedisConnectionFactory) {
+      return new ReactiveStringRedisTemplate(reactiveRedisConnectionFactory);
+    }
+  }
+}
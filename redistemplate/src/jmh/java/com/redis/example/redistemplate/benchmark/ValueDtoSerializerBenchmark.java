@@ -0,0 +1,105 @@
+package com.redis.example.redistemplate.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.redis.example.redistemplate.config.RedisConfig;
+import com.redis.example.redistemplate.dto.ValueDto;
+import com.redis.example.redistemplate.serializer.CompressingRedisSerializer;
+import com.redis.example.redistemplate.serializer.CompressionAlgorithm;
+import com.redis.example.redistemplate.serializer.ValueDtoBinaryRedisSerializer;
+import com.redis.example.redistemplate.serializer.ValueDtoDelimitedRedisSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+/** ValueDto 직렬화 객체 벤치마크 (레디스 없이 직렬화 비용만 측정) */
+@State(Scope.Thread)
+public class ValueDtoSerializerBenchmark {
+  @Param({"16", "1024", "8192"})
+  public int valueSize;
+
+  @Param({"LZ4", "DEFLATE"})
+  public CompressionAlgorithm compressionAlgorithm;
+
+  private Jackson2JsonRedisSerializer<ValueDto> jsonSerializer;
+  private ValueDtoBinaryRedisSerializer binarySerializer;
+  private CompressingRedisSerializer<ValueDto> compressingSerializer;
+  private ValueDtoDelimitedRedisSerializer delimitedSerializer;
+  private ValueDto valueDto;
+  private byte[] json;
+  private byte[] binary;
+  private byte[] compressed;
+  private byte[] delimited;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    ObjectMapper objectMapper = new RedisConfig().objectMapper();
+    jsonSerializer = new Jackson2JsonRedisSerializer<>(ValueDto.class);
+    jsonSerializer.setObjectMapper(objectMapper);
+    binarySerializer = new ValueDtoBinaryRedisSerializer(jsonSerializer);
+    compressingSerializer =
+        new CompressingRedisSerializer<>(
+            binarySerializer, compressionAlgorithm, 1024, 64 * 1024 * 1024);
+
+    valueDto =
+        ValueDto.builder()
+            .firstExampleValue("f".repeat(valueSize))
+            .secondExampleValue("s".repeat(valueSize))
+            .build();
+    json = jsonSerializer.serialize(valueDto);
+    binary = binarySerializer.serialize(valueDto);
+    compressed = compressingSerializer.serialize(valueDto);
+    delimitedSerializer = new ValueDtoDelimitedRedisSerializer();
+    delimited = delimitedSerializer.serialize(valueDto);
+  }
+
+  @Benchmark
+  public byte[] jsonSerialize() {
+    return jsonSerializer.serialize(valueDto);
+  }
+
+  @Benchmark
+  public ValueDto jsonDeserialize() {
+    return jsonSerializer.deserialize(json);
+  }
+
+  @Benchmark
+  public byte[] binarySerialize() {
+    return binarySerializer.serialize(valueDto);
+  }
+
+  @Benchmark
+  public ValueDto binaryDeserialize() {
+    return binarySerializer.deserialize(binary);
+  }
+
+  /** 바이너리 직렬화 객체로 기존 JSON 데이터를 읽는 경우 */
+  @Benchmark
+  public ValueDto binaryDeserializeLegacyJson() {
+    return binarySerializer.deserialize(json);
+  }
+
+  /** 바이너리 직렬화 후 1024 바이트 이상이면 압축 */
+  @Benchmark
+  public byte[] compressingSerialize() {
+    return compressingSerializer.serialize(valueDto);
+  }
+
+  @Benchmark
+  public ValueDto compressingDeserialize() {
+    return compressingSerializer.deserialize(compressed);
+  }
+
+  @Benchmark
+  public byte[] delimitedSerialize() {
+    return delimitedSerializer.serialize(valueDto);
+  }
+
+  @Benchmark
+  public ValueDto delimitedDeserialize() {
+    return delimitedSerializer.deserialize(delimited);
+  }
+}
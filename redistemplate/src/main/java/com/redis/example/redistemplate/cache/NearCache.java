@@ -0,0 +1,167 @@
+package com.redis.example.redistemplate.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * 레디스 조회 결과를 애플리케이션 메모리에 잠깐 보관하는 로컬(L1) 캐시
+ *
+ * <p>최대 가중치(weight)를 넘으면 오래 사용하지 않은 항목부터 제거되며, 항목마다 TTL이 지나면 만료된다. 우리 애플리케이션에서 일어나는 쓰기는
+ * {@link #invalidate(String)} 로 바로 무효화되고, invalidation-channel 이 지정되어 있으면 같은 채널을 구독하는 다른 노드의 캐시도
+ * 레디스 pub/sub 메시지로 무효화된다. 그 외의 경로(다른 애플리케이션, redis-cli 등)로 바뀐 값은 TTL이 지나야 반영된다.
+ *
+ * <p>값을 조회하는 도중에 무효화가 일어나면, 무효화는 조회가 끝날때까지 기다렸다가 조회 결과를 지우므로 오래된 값이 캐시에 남지 않는다.
+ *
+ * @param <V> 캐시할 값의 타입
+ */
+public class NearCache<V> implements MessageListener {
+  private final Cache<String, Entry<V>> cache;
+  private final Duration defaultTimeToLive;
+  @Nullable private final StringRedisTemplate invalidationPublisher;
+  @Nullable private final String invalidationChannel;
+
+  /**
+   * @param maximumWeight 캐시가 보관할 수 있는 최대 가중치
+   * @param defaultTimeToLive TTL을 따로 지정하지 않은 항목의 TTL
+   * @param weigher 항목 하나의 가중치를 구하는 함수 (예: 문자열 길이)
+   * @param invalidationPublisher 무효화 메시지를 발행할 템플릿 (다른 노드에 알리지 않을 경우 null)
+   * @param invalidationChannel 무효화 메시지를 주고받을 채널 (다른 노드에 알리지 않을 경우 null)
+   */
+  public NearCache(
+      final long maximumWeight,
+      final Duration defaultTimeToLive,
+      final ToIntFunction<V> weigher,
+      @Nullable final StringRedisTemplate invalidationPublisher,
+      @Nullable final String invalidationChannel) {
+    this.defaultTimeToLive = defaultTimeToLive;
+    this.invalidationPublisher = invalidationPublisher;
+    this.invalidationChannel = invalidationChannel;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maximumWeight)
+            .<String, Entry<V>>weigher(
+                (key, entry) -> key.length() + weigher.applyAsInt(entry.value))
+            .expireAfter(new EntryExpiry<V>())
+            .recordStats()
+            .build();
+  }
+
+  /**
+   * 캐시에 값이 있으면 캐시된 값을, 없으면 loader로 조회한 값을 기본 TTL로 캐시한 후 반환하는 메소드
+   *
+   * <p>loader가 null을 반환하면 캐시하지 않는다.
+   *
+   * @param key 레디스 키
+   * @param loader 캐시에 값이 없을 때 레디스에서 값을 조회하는 함수
+   * @return 캐시된 값 혹은 조회한 값
+   */
+  @Nullable
+  public V get(final String key, final Function<String, V> loader) {
+    return get(key, loader, defaultTimeToLive);
+  }
+
+  /**
+   * 캐시에 값이 있으면 캐시된 값을, 없으면 loader로 조회한 값을 지정한 TTL로 캐시한 후 반환하는 메소드
+   *
+   * @param key 레디스 키
+   * @param loader 캐시에 값이 없을 때 레디스에서 값을 조회하는 함수
+   * @param timeToLive 새로 캐시할 값의 TTL
+   * @return 캐시된 값 혹은 조회한 값
+   */
+  @Nullable
+  public V get(final String key, final Function<String, V> loader, final Duration timeToLive) {
+    Entry<V> entry =
+        cache.get(
+            key,
+            k -> {
+              V value = loader.apply(k);
+              return value == null ? null : new Entry<>(value, timeToLive.toNanos());
+            });
+    return entry == null ? null : entry.value;
+  }
+
+  /**
+   * 키 하나를 무효화하는 메소드. 레디스에 쓰기를 한 직후에 호출해야 한다.
+   *
+   * @param key 레디스 키
+   */
+  public void invalidate(final String key) {
+    cache.invalidate(key);
+    if (invalidationPublisher != null) {
+      invalidationPublisher.convertAndSend(invalidationChannel, key);
+    }
+  }
+
+  /**
+   * 여러 키를 무효화하는 메소드. 레디스에 쓰기를 한 직후에 호출해야 한다.
+   *
+   * @param keys 레디스 키 콜렉션
+   */
+  public void invalidateAll(final Collection<String> keys) {
+    for (String key : keys) {
+      invalidate(key);
+    }
+  }
+
+  /**
+   * 캐시 통계 (hit, miss, eviction 횟수 등)
+   *
+   * @return 캐시 생성 이후 누적 통계
+   */
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  /** @return 현재 캐시된 항목 수 (근사값) */
+  public long estimatedSize() {
+    return cache.estimatedSize();
+  }
+
+  /** 다른 노드가 발행한 무효화 메시지를 받아서 로컬 캐시만 무효화 (다시 발행하지 않는다.) */
+  @Override
+  public void onMessage(final Message message, @Nullable final byte[] pattern) {
+    cache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+  }
+
+  private static class Entry<V> {
+    private final V value;
+    private final long timeToLiveNanos;
+
+    private Entry(final V value, final long timeToLiveNanos) {
+      this.value = value;
+      this.timeToLiveNanos = timeToLiveNanos;
+    }
+  }
+
+  /** 항목마다 저장된 TTL을 그대로 사용하는 만료 정책 (조회해도 만료시간이 늘어나지 않는다.) */
+  private static class EntryExpiry<V> implements Expiry<String, Entry<V>> {
+    @Override
+    public long expireAfterCreate(final String key, final Entry<V> entry, final long currentTime) {
+      return entry.timeToLiveNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        final String key, final Entry<V> entry, final long currentTime, final long currentDuration) {
+      return entry.timeToLiveNanos;
+    }
+
+    @Override
+    public long expireAfterRead(
+        final String key, final Entry<V> entry, final long currentTime, final long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package com.redis.example.redistemplate.config;
+
+import io.lettuce.core.resource.ClientResources;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+
+/**
+ * 블로킹 List 명령어(BLPOP, BRPOP, BRPOPLPUSH) 전용 커넥션 설정
+ *
+ * <p>블로킹 명령어는 값이 들어오거나 제한시간이 끝날 때까지 커넥션을 붙잡고 있다. 빈 리스트를 기다리는 소비자가 몰리면 redisConnectionFactory
+ * 의 풀이 바닥나서 트랜잭션처럼 빨리 끝나야 하는 작업까지 커넥션을 기다리게 되므로, 블로킹 명령어는 크기가 제한된 별도의 풀에서만 커넥션을 빌린다.
+ *
+ * <ul>
+ *   <li>풀이 가득 차면 기다리는 순서대로(fairness) 커넥션을 받고, example.redis.blocking.pool.max-wait 안에 받지 못하면 예외가
+ *       발생한다.
+ *   <li>공유 커넥션을 쓰지 않으므로 이 팩토리로 보내는 모든 명령어가 풀의 커넥션을 사용한다.
+ *   <li>명령어 제한시간은 블로킹 제한시간의 상한(example.redis.blocking.max-timeout)에 example.redis.connection.command-timeout 을
+ *       더한 값이라서, 상한까지 기다린 명령어가 Lettuce 쪽에서 먼저 타임아웃 나지 않는다.
+ * </ul>
+ */
+@Configuration
+public class BlockingRedisConfig {
+  private static final String POOL_JMX_NAME_PREFIX = "redis-lettuce-blocking-pool";
+
+  /** 블로킹 List 명령어 전용 LettuceConnectionFactory (접속 정보와 Lettuce 스레드 풀은 redisConnectionFactory 와 공유) */
+  @Bean
+  public LettuceConnectionFactory blockingRedisConnectionFactory(
+      @Qualifier("redisConnectionFactory") LettuceConnectionFactory redisConnectionFactory,
+      ClientResources lettuceClientResources,
+      @Value("${example.redis.blocking.max-timeout:PT30S}") Duration maxTimeout,
+      @Value("${example.redis.connection.command-timeout:PT2S}") Duration commandTimeout,
+      @Value("${example.redis.connection.shutdown-timeout:PT0.1S}") Duration shutdownTimeout,
+      @Value("${example.redis.blocking.pool.max-total:8}") int poolMaxTotal,
+      @Value("${example.redis.blocking.pool.max-wait:PT0.5S}") Duration poolMaxWait) {
+
+    GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+    poolConfig.setMaxTotal(poolMaxTotal);
+    poolConfig.setMaxIdle(poolMaxTotal);
+    poolConfig.setMinIdle(0);
+    poolConfig.setMaxWaitMillis(poolMaxWait.toMillis());
+    poolConfig.setFairness(true);
+    poolConfig.setJmxEnabled(true);
+    poolConfig.setJmxNamePrefix(POOL_JMX_NAME_PREFIX);
+
+    LettucePoolingClientConfiguration clientConfiguration =
+        LettucePoolingClientConfiguration.builder()
+            .clientResources(lettuceClientResources)
+            .commandTimeout(maxTimeout.plus(commandTimeout))
+            .shutdownTimeout(shutdownTimeout)
+            .poolConfig(poolConfig)
+            .build();
+
+    LettuceConnectionFactory connectionFactory =
+        new LettuceConnectionFactory(
+            redisConnectionFactory.getStandaloneConfiguration(), clientConfiguration);
+    connectionFactory.setShareNativeConnection(false);
+    return connectionFactory;
+  }
+
+  /**
+   * blockingRedisConnectionFactory 를 사용하는 문자열 RedisTemplate
+   *
+   * <p>StringRedisTemplate 인스턴스를 반환하면 RedisAutoConfiguration 의 stringRedisTemplate 과 함께 StringRedisTemplate
+   * 타입 빈이 두 개가 되어 타입으로 주입받는 곳이 실패하므로, 직렬화 설정만 같은 RedisTemplate 을 만든다.
+   */
+  @Bean("blockingStringRedisTemplate")
+  public RedisTemplate<String, String> blockingStringRedisTemplate(
+      @Qualifier("blockingRedisConnectionFactory")
+          LettuceConnectionFactory blockingRedisConnectionFactory) {
+    RedisTemplate<String, String> template = new RedisTemplate<>();
+    template.setConnectionFactory(blockingRedisConnectionFactory);
+    template.setKeySerializer(RedisSerializer.string());
+    template.setValueSerializer(RedisSerializer.string());
+    template.setHashKeySerializer(RedisSerializer.string());
+    template.setHashValueSerializer(RedisSerializer.string());
+    template.afterPropertiesSet();
+    return template;
+  }
+
+  /** blockingRedisConnectionFactory 의 커넥션 풀 상태 */
+  @Bean
+  public RedisConnectionPoolMetrics blockingRedisConnectionPoolMetrics() {
+    return new RedisConnectionPoolMetrics(POOL_JMX_NAME_PREFIX);
+  }
+}
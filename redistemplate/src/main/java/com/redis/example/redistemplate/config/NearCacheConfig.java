@@ -0,0 +1,86 @@
+package com.redis.example.redistemplate.config;
+
+import com.redis.example.redistemplate.cache.NearCache;
+import com.redis.example.redistemplate.dto.ValueDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+
+/**
+ * 레디스 조회 결과를 애플리케이션 메모리에 보관하는 로컬(L1) 캐시 설정
+ *
+ * <p>example.redis.near-cache.enabled=true 일 때만 등록된다. 가중치는 문자열 길이(글자 수) 기준이다.
+ *
+ * <p>현재 사용하는 Lettuce 5.x 는 RESP3 클라이언트 사이드 캐싱(CLIENT TRACKING)을 지원하지 않기 때문에, 다른 노드의 쓰기는
+ * broadcast-invalidation 을 켰을 때 pub/sub 무효화 메시지로, 그 외의 쓰기는 TTL 만료로 반영된다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "example.redis.near-cache", name = "enabled", havingValue = "true")
+public class NearCacheConfig {
+  private static final String STRINGS_INVALIDATION_CHANNEL = "near-cache:invalidate:strings";
+  private static final String VALUE_DTO_INVALIDATION_CHANNEL = "near-cache:invalidate:value-dto";
+
+  @Value("${example.redis.near-cache.maximum-weight:10000000}")
+  private long maximumWeight;
+
+  @Value("${example.redis.near-cache.time-to-live:PT10S}")
+  private Duration timeToLive;
+
+  @Value("${example.redis.near-cache.broadcast-invalidation:false}")
+  private boolean broadcastInvalidation;
+
+  /** {@link com.redis.example.redistemplate.service.ExampleStringsOperationsService} 용 로컬 캐시 */
+  @Bean
+  public NearCache<String> stringsNearCache(StringRedisTemplate stringRedisTemplate) {
+    return new NearCache<>(
+        maximumWeight,
+        timeToLive,
+        String::length,
+        broadcastInvalidation ? stringRedisTemplate : null,
+        STRINGS_INVALIDATION_CHANNEL);
+  }
+
+  /** {@link com.redis.example.redistemplate.service.ExampleValueDtoStringsOperationsService} 용 로컬 캐시 */
+  @Bean
+  public NearCache<ValueDto> valueDtoNearCache(StringRedisTemplate stringRedisTemplate) {
+    return new NearCache<>(
+        maximumWeight,
+        timeToLive,
+        NearCacheConfig::weigh,
+        broadcastInvalidation ? stringRedisTemplate : null,
+        VALUE_DTO_INVALIDATION_CHANNEL);
+  }
+
+  /** 다른 노드가 발행한 무효화 메시지를 구독하는 리스너 컨테이너 */
+  @Bean
+  @ConditionalOnProperty(
+      prefix = "example.redis.near-cache",
+      name = "broadcast-invalidation",
+      havingValue = "true")
+  public RedisMessageListenerContainer nearCacheInvalidationListenerContainer(
+      RedisConnectionFactory redisConnectionFactory,
+      NearCache<String> stringsNearCache,
+      NearCache<ValueDto> valueDtoNearCache) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory);
+    container.addMessageListener(stringsNearCache, new ChannelTopic(STRINGS_INVALIDATION_CHANNEL));
+    container.addMessageListener(
+        valueDtoNearCache, new ChannelTopic(VALUE_DTO_INVALIDATION_CHANNEL));
+    return container;
+  }
+
+  private static int weigh(final ValueDto valueDto) {
+    return length(valueDto.getFirstExampleValue()) + length(valueDto.getSecondExampleValue());
+  }
+
+  private static int length(final String value) {
+    return value == null ? 0 : value.length();
+  }
+}
@@ -5,35 +5,148 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.redis.example.redistemplate.dto.ValueDto;
+import com.redis.example.redistemplate.serializer.CompressingRedisSerializer;
+import com.redis.example.redistemplate.serializer.CompressionAlgorithm;
+import com.redis.example.redistemplate.serializer.ValueDtoBinaryRedisSerializer;
+import com.redis.example.redistemplate.serializer.ValueDtoDelimitedRedisSerializer;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Duration;
+
 /**
  * 아래 객체는 기본적으로 RedisAutoConfiguration에서 생성함
- * - redisConnectionFactory
+ * - redisConnectionFactory (여기서 커넥션 풀을 설정해서 직접 생성함)
  * - redisTemplate<String,Object>
  * - stringRedisTemplate
+ * - reactiveRedisTemplate<Object,Object> (RedisReactiveAutoConfiguration)
+ * - reactiveStringRedisTemplate (RedisReactiveAutoConfiguration)
  * @See org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration
  */
 @Configuration
 public class RedisConfig {
+  private static final String POOL_JMX_NAME_PREFIX = "redis-lettuce-pool";
+
+  @Value("${example.redis.compression.enabled:false}")
+  private boolean compressionEnabled;
+
+  @Value("${example.redis.compression.algorithm:LZ4}")
+  private CompressionAlgorithm compressionAlgorithm;
+
+  @Value("${example.redis.compression.threshold-bytes:1024}")
+  private int compressionThresholdBytes;
+
+  @Value("${example.redis.compression.max-decompressed-bytes:67108864}")
+  private int compressionMaxDecompressedBytes;
+
+  /**
+   * Lettuce 의 I/O, 계산(이벤트 처리) 스레드 풀
+   *
+   * <p>example.redis.connection.io-thread-pool-size, computation-thread-pool-size 가 0 이면 Lettuce 기본값(CPU 코어
+   * 수, 최소 3)을 사용한다.
+   */
+  @Bean(destroyMethod = "shutdown")
+  @ConditionalOnMissingBean(ClientResources.class)
+  public ClientResources lettuceClientResources(
+      @Value("${example.redis.connection.io-thread-pool-size:0}") int ioThreadPoolSize,
+      @Value("${example.redis.connection.computation-thread-pool-size:0}")
+          int computationThreadPoolSize) {
+    DefaultClientResources.Builder builder = DefaultClientResources.builder();
+    if (ioThreadPoolSize > 0) {
+      builder.ioThreadPoolSize(ioThreadPoolSize);
+    }
+    if (computationThreadPoolSize > 0) {
+      builder.computationThreadPoolSize(computationThreadPoolSize);
+    }
+    return builder.build();
+  }
+
+  /**
+   * 공유 커넥션과 전용 커넥션 풀을 함께 쓰는 LettuceConnectionFactory
+   *
+   * <p>일반 명령어는 스레드 세이프한 공유 커넥션 하나로 다중화(multiplexing)해서 보낸다. BLPOP 같은 블로킹 명령어나 MULTI/EXEC
+   * 트랜잭션은 공유 커넥션을 막으면 안 되므로 전용 커넥션을 쓰는데, 풀이 없으면 호출할 때마다 커넥션을 새로 맺고 끊는다. 여기서는 전용 커넥션을
+   * commons-pool2 풀에서 빌려 쓰도록 해서, 블로킹 명령어가 다른 호출자를 막지 않으면서 연결 비용도 들지 않게 한다.
+   *
+   * <p>풀 크기(example.redis.connection.pool.max-total)는 동시에 실행될 수 있는 블로킹 명령어와 트랜잭션의 수 이상이어야 하며,
+   * 모자라면 max-wait 만큼 기다린 후 예외가 발생한다. 풀 상태는 {@link RedisConnectionPoolMetrics} 로 조회할 수 있다. 제한시간이
+   * 긴 블로킹 List 명령어는 이 풀이 아닌 {@link BlockingRedisConfig} 의 별도 풀을 사용한다.
+   */
+  @Bean
+  @Primary
+  @ConditionalOnMissingBean(name = "redisConnectionFactory")
+  public LettuceConnectionFactory redisConnectionFactory(
+      ClientResources lettuceClientResources,
+      @Value("${spring.redis.host:localhost}") String host,
+      @Value("${spring.redis.port:6379}") int port,
+      @Value("${spring.redis.database:0}") int database,
+      @Value("${spring.redis.password:}") String password,
+      @Value("${example.redis.connection.command-timeout:PT2S}") Duration commandTimeout,
+      @Value("${example.redis.connection.shutdown-timeout:PT0.1S}") Duration shutdownTimeout,
+      @Value("${example.redis.connection.pool.max-total:16}") int poolMaxTotal,
+      @Value("${example.redis.connection.pool.max-idle:8}") int poolMaxIdle,
+      @Value("${example.redis.connection.pool.min-idle:0}") int poolMinIdle,
+      @Value("${example.redis.connection.pool.max-wait:PT1S}") Duration poolMaxWait) {
+
+    RedisStandaloneConfiguration standaloneConfiguration = new RedisStandaloneConfiguration(host, port);
+    standaloneConfiguration.setDatabase(database);
+    standaloneConfiguration.setPassword(RedisPassword.of(password));
+
+    GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+    poolConfig.setMaxTotal(poolMaxTotal);
+    poolConfig.setMaxIdle(poolMaxIdle);
+    poolConfig.setMinIdle(poolMinIdle);
+    poolConfig.setMaxWaitMillis(poolMaxWait.toMillis());
+    poolConfig.setJmxEnabled(true);
+    poolConfig.setJmxNamePrefix(POOL_JMX_NAME_PREFIX);
+
+    LettucePoolingClientConfiguration clientConfiguration =
+        LettucePoolingClientConfiguration.builder()
+            .clientResources(lettuceClientResources)
+            .commandTimeout(commandTimeout)
+            .shutdownTimeout(shutdownTimeout)
+            .poolConfig(poolConfig)
+            .build();
+
+    LettuceConnectionFactory connectionFactory =
+        new LettuceConnectionFactory(standaloneConfiguration, clientConfiguration);
+    connectionFactory.setShareNativeConnection(true);
+    return connectionFactory;
+  }
+
+  /** redisConnectionFactory 의 전용 커넥션 풀 상태 (사용 중, 유휴, 대기 스레드 수, 대여 대기 시간) */
+  @Bean
+  public RedisConnectionPoolMetrics redisConnectionPoolMetrics() {
+    return new RedisConnectionPoolMetrics(POOL_JMX_NAME_PREFIX);
+  }
 
   /**
    * 우리가 만든 DTO를 직접 직렬화하는 redisTemplate를 만들수도 있다.
    *
+   * <p>ObjectMapper 없이 직접 작성한 {@link ValueDtoDelimitedRedisSerializer} 로 "first|second" 형태의 문자열을 저장한다.
    */
   @Bean("simpleValueDtoRedisTemplate")
   public RedisTemplate<String, ValueDto> simpleValueDtoRedisTemplate(
       RedisConnectionFactory redisConnectionFactory) {
-    RedisTemplate<String, ValueDto> redisTemplate = new RedisTemplate<>();
-    redisTemplate.setKeySerializer(new StringRedisSerializer());
-    redisTemplate.setValueSerializer(new StringRedisSerializer());
-    redisTemplate.setConnectionFactory(redisConnectionFactory);
-    return redisTemplate;
+    return valueDtoRedisTemplate(redisConnectionFactory, new ValueDtoDelimitedRedisSerializer());
   }
 
   /**
@@ -52,24 +165,123 @@ public class RedisConfig {
   /**
    * 우리가 만든 DTO를, 우리가 설정한 objectMapper로 직접 직렬화하는 redisTemplate
    *
+   * <p>example.redis.value-dto.serializer 를 binary 로 설정하면 {@link ValueDtoBinaryRedisSerializer} 로 직렬화한다.
+   * 이 경우에도 기존에 JSON으로 저장된 데이터는 그대로 읽을 수 있다.
    */
   @Bean("customizedValueDtoRedisTemplate")
   public RedisTemplate<String, ValueDto> customizedValueDtoRedisTemplate
+  (RedisConnectionFactory redisConnectionFactory, ObjectMapper objectMapper,
+      @Value("${example.redis.value-dto.serializer:json}") String serializerType) {
+
+    return valueDtoRedisTemplate(
+        redisConnectionFactory, customizedValueDtoRedisSerializer(objectMapper, serializerType));
+  }
+
+  /**
+   * customizedValueDtoRedisTemplate 와 같은 직렬화 객체를 사용하는 reactiveRedisTemplate
+   *
+   * <p>같은 키를 블로킹 서비스와 리액티브 서비스에서 함께 읽고 써도 된다.
+   */
+  @Bean("reactiveValueDtoRedisTemplate")
+  public ReactiveRedisTemplate<String, ValueDto> reactiveValueDtoRedisTemplate
+  (ReactiveRedisConnectionFactory reactiveRedisConnectionFactory, ObjectMapper objectMapper,
+      @Value("${example.redis.value-dto.serializer:json}") String serializerType) {
+
+    RedisSerializer<ValueDto> valueSerializer =
+        compressIfEnabled(customizedValueDtoRedisSerializer(objectMapper, serializerType));
+    RedisSerializationContext<String, ValueDto> serializationContext =
+        RedisSerializationContext.<String, ValueDto>newSerializationContext(new StringRedisSerializer())
+            .value(valueSerializer)
+            .hashKey(new StringRedisSerializer())
+            .hashValue(valueSerializer)
+            .build();
+
+    return new ReactiveRedisTemplate<>(reactiveRedisConnectionFactory, serializationContext);
+  }
+
+  /**
+   * 우리가 만든 DTO를 바이너리 형식으로 직렬화하는 redisTemplate
+   *
+   * <p>JSON 보다 CPU, 메모리 할당, 저장 용량이 적게 든다. 기존에 JSON으로 저장된 데이터도 읽을 수 있다.
+   */
+  @Bean("binaryValueDtoRedisTemplate")
+  public RedisTemplate<String, ValueDto> binaryValueDtoRedisTemplate
   (RedisConnectionFactory redisConnectionFactory, ObjectMapper objectMapper) {
 
-    Jackson2JsonRedisSerializer jackson2JsonRedisSerializer =
+    return valueDtoRedisTemplate(redisConnectionFactory,
+        new ValueDtoBinaryRedisSerializer(jackson2JsonValueDtoRedisSerializer(objectMapper)));
+  }
+
+  /**
+   * 크기가 큰 문자열 값을 압축해서 저장하는 redisTemplate
+   *
+   * <p>example.redis.compression.enabled 와 관계없이 항상 압축을 사용한다. 압축된 값은 APPEND, GETRANGE, STRLEN 등 값의
+   * 내용을 다루는 명령어와 함께 쓸 수 없으므로, 통째로 저장하고 조회하는 값에만 사용해야 한다.
+   */
+  @Bean("compressedStringRedisTemplate")
+  public RedisTemplate<String, String> compressedStringRedisTemplate(
+      RedisConnectionFactory redisConnectionFactory) {
+    RedisSerializer<String> valueSerializer = new CompressingRedisSerializer<>(
+        new StringRedisSerializer(),
+        compressionAlgorithm,
+        compressionThresholdBytes,
+        compressionMaxDecompressedBytes);
+
+    final RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+    redisTemplate.setConnectionFactory(redisConnectionFactory);
+    redisTemplate.setKeySerializer(new StringRedisSerializer());
+    redisTemplate.setValueSerializer(valueSerializer);
+    redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+    redisTemplate.setHashValueSerializer(valueSerializer);
+
+    redisTemplate.afterPropertiesSet();
+    return redisTemplate;
+  }
+
+  private RedisSerializer<ValueDto> customizedValueDtoRedisSerializer(
+      ObjectMapper objectMapper, String serializerType) {
+    RedisSerializer<ValueDto> valueSerializer = jackson2JsonValueDtoRedisSerializer(objectMapper);
+    if ("binary".equals(serializerType)) {
+      valueSerializer = new ValueDtoBinaryRedisSerializer(valueSerializer);
+    }
+    return valueSerializer;
+  }
+
+  private RedisSerializer<ValueDto> jackson2JsonValueDtoRedisSerializer(ObjectMapper objectMapper) {
+    Jackson2JsonRedisSerializer<ValueDto> jackson2JsonRedisSerializer =
         new Jackson2JsonRedisSerializer<>(ValueDto.class);
     jackson2JsonRedisSerializer.setObjectMapper(objectMapper);
+    return jackson2JsonRedisSerializer;
+  }
+
+  /**
+   * example.redis.compression.enabled 가 true 이면 임계값 이상의 값을 압축하는 직렬화 객체로 감싼다.
+   * 압축 통계는 redisTemplate.getValueSerializer() 를 {@link CompressingRedisSerializer} 로 캐스팅해서 조회할 수 있다.
+   */
+  private RedisTemplate<String, ValueDto> valueDtoRedisTemplate(
+      RedisConnectionFactory redisConnectionFactory, RedisSerializer<ValueDto> serializer) {
+
+    RedisSerializer<ValueDto> valueSerializer = compressIfEnabled(serializer);
 
     final RedisTemplate<String, ValueDto> redisTemplate = new RedisTemplate<>();
     redisTemplate.setConnectionFactory(redisConnectionFactory);
     redisTemplate.setHashKeySerializer(new StringRedisSerializer());
-    redisTemplate.setHashValueSerializer(jackson2JsonRedisSerializer);
+    redisTemplate.setHashValueSerializer(valueSerializer);
 
     redisTemplate.setKeySerializer(new StringRedisSerializer());
-    redisTemplate.setValueSerializer(jackson2JsonRedisSerializer);
+    redisTemplate.setValueSerializer(valueSerializer);
 
     redisTemplate.afterPropertiesSet();
     return redisTemplate;
   }
+
+  private RedisSerializer<ValueDto> compressIfEnabled(RedisSerializer<ValueDto> serializer) {
+    return compressionEnabled
+        ? new CompressingRedisSerializer<>(
+            serializer,
+            compressionAlgorithm,
+            compressionThresholdBytes,
+            compressionMaxDecompressedBytes)
+        : serializer;
+  }
 }
@@ -0,0 +1,89 @@
+package com.redis.example.redistemplate.config;
+
+import org.apache.commons.pool2.impl.GenericObjectPoolMXBean;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Lettuce 전용 커넥션 풀(commons-pool2)의 상태 조회
+ *
+ * <p>LettuceConnectionFactory 는 커넥션 타입별로 풀을 따로 만들고 밖으로 노출하지 않으므로, commons-pool2 가 등록하는 JMX MBean
+ * 중 이름이 jmxNamePrefix 로 시작하는 풀을 모두 찾아서 합산한다. 풀은 전용 커넥션을 처음 요청할 때 만들어지므로, 그 전에는 모든 값이 0
+ * 이다.
+ */
+public class RedisConnectionPoolMetrics {
+  private static final String JMX_NAME_BASE = "org.apache.commons.pool2:type=GenericObjectPool,name=";
+
+  private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+  private final ObjectName poolNamePattern;
+
+  /** @param jmxNamePrefix 풀 설정(GenericObjectPoolConfig#setJmxNamePrefix)에 지정한 이름 */
+  public RedisConnectionPoolMetrics(final String jmxNamePrefix) {
+    try {
+      this.poolNamePattern = new ObjectName(JMX_NAME_BASE + jmxNamePrefix + "*");
+    } catch (MalformedObjectNameException e) {
+      throw new IllegalArgumentException("JMX 이름으로 쓸 수 없는 값입니다. jmxNamePrefix: " + jmxNamePrefix, e);
+    }
+  }
+
+  /** @return 빌려가서 사용 중인 커넥션 수 */
+  public long getActive() {
+    return sum(GenericObjectPoolMXBean::getNumActive);
+  }
+
+  /** @return 풀에서 쉬고 있는 커넥션 수 */
+  public long getIdle() {
+    return sum(GenericObjectPoolMXBean::getNumIdle);
+  }
+
+  /** @return 커넥션을 빌리기 위해 기다리는 스레드 수 */
+  public long getWaiters() {
+    return sum(GenericObjectPoolMXBean::getNumWaiters);
+  }
+
+  /** @return 최근 커넥션 대여 대기 시간의 평균 (밀리초, 풀이 여러 개면 가장 큰 값) */
+  public long getMeanBorrowWaitMillis() {
+    return max(GenericObjectPoolMXBean::getMeanBorrowWaitTimeMillis);
+  }
+
+  /** @return 커넥션 대여 대기 시간의 최대값 (밀리초) */
+  public long getMaxBorrowWaitMillis() {
+    return max(GenericObjectPoolMXBean::getMaxBorrowWaitTimeMillis);
+  }
+
+  /** @return 커넥션 대여 누적 횟수 */
+  public long getBorrowedCount() {
+    return sum(GenericObjectPoolMXBean::getBorrowedCount);
+  }
+
+  private long sum(final ToLongFunction<GenericObjectPoolMXBean> metric) {
+    long sum = 0;
+    for (GenericObjectPoolMXBean pool : pools()) {
+      sum += metric.applyAsLong(pool);
+    }
+    return sum;
+  }
+
+  private long max(final ToLongFunction<GenericObjectPoolMXBean> metric) {
+    long max = 0;
+    for (GenericObjectPoolMXBean pool : pools()) {
+      max = Math.max(max, metric.applyAsLong(pool));
+    }
+    return max;
+  }
+
+  private List<GenericObjectPoolMXBean> pools() {
+    List<GenericObjectPoolMXBean> pools = new ArrayList<>();
+    for (ObjectName name : mBeanServer.queryNames(poolNamePattern, null)) {
+      pools.add(JMX.newMXBeanProxy(mBeanServer, name, GenericObjectPoolMXBean.class));
+    }
+    return pools;
+  }
+}
@@ -0,0 +1,19 @@
+package com.redis.example.redistemplate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/** 리더보드(Sorted Set) 한 요소의 순위와 점수 */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class LeaderboardEntry {
+  /** 내림차순 순위 (0 부터 시작) */
+  private final long rank;
+
+  private final String member;
+  private final double score;
+}
@@ -0,0 +1,29 @@
+package com.redis.example.redistemplate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.List;
+
+/**
+ * Sorted Set 을 점수 순서대로 나누어 읽은 한 페이지
+ *
+ * <p>다음 페이지는 {@link #getNextCursor()} 를 다시 넘겨서 조회한다. cursor 는 이 페이지의 마지막 요소(점수, 멤버)를 담은 문자열이며,
+ * 내용에 의존하면 안 된다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class SortedSetPage {
+  private final List<ZSetOperations.TypedTuple<String>> items;
+
+  /** 다음 페이지 조회에 사용할 cursor (마지막 페이지면 null) */
+  private final String nextCursor;
+
+  /** @return 다음 페이지가 있는지 여부 */
+  public boolean hasNext() {
+    return nextCursor != null;
+  }
+}
@@ -0,0 +1,91 @@
+package com.redis.example.redistemplate.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * 파이프라인으로 한번에 실행할 Strings 명령어 한 건
+ *
+ * @see com.redis.example.redistemplate.service.ExampleStringsOperationsService#executeBatch(java.util.List)
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class StringsCommand {
+  private final Type type;
+  private final String key;
+  private final String value;
+  private final Duration timeToLive;
+
+  /** 명령어 종류 */
+  public enum Type {
+    SET,
+    GET,
+    GET_AND_SET,
+    APPEND,
+    DELETE
+  }
+
+  /**
+   * SET 명령어
+   *
+   * @param key Strings 데이터의 key
+   * @param value 저장할 값
+   */
+  public static StringsCommand set(final String key, final String value) {
+    return new StringsCommand(Type.SET, key, value, null);
+  }
+
+  /**
+   * 만료시간을 지정하는 SET 명령어 (SET key value PX ttl)
+   *
+   * @param key Strings 데이터의 key
+   * @param value 저장할 값
+   * @param timeToLive 만료시간
+   */
+  public static StringsCommand set(final String key, final String value, final Duration timeToLive) {
+    return new StringsCommand(Type.SET, key, value, timeToLive);
+  }
+
+  /**
+   * GET 명령어
+   *
+   * @param key Strings 데이터의 key
+   */
+  public static StringsCommand get(final String key) {
+    return new StringsCommand(Type.GET, key, null, null);
+  }
+
+  /**
+   * GETSET 명령어
+   *
+   * @param key Strings 데이터의 key
+   * @param value 새롭게 저장할 값
+   */
+  public static StringsCommand getAndSet(final String key, final String value) {
+    return new StringsCommand(Type.GET_AND_SET, key, value, null);
+  }
+
+  /**
+   * APPEND 명령어
+   *
+   * @param key Strings 데이터의 key
+   * @param value 이어붙일 값
+   */
+  public static StringsCommand append(final String key, final String value) {
+    return new StringsCommand(Type.APPEND, key, value, null);
+  }
+
+  /**
+   * DEL 명령어
+   *
+   * @param key Strings 데이터의 key
+   */
+  public static StringsCommand delete(final String key) {
+    return new StringsCommand(Type.DELETE, key, null, null);
+  }
+}
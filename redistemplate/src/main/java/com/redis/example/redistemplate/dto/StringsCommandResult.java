@@ -0,0 +1,63 @@
+package com.redis.example.redistemplate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 파이프라인으로 실행한 {@link StringsCommand} 한 건의 결과
+ *
+ * <p>명령어 종류에 따라 결과 타입이 다르다.
+ * - SET, DELETE: {@link #isSucceeded()}
+ * - GET, GET_AND_SET: {@link #getString()}
+ * - APPEND: {@link #getLong()}
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class StringsCommandResult {
+  private final StringsCommand command;
+  private final Object value;
+
+  /**
+   * GET, GET_AND_SET 명령어의 결과 (값이 없을 경우 null)
+   *
+   * @return 조회한 값
+   */
+  public String getString() {
+    checkType(StringsCommand.Type.GET, StringsCommand.Type.GET_AND_SET);
+    return (String) value;
+  }
+
+  /**
+   * APPEND 명령어의 결과
+   *
+   * @return 이어붙인 문자열 전체 길이
+   */
+  public Long getLong() {
+    checkType(StringsCommand.Type.APPEND);
+    return (Long) value;
+  }
+
+  /**
+   * SET, DELETE 명령어의 결과
+   *
+   * @return 저장/삭제 성공여부
+   */
+  public boolean isSucceeded() {
+    checkType(StringsCommand.Type.SET, StringsCommand.Type.DELETE);
+    if (value instanceof Long) {
+      return (Long) value > 0;
+    }
+    return Boolean.TRUE.equals(value);
+  }
+
+  private void checkType(final StringsCommand.Type... types) {
+    for (StringsCommand.Type type : types) {
+      if (command.getType() == type) {
+        return;
+      }
+    }
+    throw new IllegalStateException(command.getType() + " 명령어의 결과는 이 타입으로 조회할 수 없습니다.");
+  }
+}
@@ -0,0 +1,168 @@
+package com.redis.example.redistemplate.serializer;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.Nullable;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 다른 RedisSerializer 의 결과가 일정 크기 이상이면 압축해서 저장하는 RedisSerializer
+ *
+ * <p>압축한 데이터 앞에는 [0x00][0x5A][알고리즘 id][원본 길이 4바이트] 헤더를 붙인다. 헤더가 없는 데이터는 압축하지 않은 데이터로 보고
+ * 그대로 delegate 에 넘기므로, 임계값보다 작은 값과 이 직렬화 객체를 적용하기 전에 저장된 값도 읽을 수 있다. 압축해도 크기가 줄지 않는 값은
+ * 압축하지 않고 저장한다.
+ *
+ * <p>압축된 값은 레디스 입장에서 불투명한 바이트이므로, APPEND, GETRANGE, STRLEN 처럼 값의 내용을 다루는 명령어와 함께 쓰면 안 된다.
+ *
+ * @param <T> delegate 가 직렬화하는 타입
+ */
+public class CompressingRedisSerializer<T> implements RedisSerializer<T> {
+  private static final byte MAGIC_0 = 0x00;
+  private static final byte MAGIC_1 = 0x5A;
+  private static final int HEADER_LENGTH = 7;
+  private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+  private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[0]);
+
+  private final RedisSerializer<T> delegate;
+  private final CompressionAlgorithm algorithm;
+  private final int thresholdBytes;
+  private final int maxDecompressedBytes;
+
+  private final LongAdder compressedCount = new LongAdder();
+  private final LongAdder uncompressedCount = new LongAdder();
+  private final LongAdder savedBytes = new LongAdder();
+  private final LongAdder compressionNanos = new LongAdder();
+  private final LongAdder decompressionNanos = new LongAdder();
+
+  /**
+   * @param delegate 실제로 직렬화를 담당할 객체
+   * @param algorithm 압축 알고리즘
+   * @param thresholdBytes 이 크기(바이트) 이상인 값만 압축
+   * @param maxDecompressedBytes 압축을 해제할 원본의 최대 크기(바이트), 헤더의 원본 길이가 이보다 크면 메모리를 할당하지 않고 실패
+   */
+  public CompressingRedisSerializer(
+      final RedisSerializer<T> delegate,
+      final CompressionAlgorithm algorithm,
+      final int thresholdBytes,
+      final int maxDecompressedBytes) {
+    this.delegate = delegate;
+    this.algorithm = algorithm;
+    this.thresholdBytes = thresholdBytes;
+    this.maxDecompressedBytes = maxDecompressedBytes;
+  }
+
+  @Override
+  public byte[] serialize(@Nullable final T value) throws SerializationException {
+    byte[] raw = delegate.serialize(value);
+    if (raw == null || raw.length < thresholdBytes) {
+      uncompressedCount.increment();
+      return raw;
+    }
+
+    long startNanos = System.nanoTime();
+    int bufferSize = HEADER_LENGTH + algorithm.maxCompressedLength(raw.length);
+    byte[] buffer =
+        bufferSize <= MAX_RETAINED_BUFFER_SIZE ? buffer(bufferSize) : new byte[bufferSize];
+    int compressedLength;
+    try {
+      compressedLength = algorithm.compress(raw, buffer, HEADER_LENGTH);
+    } catch (RuntimeException e) {
+      throw new SerializationException("값을 압축하지 못했습니다.", e);
+    }
+
+    if (compressedLength < 0 || HEADER_LENGTH + compressedLength >= raw.length) {
+      compressionNanos.add(System.nanoTime() - startNanos);
+      uncompressedCount.increment();
+      return raw;
+    }
+
+    buffer[0] = MAGIC_0;
+    buffer[1] = MAGIC_1;
+    buffer[2] = algorithm.getId();
+    buffer[3] = (byte) (raw.length >>> 24);
+    buffer[4] = (byte) (raw.length >>> 16);
+    buffer[5] = (byte) (raw.length >>> 8);
+    buffer[6] = (byte) raw.length;
+    byte[] compressed = Arrays.copyOf(buffer, HEADER_LENGTH + compressedLength);
+
+    compressionNanos.add(System.nanoTime() - startNanos);
+    compressedCount.increment();
+    savedBytes.add(raw.length - compressed.length);
+    return compressed;
+  }
+
+  @Override
+  public T deserialize(@Nullable final byte[] bytes) throws SerializationException {
+    if (!isCompressed(bytes)) {
+      return delegate.deserialize(bytes);
+    }
+
+    long startNanos = System.nanoTime();
+    int originalLength =
+        ((bytes[3] & 0xFF) << 24)
+            | ((bytes[4] & 0xFF) << 16)
+            | ((bytes[5] & 0xFF) << 8)
+            | (bytes[6] & 0xFF);
+    if (originalLength < 0 || originalLength > maxDecompressedBytes) {
+      // 헤더와 우연히 같은 바이트로 시작하는 값이나 손상된 값으로 큰 배열을 할당하지 않는다.
+      throw new SerializationException(
+          "압축 헤더의 원본 길이가 허용 범위를 벗어났습니다. originalLength: "
+              + originalLength
+              + ", maxDecompressedBytes: "
+              + maxDecompressedBytes);
+    }
+    byte[] raw;
+    try {
+      raw = new byte[originalLength];
+      CompressionAlgorithm.of(bytes[2]).decompress(bytes, HEADER_LENGTH, raw);
+    } catch (RuntimeException e) {
+      throw new SerializationException("압축된 값을 해제하지 못했습니다.", e);
+    }
+    decompressionNanos.add(System.nanoTime() - startNanos);
+
+    return delegate.deserialize(raw);
+  }
+
+  /** @return 압축해서 저장한 값의 수 */
+  public long getCompressedCount() {
+    return compressedCount.sum();
+  }
+
+  /** @return 임계값보다 작거나 압축 효과가 없어서 그대로 저장한 값의 수 */
+  public long getUncompressedCount() {
+    return uncompressedCount.sum();
+  }
+
+  /** @return 압축으로 줄어든 바이트 수 (헤더 포함) */
+  public long getSavedBytes() {
+    return savedBytes.sum();
+  }
+
+  /** @return 압축에 사용한 누적 시간 (나노초) */
+  public long getCompressionNanos() {
+    return compressionNanos.sum();
+  }
+
+  /** @return 압축 해제에 사용한 누적 시간 (나노초) */
+  public long getDecompressionNanos() {
+    return decompressionNanos.sum();
+  }
+
+  private static boolean isCompressed(@Nullable final byte[] bytes) {
+    return bytes != null
+        && bytes.length > HEADER_LENGTH
+        && bytes[0] == MAGIC_0
+        && bytes[1] == MAGIC_1;
+  }
+
+  private static byte[] buffer(final int size) {
+    byte[] buffer = BUFFER.get();
+    if (buffer.length < size) {
+      buffer = new byte[size];
+      BUFFER.set(buffer);
+    }
+    return buffer;
+  }
+}
@@ -0,0 +1,126 @@
+package com.redis.example.redistemplate.serializer;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * {@link CompressingRedisSerializer} 가 사용하는 압축 알고리즘
+ *
+ * <p>LZ4는 압축률이 낮은 대신 압축/해제가 매우 빠르고, DEFLATE는 CPU를 더 쓰는 대신 압축률이 높다. id 는 압축 헤더에 기록되므로
+ * 한번 정한 값은 바꾸면 안 된다.
+ */
+public enum CompressionAlgorithm {
+  DEFLATE((byte) 1) {
+    private final ThreadLocal<Deflater> deflater =
+        ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED));
+    private final ThreadLocal<Inflater> inflater = ThreadLocal.withInitial(Inflater::new);
+
+    @Override
+    int maxCompressedLength(final int sourceLength) {
+      // zlib 의 deflateBound + zlib 헤더/체크섬
+      return sourceLength
+          + (sourceLength >> 12)
+          + (sourceLength >> 14)
+          + (sourceLength >> 25)
+          + 13
+          + 6;
+    }
+
+    @Override
+    int compress(final byte[] source, final byte[] dest, final int destOffset) {
+      Deflater deflater = this.deflater.get();
+      deflater.reset();
+      deflater.setInput(source);
+      deflater.finish();
+      int length = deflater.deflate(dest, destOffset, dest.length - destOffset);
+      return deflater.finished() ? length : -1;
+    }
+
+    @Override
+    void decompress(final byte[] source, final int sourceOffset, final byte[] dest) {
+      Inflater inflater = this.inflater.get();
+      inflater.reset();
+      inflater.setInput(source, sourceOffset, source.length - sourceOffset);
+      try {
+        int length = 0;
+        while (length < dest.length && !inflater.finished()) {
+          int inflated = inflater.inflate(dest, length, dest.length - length);
+          if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+            break;
+          }
+          length += inflated;
+        }
+        if (length != dest.length) {
+          throw new IllegalStateException("압축 해제한 데이터의 길이가 헤더와 다릅니다.");
+        }
+      } catch (DataFormatException e) {
+        throw new IllegalStateException("DEFLATE 데이터가 손상되었습니다.", e);
+      }
+    }
+  },
+
+  LZ4((byte) 2) {
+    private final LZ4Compressor compressor = LZ4Factory.fastestInstance().fastCompressor();
+    // fastDecompressor 는 입력의 범위를 검사하지 않아서, 손상된 값을 읽으면 JNI 구현에서 메모리를 망가뜨릴 수 있다.
+    private final LZ4SafeDecompressor decompressor =
+        LZ4Factory.fastestInstance().safeDecompressor();
+
+    @Override
+    int maxCompressedLength(final int sourceLength) {
+      return compressor.maxCompressedLength(sourceLength);
+    }
+
+    @Override
+    int compress(final byte[] source, final byte[] dest, final int destOffset) {
+      return compressor.compress(
+          source, 0, source.length, dest, destOffset, dest.length - destOffset);
+    }
+
+    @Override
+    void decompress(final byte[] source, final int sourceOffset, final byte[] dest) {
+      int length =
+          decompressor.decompress(
+              source, sourceOffset, source.length - sourceOffset, dest, 0, dest.length);
+      if (length != dest.length) {
+        throw new IllegalStateException("압축 해제한 데이터의 길이가 헤더와 다릅니다.");
+      }
+    }
+  };
+
+  private final byte id;
+
+  CompressionAlgorithm(final byte id) {
+    this.id = id;
+  }
+
+  byte getId() {
+    return id;
+  }
+
+  static CompressionAlgorithm of(final byte id) {
+    for (CompressionAlgorithm algorithm : values()) {
+      if (algorithm.id == id) {
+        return algorithm;
+      }
+    }
+    throw new IllegalArgumentException("지원하지 않는 압축 알고리즘입니다. id: " + id);
+  }
+
+  /** 압축 결과가 가질 수 있는 최대 길이 (dest 버퍼 크기를 정할 때 사용) */
+  abstract int maxCompressedLength(int sourceLength);
+
+  /**
+   * source 를 압축하여 dest 의 destOffset 위치부터 기록한다.
+   *
+   * @return 압축된 길이 (dest 의 남은 공간에 들어가지 않으면 -1)
+   */
+  abstract int compress(byte[] source, byte[] dest, int destOffset);
+
+  /** source 의 sourceOffset 위치부터 압축을 해제하여 dest 를 가득 채운다. (dest 길이 = 원본 길이) */
+  abstract void decompress(byte[] source, int sourceOffset, byte[] dest);
+}
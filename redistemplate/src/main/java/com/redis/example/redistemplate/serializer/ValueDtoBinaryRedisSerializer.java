@@ -0,0 +1,200 @@
+package com.redis.example.redistemplate.serializer;
+
+import com.redis.example.redistemplate.dto.ValueDto;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * {@link ValueDto} 를 바이너리로 직렬화하는 RedisSerializer
+ *
+ * <p>형식: [버전 1바이트][firstExampleValue][secondExampleValue]. 각 필드는 [varint 길이+1][UTF-8 바이트] 이며, 길이 0은 null
+ * 을 뜻한다. 필드 순서가 곧 스키마이므로, 필드를 추가할 때는 버전을 올리고 이전 버전도 읽을 수 있게 해야 한다.
+ *
+ * <p>직렬화할 때는 스레드별로 재사용하는 버퍼에 UTF-8로 직접 인코딩하여, 결과 바이트 배열 외에는 할당이 없다. 리플렉션도 사용하지 않는다.
+ *
+ * <p>첫 바이트가 버전 바이트가 아닌 데이터는 기존 JSON 데이터로 보고 legacySerializer 로 역직렬화하므로, 기존 데이터를 그대로 둔 채로 이
+ * 직렬화 객체로 바꿀 수 있다. (반대로 JSON 직렬화 객체는 이 형식을 읽지 못하므로, 되돌릴 때는 데이터를 먼저 지워야 한다.)
+ */
+public class ValueDtoBinaryRedisSerializer implements RedisSerializer<ValueDto> {
+  private static final byte VERSION_1 = 1;
+
+  private static final int INITIAL_BUFFER_SIZE = 256;
+  private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+  private static final ThreadLocal<byte[]> BUFFER =
+      ThreadLocal.withInitial(() -> new byte[INITIAL_BUFFER_SIZE]);
+
+  @Nullable private final RedisSerializer<ValueDto> legacySerializer;
+
+  /** @param legacySerializer 버전 바이트가 없는 기존 데이터를 읽을 직렬화 객체 (기존 데이터가 없으면 null) */
+  public ValueDtoBinaryRedisSerializer(@Nullable final RedisSerializer<ValueDto> legacySerializer) {
+    this.legacySerializer = legacySerializer;
+  }
+
+  @Override
+  public byte[] serialize(@Nullable final ValueDto valueDto) throws SerializationException {
+    if (valueDto == null) {
+      return new byte[0];
+    }
+
+    String first = valueDto.getFirstExampleValue();
+    String second = valueDto.getSecondExampleValue();
+    int firstLength = utf8Length(first);
+    int secondLength = utf8Length(second);
+    int size =
+        1
+            + varIntSize(firstLength + 1)
+            + firstLength
+            + varIntSize(secondLength + 1)
+            + secondLength;
+
+    byte[] buffer = size <= MAX_RETAINED_BUFFER_SIZE ? buffer(size) : new byte[size];
+    int position = 0;
+    buffer[position++] = VERSION_1;
+    position = writeString(buffer, position, first, firstLength);
+    position = writeString(buffer, position, second, secondLength);
+    return Arrays.copyOf(buffer, position);
+  }
+
+  @Override
+  public ValueDto deserialize(@Nullable final byte[] bytes) throws SerializationException {
+    if (bytes == null || bytes.length == 0) {
+      return null;
+    }
+    if (bytes[0] != VERSION_1) {
+      if (legacySerializer == null) {
+        throw new SerializationException("지원하지 않는 ValueDto 직렬화 버전입니다. version: " + bytes[0]);
+      }
+      return legacySerializer.deserialize(bytes);
+    }
+
+    try {
+      int[] position = {1};
+      String first = readString(bytes, position);
+      String second = readString(bytes, position);
+      return ValueDto.builder().firstExampleValue(first).secondExampleValue(second).build();
+    } catch (ArrayIndexOutOfBoundsException e) {
+      throw new SerializationException("ValueDto 바이너리 데이터가 손상되었습니다.", e);
+    }
+  }
+
+  private static byte[] buffer(final int size) {
+    byte[] buffer = BUFFER.get();
+    if (buffer.length < size) {
+      buffer = new byte[Math.max(size, buffer.length * 2)];
+      BUFFER.set(buffer);
+    }
+    return buffer;
+  }
+
+  private static int writeString(
+      final byte[] buffer, int position, @Nullable final String value, final int utf8Length) {
+    if (value == null) {
+      return writeVarInt(buffer, position, 0);
+    }
+    position = writeVarInt(buffer, position, utf8Length + 1);
+
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        buffer[position++] = (byte) c;
+      } else if (c < 0x800) {
+        buffer[position++] = (byte) (0xC0 | (c >> 6));
+        buffer[position++] = (byte) (0x80 | (c & 0x3F));
+      } else if (Character.isSurrogate(c)) {
+        if (Character.isHighSurrogate(c)
+            && i + 1 < value.length()
+            && Character.isLowSurrogate(value.charAt(i + 1))) {
+          int codePoint = Character.toCodePoint(c, value.charAt(++i));
+          buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+          buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+          buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+          buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else {
+          // 짝이 맞지 않는 surrogate는 String#getBytes 와 동일하게 '?' 로 치환
+          buffer[position++] = (byte) '?';
+        }
+      } else {
+        buffer[position++] = (byte) (0xE0 | (c >> 12));
+        buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+        buffer[position++] = (byte) (0x80 | (c & 0x3F));
+      }
+    }
+    return position;
+  }
+
+  @Nullable
+  private static String readString(final byte[] bytes, final int[] position) {
+    int lengthPlusOne = readVarInt(bytes, position);
+    if (lengthPlusOne == 0) {
+      return null;
+    }
+    int length = lengthPlusOne - 1;
+    if (position[0] + length > bytes.length) {
+      throw new SerializationException("ValueDto 바이너리 데이터가 손상되었습니다.");
+    }
+    String value = new String(bytes, position[0], length, StandardCharsets.UTF_8);
+    position[0] += length;
+    return value;
+  }
+
+  private static int utf8Length(@Nullable final String value) {
+    if (value == null) {
+      return 0;
+    }
+    int length = 0;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        length += 1;
+      } else if (c < 0x800) {
+        length += 2;
+      } else if (Character.isSurrogate(c)) {
+        if (Character.isHighSurrogate(c)
+            && i + 1 < value.length()
+            && Character.isLowSurrogate(value.charAt(i + 1))) {
+          length += 4;
+          i++;
+        } else {
+          length += 1;
+        }
+      } else {
+        length += 3;
+      }
+    }
+    return length;
+  }
+
+  private static int varIntSize(int value) {
+    int size = 1;
+    while ((value & ~0x7F) != 0) {
+      value >>>= 7;
+      size++;
+    }
+    return size;
+  }
+
+  private static int writeVarInt(final byte[] buffer, int position, int value) {
+    while ((value & ~0x7F) != 0) {
+      buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    buffer[position++] = (byte) value;
+    return position;
+  }
+
+  private static int readVarInt(final byte[] bytes, final int[] position) {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      byte b = bytes[position[0]++];
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new SerializationException("ValueDto 바이너리 데이터가 손상되었습니다.");
+  }
+}
@@ -0,0 +1,112 @@
+package com.redis.example.redistemplate.serializer;
+
+import com.redis.example.redistemplate.dto.ValueDto;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.Nullable;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link ValueDto} 를 구분자로 이어붙인 문자열로 직렬화하는 RedisSerializer
+ *
+ * <p>형식: firstExampleValue|secondExampleValue. 값 안의 '\' 와 '|' 는 앞에 '\' 를 붙여서 이스케이프하고, null 은 \0 으로
+ * 표현한다. redis-cli 로 조회해도 읽을 수 있고, 리플렉션 없이 필드를 직접 읽고 쓴다.
+ */
+public class ValueDtoDelimitedRedisSerializer implements RedisSerializer<ValueDto> {
+  private static final char DELIMITER = '|';
+  private static final char ESCAPE = '\\';
+  private static final char NULL_MARKER = '0';
+
+  @Override
+  public byte[] serialize(@Nullable final ValueDto valueDto) throws SerializationException {
+    if (valueDto == null) {
+      return new byte[0];
+    }
+
+    StringBuilder builder = new StringBuilder(estimateLength(valueDto));
+    appendField(builder, valueDto.getFirstExampleValue());
+    builder.append(DELIMITER);
+    appendField(builder, valueDto.getSecondExampleValue());
+    return builder.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public ValueDto deserialize(@Nullable final byte[] bytes) throws SerializationException {
+    if (bytes == null || bytes.length == 0) {
+      return null;
+    }
+
+    String text = new String(bytes, StandardCharsets.UTF_8);
+    int[] position = {0};
+    String first = readField(text, position);
+    if (position[0] >= text.length() || text.charAt(position[0]) != DELIMITER) {
+      throw new SerializationException("ValueDto 구분자 형식이 아닙니다. value: " + text);
+    }
+    position[0]++;
+    String second = readField(text, position);
+    if (position[0] != text.length()) {
+      throw new SerializationException("ValueDto 구분자 형식이 아닙니다. value: " + text);
+    }
+    return ValueDto.builder().firstExampleValue(first).secondExampleValue(second).build();
+  }
+
+  private static int estimateLength(final ValueDto valueDto) {
+    return length(valueDto.getFirstExampleValue()) + length(valueDto.getSecondExampleValue()) + 8;
+  }
+
+  private static int length(@Nullable final String value) {
+    return value == null ? 2 : value.length();
+  }
+
+  private static void appendField(final StringBuilder builder, @Nullable final String value) {
+    if (value == null) {
+      builder.append(ESCAPE).append(NULL_MARKER);
+      return;
+    }
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == ESCAPE || c == DELIMITER) {
+        builder.append(ESCAPE);
+      }
+      builder.append(c);
+    }
+  }
+
+  /** position 부터 다음 구분자(혹은 문자열 끝) 전까지의 필드를 읽고, position 을 구분자 위치로 옮긴다. */
+  @Nullable
+  private static String readField(final String text, final int[] position) {
+    int start = position[0];
+    if (text.startsWith("\\0", start)) {
+      position[0] = start + 2;
+      return null;
+    }
+
+    int end = start;
+    boolean escaped = false;
+    while (end < text.length() && text.charAt(end) != DELIMITER) {
+      if (text.charAt(end) == ESCAPE) {
+        escaped = true;
+        end++;
+      }
+      end++;
+    }
+    if (end > text.length()) {
+      throw new SerializationException("ValueDto 구분자 형식이 아닙니다. value: " + text);
+    }
+    position[0] = end;
+    if (!escaped) {
+      return text.substring(start, end);
+    }
+
+    StringBuilder builder = new StringBuilder(end - start);
+    for (int i = start; i < end; i++) {
+      char c = text.charAt(i);
+      if (c == ESCAPE) {
+        c = text.charAt(++i);
+      }
+      builder.append(c);
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,55 @@
+package com.redis.example.redistemplate.serializer;
+
+import com.redis.example.redistemplate.dto.ValueDto;
+import org.springframework.data.redis.hash.HashMapper;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ValueDto} 의 프로퍼티를 Hash 의 field 하나씩으로 매핑하는 HashMapper
+ *
+ * <p>field 이름은 프로퍼티 이름과 같다. null 인 프로퍼티는 field 를 만들지 않고, Hash 에 없는 field 는 null 로 읽는다.
+ * ObjectHashMapper 와 달리 리플렉션이나 타입 정보(_class) field 없이 값만 문자열로 저장한다.
+ */
+public class ValueDtoHashMapper implements HashMapper<ValueDto, String, String> {
+  public static final String FIRST_EXAMPLE_VALUE = "firstExampleValue";
+  public static final String SECOND_EXAMPLE_VALUE = "secondExampleValue";
+
+  /** ValueDto 가 가지는 모든 field 이름 */
+  public static final List<String> FIELDS = List.of(FIRST_EXAMPLE_VALUE, SECOND_EXAMPLE_VALUE);
+
+  @Override
+  public Map<String, String> toHash(final ValueDto valueDto) {
+    Map<String, String> hash = new HashMap<>(4);
+    if (valueDto.getFirstExampleValue() != null) {
+      hash.put(FIRST_EXAMPLE_VALUE, valueDto.getFirstExampleValue());
+    }
+    if (valueDto.getSecondExampleValue() != null) {
+      hash.put(SECOND_EXAMPLE_VALUE, valueDto.getSecondExampleValue());
+    }
+    return hash;
+  }
+
+  @Override
+  public ValueDto fromHash(final Map<String, String> hash) {
+    return ValueDto.builder()
+        .firstExampleValue(hash.get(FIRST_EXAMPLE_VALUE))
+        .secondExampleValue(hash.get(SECOND_EXAMPLE_VALUE))
+        .build();
+  }
+
+  /**
+   * ValueDto 의 field 이름인지 확인
+   *
+   * @param field 확인할 field 이름
+   * @throws IllegalArgumentException ValueDto 에 없는 field 인 경우
+   */
+  public static void checkField(final String field) {
+    if (!FIELDS.contains(field)) {
+      throw new IllegalArgumentException(
+          "ValueDto 의 field 이름이어야 합니다. field: " + field + ", fields: " + FIELDS);
+    }
+  }
+}
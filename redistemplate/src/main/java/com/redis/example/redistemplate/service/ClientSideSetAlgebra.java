@@ -0,0 +1,213 @@
+package com.redis.example.redistemplate.service;
+
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * SUNION/SINTER/SDIFF 를 레디스 대신 애플리케이션에서 계산하는 유틸리티
+ *
+ * <p>Set 은 SSCAN 으로 나누어 읽으므로 레디스를 오래 막지 않고, 키가 서로 다른 슬롯에 있어도(클러스터) 동작한다. 여러 Set 을 읽을 때는
+ * 리액티브 템플릿으로 SSCAN 을 동시에 보내서 기다리는 시간을 겹친다.
+ *
+ * <p>교집합과 차집합은 가장 작은 Set(차집합은 첫 번째 Set)을 후보로 읽은 뒤, 다른 Set 마다 후보 수와 Set 크기를 비교해서 더 싼 쪽을 고른다.
+ * 후보가 적으면 후보마다 SISMEMBER 를 파이프라인으로 보내고, 후보가 많으면 그 Set 을 SSCAN 으로 읽어서 비교한다. 메모리에는 후보만 올라간다.
+ *
+ * <p>여러 번 나누어 읽으므로 계산 도중에 바뀐 Set 은 일부만 반영될 수 있다. (서버 명령어와 달리 원자적이지 않음)
+ */
+final class ClientSideSetAlgebra {
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+  private final ScanOptions scanOptions;
+  private final int batchSize;
+
+  /**
+   * @param stringRedisTemplate 파이프라인(SCARD, SISMEMBER, SADD)에 사용할 템플릿
+   * @param reactiveStringRedisTemplate SSCAN 에 사용할 템플릿
+   * @param scanCount SSCAN 한 번에 읽을 요소 갯수의 기준값 (COUNT)
+   * @param batchSize 파이프라인 하나에 담을 명령어 수 (SADD 는 명령어 하나에 담을 요소 수)
+   */
+  ClientSideSetAlgebra(
+      final StringRedisTemplate stringRedisTemplate,
+      final ReactiveStringRedisTemplate reactiveStringRedisTemplate,
+      final int scanCount,
+      final int batchSize) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("batchSize 는 1 이상이어야 합니다. batchSize: " + batchSize);
+    }
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.reactiveStringRedisTemplate = reactiveStringRedisTemplate;
+    this.scanOptions = ScanOptions.scanOptions().count(scanCount).build();
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * 모든 Set 을 동시에 SSCAN 해서 합집합을 만든다.
+   *
+   * @param keys Set 의 키 목록
+   * @return 합집합
+   */
+  Set<String> union(final List<String> keys) {
+    return Flux.merge(keys.stream().map(this::scan).collect(Collectors.toList()))
+        .collect(HashSet<String>::new, Set::add)
+        .block();
+  }
+
+  /**
+   * 가장 작은 Set 부터 후보를 줄여가며 교집합을 만든다.
+   *
+   * @param keys Set 의 키 목록
+   * @return 교집합
+   */
+  Set<String> intersect(final List<String> keys) {
+    List<Long> sizes = sizes(keys);
+    List<Integer> order =
+        IntStream.range(0, keys.size())
+            .boxed()
+            .sorted(Comparator.comparing(sizes::get))
+            .collect(Collectors.toList());
+    if (sizes.get(order.get(0)) == 0) {
+      return new HashSet<>();
+    }
+
+    Set<String> result = members(keys.get(order.get(0)));
+    for (int i = 1; i < order.size() && !result.isEmpty(); i++) {
+      String key = keys.get(order.get(i));
+      if (result.size() <= sizes.get(order.get(i))) {
+        result.removeAll(nonMembers(key, result));
+      } else {
+        Set<String> candidates = result;
+        result =
+            scan(key).filter(candidates::contains).collect(HashSet<String>::new, Set::add).block();
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 첫 번째 Set 에서 나머지 Set 의 요소를 뺀 차집합을 만든다. SSCAN 으로 읽을 Set 들은 동시에 읽는다.
+   *
+   * @param keys Set 의 키 목록 (첫 번째가 기준 Set)
+   * @return 차집합
+   */
+  Set<String> difference(final List<String> keys) {
+    List<Long> sizes = sizes(keys);
+    Set<String> result = sizes.get(0) == 0 ? new HashSet<>() : members(keys.get(0));
+
+    List<String> scanKeys = new ArrayList<>();
+    for (int i = 1; i < keys.size() && !result.isEmpty(); i++) {
+      if (result.size() <= sizes.get(i)) {
+        result.removeAll(members(keys.get(i), result));
+      } else if (sizes.get(i) > 0) {
+        scanKeys.add(keys.get(i));
+      }
+    }
+    if (!result.isEmpty() && !scanKeys.isEmpty()) {
+      Flux.merge(scanKeys.stream().map(this::scan).collect(Collectors.toList()))
+          .doOnNext(result::remove)
+          .blockLast();
+    }
+    return result;
+  }
+
+  /**
+   * 계산 결과를 destKey 에 저장한다. DEL 과 batchSize 개씩 나눈 SADD 를 파이프라인 하나로 보낸다.
+   *
+   * <p>MULTI 로 묶지 않으므로 저장하는 동안 다른 클라이언트가 일부만 저장된 Set 을 볼 수 있다. 결과가 비어 있으면 destKey 는 삭제된다.
+   *
+   * @param destKey 결과를 저장할 Set 의 키
+   * @param values 계산 결과
+   * @return 저장한 요소 갯수
+   */
+  long store(final String destKey, final Set<String> values) {
+    List<String> members = new ArrayList<>(values);
+    stringRedisTemplate.executePipelined(
+        (RedisCallback<Object>)
+            redisConnection -> {
+              StringRedisConnection connection = (StringRedisConnection) redisConnection;
+              connection.del(destKey);
+              for (int from = 0; from < members.size(); from += batchSize) {
+                int to = Math.min(from + batchSize, members.size());
+                connection.sAdd(destKey, members.subList(from, to).toArray(new String[0]));
+              }
+              return null;
+            });
+    return members.size();
+  }
+
+  /**
+   * SCARD 를 파이프라인 하나로 보내서 Set 들의 크기를 구한다.
+   *
+   * @param keys Set 의 키 목록
+   * @return keys 순서대로의 Set 크기
+   */
+  List<Long> sizes(final List<String> keys) {
+    List<Object> results =
+        stringRedisTemplate.executePipelined(
+            (RedisCallback<Object>)
+                redisConnection -> {
+                  StringRedisConnection connection = (StringRedisConnection) redisConnection;
+                  for (String key : keys) {
+                    connection.sCard(key);
+                  }
+                  return null;
+                });
+    return results.stream()
+        .map(size -> size == null ? 0L : (Long) size)
+        .collect(Collectors.toList());
+  }
+
+  private Flux<String> scan(final String key) {
+    return reactiveStringRedisTemplate.opsForSet().scan(key, scanOptions);
+  }
+
+  private Set<String> members(final String key) {
+    return scan(key).collect(HashSet<String>::new, Set::add).block();
+  }
+
+  /** candidates 중 key 의 Set 에 들어있는 요소 (SISMEMBER 파이프라인) */
+  private Set<String> members(final String key, final Set<String> candidates) {
+    return partitionByMembership(key, candidates, true);
+  }
+
+  /** candidates 중 key 의 Set 에 들어있지 않은 요소 (SISMEMBER 파이프라인) */
+  private Set<String> nonMembers(final String key, final Set<String> candidates) {
+    return partitionByMembership(key, candidates, false);
+  }
+
+  private Set<String> partitionByMembership(
+      final String key, final Set<String> candidates, final boolean member) {
+    List<String> values = new ArrayList<>(candidates);
+    Set<String> matched = new HashSet<>();
+    for (int from = 0; from < values.size(); from += batchSize) {
+      List<String> batch = values.subList(from, Math.min(from + batchSize, values.size()));
+      List<Object> results =
+          stringRedisTemplate.executePipelined(
+              (RedisCallback<Object>)
+                  redisConnection -> {
+                    StringRedisConnection connection = (StringRedisConnection) redisConnection;
+                    for (String value : batch) {
+                      connection.sIsMember(key, value);
+                    }
+                    return null;
+                  });
+      for (int i = 0; i < batch.size(); i++) {
+        if (Boolean.TRUE.equals(results.get(i)) == member) {
+          matched.add(batch.get(i));
+        }
+      }
+    }
+    return matched;
+  }
+}
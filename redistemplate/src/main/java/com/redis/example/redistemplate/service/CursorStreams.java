@@ -0,0 +1,117 @@
+package com.redis.example.redistemplate.service;
+
+import org.springframework.data.redis.core.Cursor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * SCAN 계열 명령어의 {@link Cursor} 를 Stream 으로 감싸는 유틸리티
+ *
+ * <p>Cursor 는 다 읽을 때까지 커넥션을 붙잡고 있으므로 반드시 닫아야 한다. 여기서 만든 Stream 은 끝까지 읽으면 Cursor 를 바로 닫고,
+ * 중간에 멈추는 경우(limit, findFirst, 예외 등)를 위해 Stream#close 에서도 닫는다. 따라서 끝까지 읽지 않을 수도 있다면
+ * try-with-resources 로 Stream 을 닫아야 한다.
+ */
+final class CursorStreams {
+  private CursorStreams() {}
+
+  /**
+   * Cursor 의 요소를 하나씩 흘려보내는 Stream
+   *
+   * @param cursor SCAN 계열 명령어의 Cursor
+   * @param <T> 요소 타입
+   * @return 끝까지 읽거나 close 하면 Cursor 를 닫는 Stream
+   */
+  static <T> Stream<T> stream(final Cursor<T> cursor) {
+    return StreamSupport.stream(new CursorSpliterator<>(cursor), false)
+        .onClose(() -> close(cursor));
+  }
+
+  /**
+   * Cursor 의 요소를 chunkSize 개씩 묶어서 흘려보내는 Stream
+   *
+   * @param cursor SCAN 계열 명령어의 Cursor
+   * @param chunkSize 묶음 하나의 최대 요소 갯수 (마지막 묶음은 더 작을 수 있음)
+   * @param <T> 요소 타입
+   * @return 끝까지 읽거나 close 하면 Cursor 를 닫는 Stream
+   */
+  static <T> Stream<List<T>> chunked(final Cursor<T> cursor, final int chunkSize) {
+    if (chunkSize <= 0) {
+      close(cursor);
+      throw new IllegalArgumentException("chunkSize 는 1 이상이어야 합니다. chunkSize: " + chunkSize);
+    }
+    return StreamSupport.stream(new ChunkedCursorSpliterator<>(cursor, chunkSize), false)
+        .onClose(() -> close(cursor));
+  }
+
+  private static void close(final Cursor<?> cursor) {
+    if (cursor.isClosed()) {
+      return;
+    }
+    try {
+      cursor.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cursor 를 닫지 못했습니다.", e);
+    }
+  }
+
+  private static class CursorSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+    private final Cursor<T> cursor;
+
+    CursorSpliterator(final Cursor<T> cursor) {
+      super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+      this.cursor = cursor;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+      if (cursor.isClosed()) {
+        return false;
+      }
+      if (!cursor.hasNext()) {
+        close(cursor);
+        return false;
+      }
+      action.accept(cursor.next());
+      return true;
+    }
+  }
+
+  private static class ChunkedCursorSpliterator<T>
+      extends Spliterators.AbstractSpliterator<List<T>> {
+    private final Cursor<T> cursor;
+    private final int chunkSize;
+
+    ChunkedCursorSpliterator(final Cursor<T> cursor, final int chunkSize) {
+      super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+      this.cursor = cursor;
+      this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super List<T>> action) {
+      if (cursor.isClosed()) {
+        return false;
+      }
+      List<T> chunk = new ArrayList<>(chunkSize);
+      while (chunk.size() < chunkSize && cursor.hasNext()) {
+        chunk.add(cursor.next());
+      }
+      if (chunk.size() < chunkSize) {
+        close(cursor);
+      }
+      if (chunk.isEmpty()) {
+        return false;
+      }
+      action.accept(chunk);
+      return true;
+    }
+  }
+}
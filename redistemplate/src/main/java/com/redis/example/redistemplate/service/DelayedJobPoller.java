@@ -0,0 +1,285 @@
+package com.redis.example.redistemplate.service;
+
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * {@link ExampleDelayedJobService#startPoller(String, int, Consumer)} 로 시작한 폴러와 워커 묶음
+ *
+ * <p>폴러 스레드 하나가 실행 시각이 된 작업을 꺼내서 워커 스레드에 나누어주고, 워커가 처리한 작업의 ack 를 모아서 파이프라인으로 보낸다. 워커에
+ * 넘겼지만 끝나지 않은 작업은 워커 수의 2배를 넘지 않는다. 처리량은 getProcessedCount 의 증가량으로, 밀린 정도(lag)는 getBacklog 로
+ * 확인할 수 있다.
+ */
+public class DelayedJobPoller implements AutoCloseable {
+  private static final long ERROR_BACKOFF_MILLIS = 100;
+
+  private final ExampleDelayedJobService delayedJobService;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final String queue;
+  private final String processingKey;
+  private final String deadLetterKey;
+  private final Consumer<String> handler;
+  private final int claimBatchSize;
+  private final long maxPollIntervalMillis;
+  private final long visibilityTimeoutMillis;
+  private final int pipelineBatchSize;
+
+  private final Queue<String> acks = new ConcurrentLinkedQueue<>();
+  private final Queue<String> failures = new ConcurrentLinkedQueue<>();
+
+  private final LongAdder claimCount = new LongAdder();
+  private final LongAdder claimedJobCount = new LongAdder();
+  private final LongAdder processedCount = new LongAdder();
+  private final LongAdder failedCount = new LongAdder();
+  private final LongAdder errorCount = new LongAdder();
+
+  private volatile boolean running;
+  private volatile RuntimeException lastError;
+  private Semaphore inFlight;
+  private ExecutorService workers;
+  private Thread poller;
+
+  DelayedJobPoller(
+      final ExampleDelayedJobService delayedJobService,
+      final StringRedisTemplate stringRedisTemplate,
+      final String queue,
+      final Consumer<String> handler,
+      final int claimBatchSize,
+      final Duration maxPollInterval,
+      final Duration visibilityTimeout,
+      final int pipelineBatchSize) {
+    this.delayedJobService = delayedJobService;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.queue = queue;
+    this.processingKey = queue + ExampleDelayedJobService.PROCESSING_KEY_SUFFIX;
+    this.deadLetterKey = queue + ExampleDelayedJobService.DEAD_LETTER_KEY_SUFFIX;
+    this.handler = handler;
+    this.claimBatchSize = claimBatchSize;
+    this.maxPollIntervalMillis = maxPollInterval.toMillis();
+    this.visibilityTimeoutMillis = visibilityTimeout.toMillis();
+    this.pipelineBatchSize = pipelineBatchSize;
+  }
+
+  void start(final int workerCount) {
+    running = true;
+    inFlight = new Semaphore(workerCount * 2);
+    AtomicInteger workerIndex = new AtomicInteger();
+    workers =
+        Executors.newFixedThreadPool(
+            workerCount,
+            runnable -> {
+              String name = "delayed-job-" + queue + "-" + workerIndex.getAndIncrement();
+              Thread thread = new Thread(runnable, name);
+              thread.setDaemon(true);
+              return thread;
+            });
+    poller = new Thread(this::pollLoop, "delayed-job-" + queue + "-poller");
+    poller.setDaemon(true);
+    poller.start();
+  }
+
+  /**
+   * 새 작업 꺼내기를 멈추고, 워커가 처리 중인 작업을 마치면 ack 를 보낸 후 종료한다. (기다리는 중에 인터럽트되면 워커를 인터럽트하고 그때까지
+   * 처리한 작업의 ack 만 보냄)
+   */
+  @Override
+  public void close() {
+    running = false;
+    poller.interrupt();
+    boolean interrupted = false;
+    try {
+      poller.join(TimeUnit.SECONDS.toMillis(5));
+      workers.shutdown();
+      workers.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      workers.shutdownNow();
+      interrupted = true;
+    }
+    try {
+      flushAcks();
+    } catch (RuntimeException e) {
+      recordError(e);
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** @return 작업을 꺼내는 Lua 스크립트를 실행한 횟수 */
+  public long getClaimCount() {
+    return claimCount.sum();
+  }
+
+  /** @return 꺼내서 워커에 넘긴 작업 수 */
+  public long getClaimedJobCount() {
+    return claimedJobCount.sum();
+  }
+
+  /** @return 처리에 성공하고 ack 를 보낸 작업 수 */
+  public long getProcessedCount() {
+    return processedCount.sum();
+  }
+
+  /** @return 처리에 실패해서 {queue}:dead 로 옮긴 작업 수 */
+  public long getFailedCount() {
+    return failedCount.sum();
+  }
+
+  /** @return 레디스 명령어 실행 중 발생한 예외 수 (예외가 나면 잠시 쉬었다가 계속 실행함) */
+  public long getErrorCount() {
+    return errorCount.sum();
+  }
+
+  /** @return 마지막으로 발생한 레디스 명령어 예외 (없으면 null) */
+  public RuntimeException getLastError() {
+    return lastError;
+  }
+
+  /** @return 실행 시각이 지났지만 아직 꺼내지 않은 작업 수 */
+  public long getBacklog() {
+    return delayedJobService.dueCount(queue);
+  }
+
+  private void pollLoop() {
+    while (running) {
+      try {
+        long sleepMillis = poll();
+        if (sleepMillis > 0) {
+          Thread.sleep(sleepMillis);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (RuntimeException e) {
+        recordError(e);
+        try {
+          Thread.sleep(ERROR_BACKOFF_MILLIS);
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * ack 를 보내고 워커가 처리할 수 있는 만큼 작업을 꺼내서 넘긴다.
+   *
+   * @return 다음 폴링까지 쉴 시간 (밀리초)
+   */
+  private long poll() throws InterruptedException {
+    flushAcks();
+    int limit = Math.min(claimBatchSize, inFlight.availablePermits());
+    if (limit == 0) {
+      // 워커가 모두 바쁘면 하나가 끝날 때까지 기다린다.
+      if (inFlight.tryAcquire(maxPollIntervalMillis, TimeUnit.MILLISECONDS)) {
+        inFlight.release();
+      }
+      return 0;
+    }
+
+    long now = System.currentTimeMillis();
+    List<String> result = claim(now, limit);
+    List<String> jobs = result.subList(1, result.size());
+    claimCount.increment();
+    claimedJobCount.add(jobs.size());
+    for (String job : jobs) {
+      inFlight.acquire();
+      workers.execute(() -> handle(job));
+    }
+    if (jobs.size() == limit) {
+      // 실행 시각이 된 작업이 더 있을 수 있다.
+      return 0;
+    }
+    String nextDue = result.get(0);
+    if (nextDue.isEmpty()) {
+      return maxPollIntervalMillis;
+    }
+    long untilNextDue = (long) Math.ceil(Double.parseDouble(nextDue)) - now;
+    return Math.max(0, Math.min(untilNextDue, maxPollIntervalMillis));
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<String> claim(final long now, final int limit) {
+    List<String> result =
+        stringRedisTemplate.execute(
+            ExampleDelayedJobService.CLAIM_SCRIPT,
+            List.of(queue, processingKey),
+            String.valueOf(now),
+            String.valueOf(now + visibilityTimeoutMillis),
+            String.valueOf(limit));
+    return result == null || result.isEmpty() ? List.of("") : result;
+  }
+
+  private void handle(final String job) {
+    try {
+      handler.accept(job);
+      acks.add(job);
+    } catch (RuntimeException e) {
+      failures.add(job);
+    } finally {
+      inFlight.release();
+    }
+  }
+
+  /** 처리한 작업을 처리 중 Sorted Set 에서 지우고(ZREM) 실패한 작업은 {queue}:dead 로 옮긴다. (파이프라인 한 번) */
+  private void flushAcks() {
+    List<String> acked = drain(acks);
+    List<String> failed = drain(failures);
+    if (acked.isEmpty() && failed.isEmpty()) {
+      return;
+    }
+    try {
+      stringRedisTemplate.executePipelined(
+          (RedisCallback<Object>)
+              redisConnection -> {
+                StringRedisConnection connection = (StringRedisConnection) redisConnection;
+                for (int from = 0; from < acked.size(); from += pipelineBatchSize) {
+                  List<String> batch =
+                      acked.subList(from, Math.min(from + pipelineBatchSize, acked.size()));
+                  connection.zRem(processingKey, batch.toArray(new String[0]));
+                }
+                for (String job : failed) {
+                  connection.zRem(processingKey, job);
+                  connection.lPush(deadLetterKey, job);
+                }
+                return null;
+              });
+    } catch (RuntimeException e) {
+      // 다음 flush 때 다시 보낸다.
+      acks.addAll(acked);
+      failures.addAll(failed);
+      throw e;
+    }
+    processedCount.add(acked.size());
+    failedCount.add(failed.size());
+  }
+
+  private static List<String> drain(final Queue<String> jobs) {
+    List<String> drained = new ArrayList<>();
+    String job;
+    while ((job = jobs.poll()) != null) {
+      drained.add(job);
+    }
+    return drained;
+  }
+
+  private void recordError(final RuntimeException e) {
+    errorCount.increment();
+    lastError = e;
+  }
+}
@@ -0,0 +1,225 @@
+package com.redis.example.redistemplate.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import net.jpountz.xxhash.XXHash64;
+import net.jpountz.xxhash.XXHashFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.BitFieldSubCommands;
+import org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Resource;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 레디스 비트맵(String)으로 만든 Bloom filter 예제 서비스
+ *
+ * <p>아주 큰 Set 으로 중복을 확인하는 대신, 값마다 hash-count 개의 비트를 켜두고 그 비트가 모두 켜져 있으면 있다고 판단한다. 없는 값을
+ * 있다고 잘못 판단할 확률은 false-positive-rate 이하이고(들어간 값이 expected-insertions 이하일 때), 있는 값을 없다고 판단하지는 않는다.
+ * 비트 수는 expected-insertions 와 false-positive-rate 로 정해지며, 값 하나에 약 -ln(p) / (ln 2)^2 비트를 쓴다.
+ * (1% 일 때 약 9.6 비트)
+ *
+ * <p>값 하나의 비트는 BITFIELD 명령어 하나로 한 번에 켜거나(SET u1) 읽고(GET u1), 여러 값은 pipeline-batch-size 개씩
+ * 파이프라인으로 보낸다. 있다고 확인한 값은 로컬 캐시(local-cache-size 개)에 기억해서 다시 물어보지 않는다. 켜진 비트는 꺼지지 않으므로
+ * 키를 지우지 않는 한 캐시가 틀리지 않는다.
+ *
+ * <p>비트 위치는 크기 설정으로 정해지므로 expected-insertions 나 false-positive-rate 를 바꾸면 기존 필터는 새로 만들어야 한다. 비트맵
+ * 크기는 {@link Integer#MAX_VALUE} 비트(256MB)를 넘을 수 없다. (BITFIELD offset 을 int 로 전달함)
+ */
+@Service
+public class ExampleBloomFilterService {
+  private static final BitFieldType BIT = BitFieldType.unsigned(1);
+  private static final long SECOND_HASH_SEED = 0x9E3779B97F4A7C15L;
+  private static final XXHash64 HASH = XXHashFactory.fastestInstance().hash64();
+
+  @Resource private StringRedisTemplate stringRedisTemplate;
+
+  @Value("${example.redis.bloom.expected-insertions:100000000}")
+  private long expectedInsertions;
+
+  @Value("${example.redis.bloom.false-positive-rate:0.01}")
+  private double falsePositiveRate;
+
+  @Value("${example.redis.bloom.local-cache-size:100000}")
+  private long localCacheSize;
+
+  @Value("${example.redis.bloom.pipeline-batch-size:1000}")
+  private int pipelineBatchSize;
+
+  private long bitSize;
+  private int hashCount;
+  private Cache<String, Boolean> presentCache;
+
+  private final LongAdder localHitCount = new LongAdder();
+
+  @PostConstruct
+  public void init() {
+    if (expectedInsertions <= 0) {
+      throw new IllegalStateException(
+          "expected-insertions 는 1 이상이어야 합니다. expectedInsertions: " + expectedInsertions);
+    }
+    if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalStateException(
+          "false-positive-rate 는 0 보다 크고 1 보다 작아야 합니다. falsePositiveRate: " + falsePositiveRate);
+    }
+    double ln2 = Math.log(2);
+    bitSize = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+    if (bitSize > Integer.MAX_VALUE) {
+      throw new IllegalStateException(
+          "Bloom filter 크기가 최대 비트 수를 넘습니다. bitSize: "
+              + bitSize
+              + ", max: "
+              + Integer.MAX_VALUE
+              + " (expected-insertions 를 줄이거나 키를 나누어야 합니다.)");
+    }
+    hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * ln2));
+    presentCache = Caffeine.newBuilder().maximumSize(localCacheSize).build();
+  }
+
+  /**
+   * Bloom filter 에 값을 추가하는 메소드
+   *
+   * @param key 비트맵의 키
+   * @param value 추가할 값
+   * @return 새로 추가된 값인지 여부 (false 이면 이미 있었거나, false-positive-rate 확률로 있다고 잘못 판단한 값)
+   */
+  public boolean add(final String key, final String value) {
+    return addAll(key, List.of(value)).get(0);
+  }
+
+  /**
+   * Bloom filter 에 여러 값을 추가하는 메소드 (BITFIELD 파이프라인)
+   *
+   * <p>로컬 캐시에 있는 값은 레디스에 보내지 않는다. 같은 값이 여러 번 있으면 처음 것만 새로 추가된 값으로 본다.
+   *
+   * @param key 비트맵의 키
+   * @param values 추가할 값 목록
+   * @return values 순서대로 새로 추가된 값인지 여부
+   */
+  public List<Boolean> addAll(final String key, final List<String> values) {
+    return execute(key, values, true);
+  }
+
+  /**
+   * Bloom filter 에 값이 있는지 확인하는 메소드
+   *
+   * @param key 비트맵의 키
+   * @param value 확인할 값
+   * @return 있을 수 있으면 true (false-positive-rate 확률로 틀림), 확실히 없으면 false
+   */
+  public boolean mightContain(final String key, final String value) {
+    return mightContainAll(key, List.of(value)).get(0);
+  }
+
+  /**
+   * Bloom filter 에 여러 값이 있는지 확인하는 메소드 (BITFIELD 파이프라인)
+   *
+   * @param key 비트맵의 키
+   * @param values 확인할 값 목록
+   * @return values 순서대로 있을 수 있는지 여부
+   */
+  public List<Boolean> mightContainAll(final String key, final List<String> values) {
+    return execute(key, values, false);
+  }
+
+  /**
+   * Bloom filter 를 삭제하는 메소드 (로컬 캐시도 모두 비움)
+   *
+   * @param key 비트맵의 키
+   * @return 삭제 여부
+   */
+  public boolean delete(final String key) {
+    Boolean deleted = stringRedisTemplate.delete(key);
+    presentCache.invalidateAll();
+    return Boolean.TRUE.equals(deleted);
+  }
+
+  /** @return 비트맵의 비트 수 */
+  public long getBitSize() {
+    return bitSize;
+  }
+
+  /** @return 값 하나에 사용하는 비트(hash 함수) 수 */
+  public int getHashCount() {
+    return hashCount;
+  }
+
+  /** @return 로컬 캐시로 레디스에 묻지 않고 처리한 값의 수 */
+  public long getLocalHitCount() {
+    return localHitCount.sum();
+  }
+
+  private List<Boolean> execute(final String key, final List<String> values, final boolean add) {
+    List<Boolean> results = new ArrayList<>(values.size());
+    List<Integer> missIndexes = new ArrayList<>();
+    for (int i = 0; i < values.size(); i++) {
+      if (presentCache.getIfPresent(cacheKey(key, values.get(i))) != null) {
+        localHitCount.increment();
+        results.add(!add);
+      } else {
+        results.add(null);
+        missIndexes.add(i);
+      }
+    }
+
+    for (int from = 0; from < missIndexes.size(); from += pipelineBatchSize) {
+      List<Integer> batch =
+          missIndexes.subList(from, Math.min(from + pipelineBatchSize, missIndexes.size()));
+      List<Object> replies =
+          stringRedisTemplate.executePipelined(
+              (RedisCallback<Object>)
+                  redisConnection -> {
+                    StringRedisConnection connection = (StringRedisConnection) redisConnection;
+                    for (int index : batch) {
+                      connection.bitfield(key, subCommands(values.get(index), add));
+                    }
+                    return null;
+                  });
+      for (int i = 0; i < batch.size(); i++) {
+        int index = batch.get(i);
+        boolean allBitsSet = allBitsSet(replies.get(i));
+        if (add || allBitsSet) {
+          presentCache.put(cacheKey(key, values.get(index)), Boolean.TRUE);
+        }
+        // 추가할 때는 이전 비트 중 하나라도 꺼져 있었으면 새로 추가된 값
+        results.set(index, add != allBitsSet);
+      }
+    }
+    return results;
+  }
+
+  private BitFieldSubCommands subCommands(final String value, final boolean set) {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    long hash1 = HASH.hash(bytes, 0, bytes.length, 0);
+    long hash2 = HASH.hash(bytes, 0, bytes.length, SECOND_HASH_SEED);
+    BitFieldSubCommands subCommands = BitFieldSubCommands.create();
+    for (int i = 0; i < hashCount; i++) {
+      long offset = Math.floorMod(hash1 + i * hash2, bitSize);
+      subCommands =
+          set ? subCommands.set(BIT).valueAt(offset).to(1) : subCommands.get(BIT).valueAt(offset);
+    }
+    return subCommands;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static boolean allBitsSet(final Object reply) {
+    for (Long bit : (List<Long>) reply) {
+      if (bit == null || bit == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String cacheKey(final String key, final String value) {
+    return key.length() + ":" + key + value;
+  }
+}
@@ -0,0 +1,247 @@
+package com.redis.example.redistemplate.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.DefaultStringTuple;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.StringRedisConnection.StringTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.Resource;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Sorted Set 으로 만든 지연 작업(delayed job) 스케줄러 예제 서비스
+ *
+ * <p>작업은 실행 시각(epoch 밀리초)을 score 로 해서 Sorted Set 에 넣는다. 폴러는 Lua 스크립트 하나로 실행 시각이 지난 작업을 최대
+ * claim-batch-size 개 꺼내고(ZRANGEBYSCORE LIMIT + ZREM), 같은 스크립트에서 처리 중 Sorted Set 으로 옮기므로 여러 애플리케이션
+ * 서버가 같은 큐를 폴링해도 한 작업은 한 서버에만 전달된다. 처리가 끝난 작업은 처리 중 Sorted Set 에서 지우고(ack), 처리 중인 서버가 죽어서
+ * visibility-timeout 안에 ack 하지 않은 작업은 다음 claim 때 다시 실행 대상이 된다. 따라서 작업은 최소 한 번(at-least-once) 처리되며
+ * 작업 처리는 멱등해야 한다.
+ *
+ * <p>작업 데이터가 Sorted Set 의 멤버이므로 같은 작업 데이터를 다시 넣으면 실행 시각만 바뀐다. 서로 다른 작업은 데이터에 작업 id 등을 넣어
+ * 구분해야 한다.
+ *
+ * <p>사용하는 키는 아래와 같다. 클러스터에서는 세 키가 같은 슬롯에 있도록 queue 에 해시 태그({...})를 넣어야 한다.
+ *
+ * <ul>
+ *   <li>{queue} : 실행을 기다리는 작업 (Sorted Set, score 는 실행 시각)
+ *   <li>{queue}:processing : 처리 중인 작업 (Sorted Set, score 는 visibility-timeout 이 끝나는 시각)
+ *   <li>{queue}:dead : 처리에 실패한 작업 리스트
+ * </ul>
+ *
+ * <p>실행 시각은 각 서버의 시계를 사용하므로, 서버 간 시계 차이만큼 작업이 일찍 혹은 늦게 실행될 수 있다.
+ */
+@Service
+public class ExampleDelayedJobService {
+  static final String PROCESSING_KEY_SUFFIX = ":processing";
+  static final String DEAD_LETTER_KEY_SUFFIX = ":dead";
+
+  /**
+   * visibility-timeout 이 지난 처리 중 작업을 다시 실행 대상으로 되돌린 후, 실행 시각이 ARGV[1] 이전인 작업을 최대 ARGV[3] 개 처리 중
+   * Sorted Set 으로 옮긴다. (score 는 ARGV[2])
+   *
+   * <p>반환값: {남은 작업 중 가장 이른 실행 시각 (없으면 빈 문자열), 작업1, 작업2, ...}
+   */
+  @SuppressWarnings("rawtypes")
+  static final RedisScript<List> CLAIM_SCRIPT =
+      new DefaultRedisScript<>(
+          "local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1], "
+              + "'LIMIT', 0, ARGV[3]) "
+              + "for _, job in ipairs(expired) do "
+              + "  redis.call('ZADD', KEYS[1], 'NX', ARGV[1], job) "
+              + "end "
+              + "if #expired > 0 then redis.call('ZREM', KEYS[2], unpack(expired)) end "
+              + "local jobs = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], "
+              + "'LIMIT', 0, ARGV[3]) "
+              + "for _, job in ipairs(jobs) do "
+              + "  redis.call('ZADD', KEYS[2], ARGV[2], job) "
+              + "end "
+              + "if #jobs > 0 then redis.call('ZREM', KEYS[1], unpack(jobs)) end "
+              + "local first = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES') "
+              + "table.insert(jobs, 1, first[2] or '') "
+              + "return jobs",
+          List.class);
+
+  @Resource private StringRedisTemplate stringRedisTemplate;
+
+  @Resource private ExampleSortedSetOperationsService exampleSortedSetOperationsService;
+
+  @Value("${example.redis.delayed-job.claim-batch-size:100}")
+  private int claimBatchSize;
+
+  @Value("${example.redis.delayed-job.max-poll-interval:PT1S}")
+  private Duration maxPollInterval;
+
+  @Value("${example.redis.delayed-job.visibility-timeout:PT30S}")
+  private Duration visibilityTimeout;
+
+  @Value("${example.redis.delayed-job.pipeline-batch-size:1000}")
+  private int pipelineBatchSize;
+
+  /**
+   * 작업을 dueAt 에 실행하도록 넣는 메소드 (이미 있는 작업이면 실행 시각만 바뀜)
+   *
+   * @param queue 작업 Sorted Set 의 키
+   * @param job 작업 데이터
+   * @param dueAt 실행 시각
+   * @return 새로 추가되었는지 여부
+   */
+  public boolean schedule(final String queue, final String job, final Instant dueAt) {
+    return exampleSortedSetOperationsService.addValueToSet(queue, job, dueAt.toEpochMilli());
+  }
+
+  /**
+   * 작업을 delay 후에 실행하도록 넣는 메소드
+   *
+   * @param queue 작업 Sorted Set 의 키
+   * @param job 작업 데이터
+   * @param delay 지금부터 실행까지의 시간
+   * @return 새로 추가되었는지 여부
+   */
+  public boolean schedule(final String queue, final String job, final Duration delay) {
+    return schedule(queue, job, Instant.now().plus(delay));
+  }
+
+  /**
+   * 작업 여러 개를 넣는 메소드 (pipeline-batch-size 개씩 나눈 ZADD 를 파이프라인 하나로 보냄)
+   *
+   * @param queue 작업 Sorted Set 의 키
+   * @param jobs 작업 데이터 - 실행 시각
+   * @return 새로 추가된 작업 수
+   */
+  public long scheduleAll(final String queue, final Map<String, Instant> jobs) {
+    List<Set<StringTuple>> chunks = new ArrayList<>();
+    Set<StringTuple> chunk = new HashSet<>();
+    for (Map.Entry<String, Instant> job : jobs.entrySet()) {
+      byte[] value = job.getKey().getBytes(StandardCharsets.UTF_8);
+      double score = job.getValue().toEpochMilli();
+      chunk.add(new DefaultStringTuple(value, job.getKey(), score));
+      if (chunk.size() == pipelineBatchSize) {
+        chunks.add(chunk);
+        chunk = new HashSet<>();
+      }
+    }
+    if (!chunk.isEmpty()) {
+      chunks.add(chunk);
+    }
+
+    List<Object> results =
+        stringRedisTemplate.executePipelined(
+            (RedisCallback<Object>)
+                redisConnection -> {
+                  StringRedisConnection connection = (StringRedisConnection) redisConnection;
+                  for (Set<StringTuple> tuples : chunks) {
+                    connection.zAdd(queue, tuples);
+                  }
+                  return null;
+                });
+    return results.stream().mapToLong(added -> added == null ? 0 : (Long) added).sum();
+  }
+
+  /**
+   * 아직 실행되지 않은 작업을 취소하는 메소드
+   *
+   * @param queue 작업 Sorted Set 의 키
+   * @param job 작업 데이터
+   * @return 취소되었는지 여부 (이미 꺼내졌거나 없는 작업이면 false)
+   */
+  public boolean cancel(final String queue, final String job) {
+    Long removed = exampleSortedSetOperationsService.remove(queue, job);
+    return removed != null && removed > 0;
+  }
+
+  /**
+   * 실행을 기다리는 작업 수 (ZCARD)
+   *
+   * @param queue 작업 Sorted Set 의 키
+   * @return 실행을 기다리는 작업 수 (실행 시각이 아직 안 된 작업 포함, 처리 중인 작업 제외)
+   */
+  public long pendingCount(final String queue) {
+    return exampleSortedSetOperationsService.size(queue);
+  }
+
+  /**
+   * 실행 시각이 지났지만 아직 꺼내지지 않은 작업 수 (ZCOUNT, 폴러가 밀린 정도)
+   *
+   * @param queue 작업 Sorted Set 의 키
+   * @return 실행 시각이 지난 작업 수
+   */
+  public long dueCount(final String queue) {
+    return exampleSortedSetOperationsService.count(
+        queue, Double.NEGATIVE_INFINITY, System.currentTimeMillis());
+  }
+
+  /**
+   * 처리 중인 작업 수
+   *
+   * @param queue 작업 Sorted Set 의 키
+   * @return 처리 중인 작업 수 (visibility-timeout 이 지나서 다시 실행될 작업 포함)
+   */
+  public long processingCount(final String queue) {
+    return exampleSortedSetOperationsService.size(queue + PROCESSING_KEY_SUFFIX);
+  }
+
+  /**
+   * 처리에 실패해서 {queue}:dead 리스트로 옮겨진 작업 수
+   *
+   * @param queue 작업 Sorted Set 의 키
+   * @return 실패한 작업 수
+   */
+  public long deadLetterCount(final String queue) {
+    Long size = stringRedisTemplate.opsForList().size(queue + DEAD_LETTER_KEY_SUFFIX);
+    return size == null ? 0 : size;
+  }
+
+  /**
+   * 실행 시각이 된 작업을 꺼내서 워커 스레드에서 처리하는 폴러를 시작하는 메소드
+   *
+   * <p>폴러 스레드는 워커가 바로 처리할 수 있는 만큼(최대 claim-batch-size 개)만 꺼낸다. 꺼낸 작업 수가 요청한 수보다 적으면 남은 작업 중 가장
+   * 이른 실행 시각까지 쉬는데, 다른 서버가 그보다 이른 작업을 넣을 수 있으므로 max-poll-interval 보다 오래 쉬지는 않는다. 따라서 작업이
+   * 없을 때는 max-poll-interval 마다 한 번만 레디스를 호출하고, 작업은 최대 max-poll-interval 만큼 늦게 실행될 수 있다.
+   *
+   * <p>handler 는 visibility-timeout 안에 끝나야 한다. 그렇지 않으면 같은 작업이 다시 실행된다. handler 가 예외를 던진 작업은
+   * {queue}:dead 리스트로 옮긴다.
+   *
+   * @param queue 작업 Sorted Set 의 키
+   * @param workerCount 워커 스레드 수
+   * @param handler 작업 처리 로직
+   * @return 실행 중인 폴러 (close 하면 처리 중인 작업을 마치고 종료)
+   */
+  public DelayedJobPoller startPoller(
+      final String queue, final int workerCount, final Consumer<String> handler) {
+    if (workerCount <= 0) {
+      throw new IllegalArgumentException("workerCount 는 1 이상이어야 합니다. workerCount: " + workerCount);
+    }
+    if (visibilityTimeout.compareTo(maxPollInterval.multipliedBy(2)) < 0) {
+      throw new IllegalStateException(
+          "visibility-timeout 은 max-poll-interval 의 2배 이상이어야 합니다. visibilityTimeout: "
+              + visibilityTimeout
+              + ", maxPollInterval: "
+              + maxPollInterval);
+    }
+    DelayedJobPoller poller =
+        new DelayedJobPoller(
+            this,
+            stringRedisTemplate,
+            queue,
+            handler,
+            claimBatchSize,
+            maxPollInterval,
+            visibilityTimeout,
+            pipelineBatchSize);
+    poller.start(workerCount);
+    return poller;
+  }
+}
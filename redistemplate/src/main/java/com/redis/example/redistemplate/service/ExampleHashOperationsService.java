@@ -1,19 +1,31 @@
 package com.redis.example.redistemplate.service;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
 
 import javax.annotation.Resource;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
+/** 레디스의 집합형 자료형 중 하나인 Hash 형식에 대한 예제 서비스 */
+@Service
 public class ExampleHashOperationsService {
   @Resource private StringRedisTemplate stringRedisTemplate;
 
+  @Value("${example.redis.hash.scan-count:1000}")
+  private int scanCount;
+
+  @Value("${example.redis.hash.entries-max-size:10000}")
+  private long entriesMaxSize;
+
   /**
    * Hash 자료형 내에 field 명이 존재유무를 확인하는 메소드
    *
@@ -87,17 +99,78 @@ public class ExampleHashOperationsService {
   /**
    * Hash 자료형 내에 존재하는 모든 field - value 쌍 데이터를 조회하는 메소드
    *
+   * <p>HGETALL 은 Hash 전체를 한번에 응답하므로, 큰 Hash 에서는 레디스를 오래 붙잡고 애플리케이션 메모리도 많이 쓴다. field 갯수가
+   * example.redis.hash.entries-max-size(기본값 10000) 보다 많으면 조회하지 않고 예외를 던지므로, 큰 Hash 는
+   * {@link ExampleHashOperationsService#streamEntries(String)} 로 나누어 읽어야 한다.
+   *
    * @param key Hash 자료형의 key
    * @return 조건에 부합하는 데이터 field - value Map 객체
+   * @throws IllegalStateException field 갯수가 제한보다 많은 경우
    */
   public Map<String, String> entries(final String key) {
     HashOperations<String, String, String> stringHashOperations = stringRedisTemplate.opsForHash();
+    long size = stringHashOperations.size(key);
+    if (size > entriesMaxSize) {
+      throw new IllegalStateException(
+          "Hash 의 field 갯수가 entries 로 조회할 수 있는 최대 갯수보다 많습니다. key: "
+              + key
+              + ", size: "
+              + size
+              + ", entriesMaxSize: "
+              + entriesMaxSize);
+    }
     return stringHashOperations.entries(key);
   }
 
+  /**
+   * Hash 자료형 내에 존재하는 모든 field - value 쌍 데이터를 HSCAN 으로 나누어 읽는 Stream
+   *
+   * <p>COUNT 는 example.redis.hash.scan-count(기본값 1000) 를 사용한다.
+   *
+   * @param key Hash 자료형의 key
+   * @return field - value 쌍 Stream
+   * @see ExampleHashOperationsService#streamEntries(String, int)
+   */
+  public Stream<Map.Entry<String, String>> streamEntries(final String key) {
+    return streamEntries(key, scanCount);
+  }
+
+  /**
+   * Hash 자료형 내에 존재하는 모든 field - value 쌍 데이터를 HSCAN 으로 나누어 읽는 Stream
+   *
+   * <p>다음 묶음은 앞의 묶음을 다 소비한 뒤에 요청하므로, 읽는 속도를 소비하는 쪽에서 조절하고 메모리에는 한 묶음만 올라간다. 끝까지 읽으면
+   * Cursor 가 자동으로 닫히고, 중간에 멈출 수 있다면 try-with-resources 로 Stream 을 닫아야 한다. 읽는 도중에 Hash 가 바뀌면 같은
+   * field 가 두 번 나올 수 있다. (HSCAN 의 특성)
+   *
+   * @param key Hash 자료형의 key
+   * @param count HSCAN 한 번에 읽을 field 갯수의 기준값 (COUNT)
+   * @return field - value 쌍 Stream
+   */
+  public Stream<Map.Entry<String, String>> streamEntries(final String key, final int count) {
+    return CursorStreams.stream(scan(key, scanOptions(count)));
+  }
+
+  /**
+   * {@link ExampleHashOperationsService#streamEntries(String, int)} 의 결과를 chunkSize 개씩 묶어서 흘려보내는 Stream
+   *
+   * <p>묶음 단위로 파이프라인이나 배치 처리를 할 때 사용한다.
+   *
+   * @param key Hash 자료형의 key
+   * @param count HSCAN 한 번에 읽을 field 갯수의 기준값 (COUNT)
+   * @param chunkSize 묶음 하나의 최대 field 갯수
+   * @return field - value 쌍 목록 Stream
+   */
+  public Stream<List<Map.Entry<String, String>>> streamEntryChunks(
+      final String key, final int count, final int chunkSize) {
+    return CursorStreams.chunked(scan(key, scanOptions(count)), chunkSize);
+  }
+
   /**
    * Hash 자료형 내에, 특정 조건에 부합하는 데이터를 조건검색 하는 메소드
    *
+   * <p>반환한 Cursor 는 커넥션을 붙잡고 있으므로 사용 후 반드시 닫아야 한다. 전체 field 를 읽을 때는
+   * {@link ExampleHashOperationsService#streamEntries(String, int)} 를 사용하는 것이 안전하다.
+   *
    * @param key Hash 자료형의 key
    * @param scanOptions 검색을 하기 위한 조건객체
    * @return 조건에 부합하는 데이터 목록
@@ -181,4 +254,34 @@ public class ExampleHashOperationsService {
     HashOperations<String, String, String> stringHashOperations = stringRedisTemplate.opsForHash();
     return stringHashOperations.increment(key, hashKey, increaseValue);
   }
+
+  /**
+   * 커넥션 하나를 고정한 채로 Hash 명령어 여러 개를 실행하는 메소드 (세션 모드)
+   *
+   * <p>커넥션을 고정하는 방식과 효과는 {@link StringSessionCallback} 참고
+   *
+   * <pre>
+   * service.executeInSession(
+   *     hashOperations -> {
+   *       hashOperations.put(key, "field", "value");
+   *       return hashOperations.entries(key);
+   *     });
+   * </pre>
+   *
+   * @param callback 고정된 커넥션으로 실행할 작업
+   * @param <T> 작업 결과 타입
+   * @return callback 의 반환값
+   */
+  public <T> T executeInSession(
+      final Function<HashOperations<String, String, String>, T> callback) {
+    return stringRedisTemplate.execute(
+        new StringSessionCallback<>(operations -> callback.apply(operations.opsForHash())));
+  }
+
+  private static ScanOptions scanOptions(final int count) {
+    if (count <= 0) {
+      throw new IllegalArgumentException("count 는 1 이상이어야 합니다. count: " + count);
+    }
+    return ScanOptions.scanOptions().count(count).build();
+  }
 }
@@ -0,0 +1,384 @@
+package com.redis.example.redistemplate.service;
+
+import com.redis.example.redistemplate.dto.LeaderboardEntry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sorted Set 으로 만든 리더보드 예제 컴포넌트
+ *
+ * <p>점수 이벤트마다 ZINCRBY 를 보내는 대신, 리더보드와 멤버별로 점수 변화량을 {@link DoubleAdder} 에 모아두고 전용 스레드가
+ * flush-interval 마다 멤버별 ZINCRBY 한 번씩을 파이프라인으로 보낸다. 같은 멤버에 이벤트가 몰릴수록 레디스 쓰기 횟수가 크게 줄어든다.
+ * 대신 점수는 최대 flush-interval 만큼 늦게 반영되고, 서버가 비정상 종료되면 보내지 못한 변화량은 유실된다.
+ *
+ * <p>상위 N 명은 snapshot-size 명까지 레디스에서 읽어둔 스냅샷을 snapshot-ttl 동안 재사용한다. 특정 멤버 주변 순위는 Lua 스크립트로
+ * ZREVRANK 와 ZREVRANGE 를 한 번에 실행한다.
+ *
+ * <p>example.redis.leaderboard.enabled=true 일 때만 빈으로 등록된다.
+ */
+@Service
+@ConditionalOnProperty(
+    prefix = "example.redis.leaderboard",
+    name = "enabled",
+    havingValue = "true")
+public class ExampleLeaderboardService {
+  /**
+   * ARGV[1] 멤버의 내림차순 순위와 앞뒤 ARGV[2] 명의 멤버, 점수를 반환 (멤버가 없으면 빈 목록)
+   *
+   * <p>반환값: {첫 번째 멤버의 순위, 멤버1, 점수1, 멤버2, 점수2, ...}
+   */
+  @SuppressWarnings("rawtypes")
+  static final RedisScript<List> AROUND_SCRIPT =
+      new DefaultRedisScript<>(
+          "local rank = redis.call('ZREVRANK', KEYS[1], ARGV[1]) "
+              + "if not rank then return {} end "
+              + "local start = math.max(rank - tonumber(ARGV[2]), 0) "
+              + "local entries = redis.call('ZREVRANGE', KEYS[1], start, rank + tonumber(ARGV[2]), "
+              + "'WITHSCORES') "
+              + "table.insert(entries, 1, start) "
+              + "return entries",
+          List.class);
+
+  @Resource private StringRedisTemplate stringRedisTemplate;
+
+  @Value("${example.redis.leaderboard.flush-interval:PT0.1S}")
+  private Duration flushInterval;
+
+  @Value("${example.redis.leaderboard.pipeline-batch-size:1000}")
+  private int pipelineBatchSize;
+
+  @Value("${example.redis.leaderboard.snapshot-size:100}")
+  private int snapshotSize;
+
+  @Value("${example.redis.leaderboard.snapshot-ttl:PT1S}")
+  private Duration snapshotTtl;
+
+  /** 리더보드 키 - 멤버 - 모아둔 점수 변화량 */
+  private final Map<String, Map<String, PendingScore>> pendingScores = new ConcurrentHashMap<>();
+
+  /** 지난 flush 에서 맵에서 뺀 멤버 (flush 에서만 접근) */
+  private Map<String, List<PendingScore>> retiredScores = new HashMap<>();
+
+  private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+  private final LongAdder eventCount = new LongAdder();
+  private final LongAdder flushedMemberCount = new LongAdder();
+  private final LongAdder flushCount = new LongAdder();
+  private final LongAdder snapshotHitCount = new LongAdder();
+  private final LongAdder errorCount = new LongAdder();
+
+  private volatile boolean running;
+  private volatile RuntimeException lastError;
+  private Thread flusher;
+
+  @PostConstruct
+  public void start() {
+    running = true;
+    flusher = new Thread(this::flushLoop, "leaderboard-flusher");
+    flusher.setDaemon(true);
+    flusher.start();
+  }
+
+  /** 모아둔 변화량을 모두 보낸 후 종료한다. */
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    running = false;
+    flusher.interrupt();
+    flusher.join(TimeUnit.SECONDS.toMillis(5));
+    flush();
+  }
+
+  /**
+   * 멤버의 점수를 delta 만큼 올리는 메소드 (레디스에는 다음 flush 때 반영)
+   *
+   * @param key 리더보드(Sorted Set)의 키
+   * @param member 멤버
+   * @param delta 점수 변화량 (음수면 내림)
+   */
+  public void incrementScore(final String key, final String member, final double delta) {
+    if (!Double.isFinite(delta)) {
+      // 레디스가 거부하는 값이 섞이면 그 멤버가 든 파이프라인이 매번 실패하므로 미리 막는다.
+      throw new IllegalArgumentException("delta 는 유한한 수여야 합니다. delta: " + delta);
+    }
+    Map<String, PendingScore> members = pendingScores.get(key);
+    if (members == null) {
+      members = pendingScores.computeIfAbsent(key, ignored -> new ConcurrentHashMap<>());
+    }
+    PendingScore pendingScore = members.get(member);
+    if (pendingScore == null) {
+      pendingScore = members.computeIfAbsent(member, PendingScore::new);
+    }
+    pendingScore.delta.add(delta);
+    eventCount.increment();
+  }
+
+  /**
+   * 점수 상위 count 명을 조회하는 메소드
+   *
+   * <p>count 가 snapshot-size 이하이면 snapshot-ttl 동안 재사용하는 스냅샷에서 읽는다. 스냅샷이 만료되면 먼저 조회한 스레드 하나만
+   * 레디스에서 다시 읽고, 나머지 스레드는 그 결과를 기다린다.
+   *
+   * @param key 리더보드(Sorted Set)의 키
+   * @param count 조회할 멤버 수
+   * @return 점수 내림차순 멤버 목록
+   */
+  public List<LeaderboardEntry> top(final String key, final int count) {
+    if (count > snapshotSize) {
+      return readTop(key, count);
+    }
+    long now = System.nanoTime();
+    Snapshot snapshot = snapshots.get(key);
+    if (snapshot != null && snapshot.isValid(now)) {
+      snapshotHitCount.increment();
+    } else {
+      snapshot =
+          snapshots.compute(
+              key,
+              (ignored, old) -> old != null && old.isValid(System.nanoTime()) ? old : load(key));
+    }
+    List<LeaderboardEntry> entries = snapshot.entries;
+    return entries.subList(0, Math.min(count, entries.size()));
+  }
+
+  /**
+   * 멤버와 그 앞뒤 radius 명의 순위, 점수를 한 번에 조회하는 메소드
+   *
+   * @param key 리더보드(Sorted Set)의 키
+   * @param member 기준 멤버
+   * @param radius 앞뒤로 조회할 멤버 수
+   * @return 점수 내림차순 멤버 목록 (기준 멤버가 없으면 빈 목록)
+   */
+  public List<LeaderboardEntry> around(final String key, final String member, final int radius) {
+    if (radius < 0) {
+      throw new IllegalArgumentException("radius 는 0 이상이어야 합니다. radius: " + radius);
+    }
+    List<?> reply =
+        stringRedisTemplate.execute(AROUND_SCRIPT, List.of(key), member, String.valueOf(radius));
+    List<LeaderboardEntry> entries = new ArrayList<>();
+    if (reply == null || reply.isEmpty()) {
+      return entries;
+    }
+    long rank = (Long) reply.get(0);
+    for (int i = 1; i + 1 < reply.size(); i += 2) {
+      entries.add(
+          new LeaderboardEntry(
+              rank++, (String) reply.get(i), Double.parseDouble((String) reply.get(i + 1))));
+    }
+    return entries;
+  }
+
+  /**
+   * 모아둔 점수 변화량을 지금 바로 레디스에 보내는 메소드
+   *
+   * <p>flush 스레드가 flush-interval 마다 호출하므로 보통은 직접 호출할 필요가 없다. 파이프라인에서 실패한 명령어의 변화량만 다음 flush 때
+   * 다시 보낸다. 연결이 끊어져서 결과를 받지 못한 경우에는 이미 반영된 변화량이 다시 보내질 수 있다.
+   */
+  public synchronized void flush() {
+    Map<String, List<PendingScore>> previouslyRetired = retiredScores;
+    retiredScores = new HashMap<>();
+    for (Map.Entry<String, Map<String, PendingScore>> board : pendingScores.entrySet()) {
+      flush(
+          board.getKey(),
+          board.getValue(),
+          previouslyRetired.getOrDefault(board.getKey(), List.of()));
+    }
+  }
+
+  /** @return incrementScore 호출 수 */
+  public long getEventCount() {
+    return eventCount.sum();
+  }
+
+  /** @return 레디스에 보낸 ZINCRBY 수 */
+  public long getFlushedMemberCount() {
+    return flushedMemberCount.sum();
+  }
+
+  /** @return 파이프라인을 보낸 횟수 */
+  public long getFlushCount() {
+    return flushCount.sum();
+  }
+
+  /** @return 스냅샷으로 처리한 상위 N 명 조회 수 */
+  public long getSnapshotHitCount() {
+    return snapshotHitCount.sum();
+  }
+
+  /** @return 파이프라인 실패 수 */
+  public long getErrorCount() {
+    return errorCount.sum();
+  }
+
+  /** @return 마지막으로 발생한 파이프라인 예외 (없으면 null) */
+  public RuntimeException getLastError() {
+    return lastError;
+  }
+
+  private void flushLoop() {
+    long intervalMillis = flushInterval.toMillis();
+    while (running) {
+      try {
+        Thread.sleep(intervalMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      flush();
+    }
+  }
+
+  /**
+   * 한 리더보드의 변화량을 보낸다.
+   *
+   * <p>DoubleAdder 를 0 으로 되돌리면 그 사이에 더해진 값이 사라질 수 있으므로, 누적값은 그대로 두고 지난번에 보낸 누적값과의 차이만
+   * 보낸다. 한 번의 flush 동안 변화가 없던 멤버는 맵에서 빼되, 빼기 직전에 다른 스레드가 더한 값을 보내기 위해 다음 flush 까지 한 번 더
+   * 확인한다.
+   */
+  private void flush(
+      final String key,
+      final Map<String, PendingScore> members,
+      final List<PendingScore> previouslyRetired) {
+    List<PendingScore> batchScores = new ArrayList<>();
+    List<Double> batchSums = new ArrayList<>();
+
+    for (PendingScore pendingScore : previouslyRetired) {
+      double sum = pendingScore.delta.sum();
+      if (sum != pendingScore.flushed) {
+        batchScores.add(pendingScore);
+        batchSums.add(sum);
+        retire(key, pendingScore);
+      }
+    }
+    for (Map.Entry<String, PendingScore> entry : members.entrySet()) {
+      PendingScore pendingScore = entry.getValue();
+      double sum = pendingScore.delta.sum();
+      if (sum != pendingScore.flushed) {
+        batchScores.add(pendingScore);
+        batchSums.add(sum);
+      } else if (members.remove(entry.getKey(), pendingScore)) {
+        retire(key, pendingScore);
+      }
+      if (batchScores.size() >= pipelineBatchSize) {
+        send(key, batchScores, batchSums);
+      }
+    }
+    send(key, batchScores, batchSums);
+  }
+
+  private void retire(final String key, final PendingScore pendingScore) {
+    retiredScores.computeIfAbsent(key, ignored -> new ArrayList<>()).add(pendingScore);
+  }
+
+  /** scores 마다 sums(배치를 만들 때 읽은 누적값)와 지난번에 보낸 누적값의 차이를 ZINCRBY 로 보낸다. */
+  private void send(final String key, final List<PendingScore> scores, final List<Double> sums) {
+    if (scores.isEmpty()) {
+      return;
+    }
+    try {
+      stringRedisTemplate.executePipelined(
+          (RedisCallback<Object>)
+              redisConnection -> {
+                StringRedisConnection connection = (StringRedisConnection) redisConnection;
+                for (int i = 0; i < scores.size(); i++) {
+                  PendingScore score = scores.get(i);
+                  connection.zIncrBy(key, sums.get(i) - score.flushed, score.member);
+                }
+                return null;
+              });
+      for (int i = 0; i < scores.size(); i++) {
+        // 차이를 더해가면 오차가 쌓여서 변화가 없어도 0 이 아닌 차이가 남을 수 있으므로, 보낸 누적값 자체를 기억한다.
+        scores.get(i).flushed = sums.get(i);
+      }
+      flushedMemberCount.add(scores.size());
+    } catch (RedisPipelineException e) {
+      // 성공한 명령어의 변화량은 반영되었으므로 다시 보내지 않는다.
+      List<Object> results = e.getPipelineResult();
+      if (results.size() == scores.size()) {
+        for (int i = 0; i < scores.size(); i++) {
+          if (!(results.get(i) instanceof Exception)) {
+            scores.get(i).flushed = sums.get(i);
+            flushedMemberCount.increment();
+          }
+        }
+      }
+      errorCount.increment();
+      lastError = e;
+    } catch (RuntimeException e) {
+      errorCount.increment();
+      lastError = e;
+    }
+    flushCount.increment();
+    scores.clear();
+    sums.clear();
+  }
+
+  private Snapshot load(final String key) {
+    List<LeaderboardEntry> entries = Collections.unmodifiableList(readTop(key, snapshotSize));
+    return new Snapshot(entries, System.nanoTime() + snapshotTtl.toNanos());
+  }
+
+  private List<LeaderboardEntry> readTop(final String key, final int count) {
+    Set<ZSetOperations.TypedTuple<String>> tuples =
+        stringRedisTemplate.opsForZSet().reverseRangeWithScores(key, 0, count - 1);
+    List<LeaderboardEntry> entries = new ArrayList<>();
+    if (tuples == null) {
+      return entries;
+    }
+    long rank = 0;
+    for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+      entries.add(new LeaderboardEntry(rank++, tuple.getValue(), tuple.getScore()));
+    }
+    return entries;
+  }
+
+  private static class PendingScore {
+    private final String member;
+
+    /** incrementScore 로 더해진 누적값 (되돌리지 않음) */
+    private final DoubleAdder delta = new DoubleAdder();
+
+    /** 레디스에 보낸 누적값 (flush 에서만 접근) */
+    private double flushed;
+
+    PendingScore(final String member) {
+      this.member = member;
+    }
+  }
+
+  private static class Snapshot {
+    private final List<LeaderboardEntry> entries;
+    private final long expiresAtNanos;
+
+    Snapshot(final List<LeaderboardEntry> entries, final long expiresAtNanos) {
+      this.entries = entries;
+      this.expiresAtNanos = expiresAtNanos;
+    }
+
+    boolean isValid(final long now) {
+      return now - expiresAtNanos < 0;
+    }
+  }
+}
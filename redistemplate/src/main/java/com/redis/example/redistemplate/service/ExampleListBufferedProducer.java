@@ -0,0 +1,198 @@
+package com.redis.example.redistemplate.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 여러 스레드에서 들어오는 List 오른쪽 push 를 키별로 모아서 비동기로 보내는 컴포넌트
+ *
+ * <p>값은 키별 버퍼에 쌓이고, 쌓인 값이 max-batch-size 개가 되거나 flush-interval 이 지나면 전용 스레드가 키마다 여러 값을 담은
+ * RPUSH 한 번씩을 파이프라인 하나로 보낸다. 같은 키의 값은 넣은 순서대로 추가된다. max-length 가 0 보다 크면 같은 파이프라인에서 LTRIM
+ * 으로 리스트를 최근 max-length 개만 남긴다.
+ *
+ * <p>버퍼에 max-buffered 개가 쌓여 있으면 더 받지 않고 {@link ExampleListBufferedProducer#offer(String, String)} 이 false
+ * 를 반환한다. 보내지 못한 값(파이프라인 실패, 종료)은 다시 보내지 않으므로, 유실되면 안 되는 값은 {@link
+ * ExampleListOperationsService#rightPushAll(String, java.util.Collection)} 으로 직접 보내야 한다.
+ *
+ * <p>example.redis.list.buffered-producer.enabled=true 일 때만 빈으로 등록된다.
+ */
+@Service
+@ConditionalOnProperty(
+    prefix = "example.redis.list.buffered-producer",
+    name = "enabled",
+    havingValue = "true")
+public class ExampleListBufferedProducer {
+  @Resource private StringRedisTemplate stringRedisTemplate;
+
+  @Value("${example.redis.list.buffered-producer.max-batch-size:1000}")
+  private int maxBatchSize;
+
+  @Value("${example.redis.list.buffered-producer.flush-interval:PT0.01S}")
+  private Duration flushInterval;
+
+  @Value("${example.redis.list.buffered-producer.max-buffered:100000}")
+  private int maxBuffered;
+
+  @Value("${example.redis.list.buffered-producer.max-length:0}")
+  private long maxLength;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition batchFull = lock.newCondition();
+  private Map<String, List<String>> buffer = new LinkedHashMap<>();
+  private int bufferedCount;
+
+  private final LongAdder pushedCount = new LongAdder();
+  private final LongAdder flushCount = new LongAdder();
+  private final LongAdder rejectedCount = new LongAdder();
+  private final LongAdder lostCount = new LongAdder();
+
+  private volatile boolean running;
+  private volatile RuntimeException lastError;
+  private Thread flusher;
+
+  @PostConstruct
+  public void start() {
+    running = true;
+    flusher = new Thread(this::flushLoop, "list-buffered-producer");
+    flusher.setDaemon(true);
+    flusher.start();
+  }
+
+  /** 새 값을 받지 않고, 버퍼에 남은 값을 모두 보낸 후 종료한다. */
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    running = false;
+    lock.lock();
+    try {
+      batchFull.signal();
+    } finally {
+      lock.unlock();
+    }
+    flusher.join(TimeUnit.SECONDS.toMillis(5));
+  }
+
+  /**
+   * List 자료형의 오른쪽 끝에 추가할 값을 버퍼에 넣는 메소드
+   *
+   * @param key List의 키
+   * @param value List에 넣을 데이터
+   * @return 버퍼에 넣었는지 여부 (버퍼가 가득 찼거나 종료 중이면 false)
+   */
+  public boolean offer(final String key, final String value) {
+    lock.lock();
+    try {
+      if (!running || bufferedCount >= maxBuffered) {
+        rejectedCount.increment();
+        return false;
+      }
+      buffer.computeIfAbsent(key, ignored -> new ArrayList<>()).add(value);
+      if (++bufferedCount >= maxBatchSize) {
+        batchFull.signal();
+      }
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** @return 레디스에 보낸 값의 수 */
+  public long getPushedCount() {
+    return pushedCount.sum();
+  }
+
+  /** @return 파이프라인을 보낸 횟수 */
+  public long getFlushCount() {
+    return flushCount.sum();
+  }
+
+  /** @return 버퍼가 가득 차서 받지 않은 값의 수 */
+  public long getRejectedCount() {
+    return rejectedCount.sum();
+  }
+
+  /** @return 파이프라인 실패로 보내지 못한 값의 수 */
+  public long getLostCount() {
+    return lostCount.sum();
+  }
+
+  /** @return 마지막으로 발생한 파이프라인 예외 (없으면 null) */
+  public RuntimeException getLastError() {
+    return lastError;
+  }
+
+  private void flushLoop() {
+    long intervalNanos = flushInterval.toNanos();
+    while (running) {
+      Map<String, List<String>> batch;
+      int batchCount;
+      lock.lock();
+      try {
+        long remaining = intervalNanos;
+        while (running && bufferedCount < maxBatchSize && remaining > 0) {
+          remaining = batchFull.awaitNanos(remaining);
+        }
+        batch = buffer;
+        batchCount = bufferedCount;
+        buffer = new LinkedHashMap<>();
+        bufferedCount = 0;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } finally {
+        lock.unlock();
+      }
+      flush(batch, batchCount);
+    }
+
+    lock.lock();
+    try {
+      flush(buffer, bufferedCount);
+      buffer = new LinkedHashMap<>();
+      bufferedCount = 0;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void flush(final Map<String, List<String>> batch, final int batchCount) {
+    if (batch.isEmpty()) {
+      return;
+    }
+    try {
+      stringRedisTemplate.executePipelined(
+          (RedisCallback<Object>)
+              redisConnection -> {
+                StringRedisConnection connection = (StringRedisConnection) redisConnection;
+                for (Map.Entry<String, List<String>> entry : batch.entrySet()) {
+                  connection.rPush(entry.getKey(), entry.getValue().toArray(new String[0]));
+                  if (maxLength > 0) {
+                    connection.lTrim(entry.getKey(), -maxLength, -1);
+                  }
+                }
+                return null;
+              });
+      pushedCount.add(batchCount);
+    } catch (RuntimeException e) {
+      lostCount.add(batchCount);
+      lastError = e;
+    }
+    flushCount.increment();
+  }
+}
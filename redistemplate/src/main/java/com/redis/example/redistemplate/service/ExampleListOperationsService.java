@@ -1,18 +1,45 @@
 package com.redis.example.redistemplate.service;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.Resource;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-/** 레디스의 집합형 자료형 중 하나인 Lists 형식에 대한 예제 서비스 */
+/**
+ * 레디스의 집합형 자료형 중 하나인 Lists 형식에 대한 예제 서비스
+ *
+ * <p>블로킹 pop 메소드는 다른 명령어와 커넥션을 나눠 쓰지 않도록 {@link
+ * com.redis.example.redistemplate.config.BlockingRedisConfig} 의 별도 커넥션 풀을 사용하며, 제한시간은
+ * example.redis.blocking.max-timeout(기본값 30초) 을 넘지 않는다.
+ */
 @Service
 public class ExampleListOperationsService {
   @Resource private StringRedisTemplate stringRedisTemplate;
 
+  @Resource private RedisTemplate<String, String> blockingStringRedisTemplate;
+
+  @Resource private ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+  @Value("${example.redis.blocking.max-timeout:PT30S}")
+  private Duration maxBlockingTimeout;
+
+  @Value("${example.redis.list.range-window-size:1000}")
+  private int rangeWindowSize;
+
   /**
    * List 자료형의 오른쪽 끝에 새로운 값을 추가하는 메소드
    *
@@ -42,6 +69,23 @@ public class ExampleListOperationsService {
     return stringListOperations.rightPushIfPresent(key, value);
   }
 
+  /**
+   * List 자료형의 오른쪽 끝에 여러 값을 RPUSH 한 번으로 추가하는 메소드
+   *
+   * <p>입력받은 키값이 레디스에 존재하지 않을 경우, 해당 키로 새로운 리스트를 만든 다음에 이 작업을 진행한다. 값은 콜렉션 순서대로 추가된다.
+   *
+   * @param key List의 키
+   * @param values List에 넣을 데이터 콜렉션
+   * @return 리스트에 들어가 있는 값의 갯수
+   */
+  public long rightPushAll(String key, Collection<String> values) {
+    if (values.isEmpty()) {
+      return sizeOrZero(key);
+    }
+    ListOperations<String, String> stringListOperations = stringRedisTemplate.opsForList();
+    return stringListOperations.rightPushAll(key, values);
+  }
+
   /**
    * 기준이 되는 피봇 값의 오른쪽(=피봇 값의 뒤)에 새로운 값을 삽입하는 메소드
    *
@@ -84,6 +128,24 @@ public class ExampleListOperationsService {
     return stringListOperations.leftPushIfPresent(key, value);
   }
 
+  /**
+   * List 자료형의 왼쪽 끝에 여러 값을 LPUSH 한 번으로 추가하는 메소드
+   *
+   * <p>입력받은 키값이 레디스에 존재하지 않을 경우, 해당 키로 새로운 리스트를 만든 다음에 이 작업을 진행한다. 값을 하나씩 왼쪽에 넣으므로
+   * 콜렉션의 마지막 값이 리스트의 가장 왼쪽에 온다.
+   *
+   * @param key List의 키
+   * @param values List에 넣을 데이터 콜렉션
+   * @return 리스트에 들어가 있는 값의 갯수
+   */
+  public long leftPushAll(String key, Collection<String> values) {
+    if (values.isEmpty()) {
+      return sizeOrZero(key);
+    }
+    ListOperations<String, String> stringListOperations = stringRedisTemplate.opsForList();
+    return stringListOperations.leftPushAll(key, values);
+  }
+
   /**
    * 기준이 되는 피봇 값의 왼쪽(=피봇 값의 앞)에 새로운 값을 삽입하는 메소드
    *
@@ -130,7 +192,8 @@ public class ExampleListOperationsService {
    * <p>조회 시점에 이미 값이 존재할 경우 바로 그 값을 lpop 하여 기다린다. 만약 조회 시점에 값이 없다면, 지정한 시간동안 리스트에 값이 들어올 때 까지 기다리며,
    * 이 제한시간마저 지나면 {@link ExampleListOperationsService#rightPop(String)} 메소드와 동일하게 null을 리턴한다.
    *
-   * <p>참고로 제한시간에 0을 넣으면, 시간 제한 없이 값이 들어올 때까지 무한정 기다린다.
+   * <p>제한시간에 0을 넣거나 example.redis.blocking.max-timeout 보다 긴 시간을 넣으면, max-timeout 만큼만 기다린다. 블로킹
+   * 전용 커넥션 풀이 모두 사용 중이면 커넥션을 받을 때까지 example.redis.blocking.pool.max-wait 만큼 더 기다릴 수 있다.
    *
    * @param key List의 키
    * @param timeOut 제한시간
@@ -138,8 +201,9 @@ public class ExampleListOperationsService {
    * @return pop 한 데이터
    */
   public String blockingRightPop(String key, long timeOut, TimeUnit timeUnit) {
-    ListOperations<String, String> stringListOperations = stringRedisTemplate.opsForList();
-    return stringListOperations.rightPop(key, timeOut, timeUnit);
+    ListOperations<String, String> stringListOperations = blockingStringRedisTemplate.opsForList();
+    return stringListOperations.rightPop(
+        key, cappedBlockingTimeoutMillis(timeOut, timeUnit), TimeUnit.MILLISECONDS);
   }
 
   /**
@@ -148,7 +212,7 @@ public class ExampleListOperationsService {
    * <p>조회 시점에 이미 값이 존재할 경우 바로 그 값을 lpop 하여 기다린다. 만약 조회 시점에 값이 없다면, 지정한 시간동안 리스트에 값이 들어올 때 까지 기다리며,
    * 이 제한시간마저 지나면 {@link ExampleListOperationsService#leftPop(String)} 메소드와 동일하게 null을 리턴한다.
    *
-   * <p>참고로 제한시간에 0을 넣으면, 시간 제한 없이 값이 들어올 때까지 무한정 기다린다.
+   * <p>제한시간의 상한은 {@link ExampleListOperationsService#blockingRightPop(String, long, TimeUnit)} 과 같다.
    *
    * @param key List의 키
    * @param timeOut 제한시간
@@ -156,8 +220,9 @@ public class ExampleListOperationsService {
    * @return pop 한 데이터
    */
   public String blockingLeftPop(String key, long timeOut, TimeUnit timeUnit) {
-    ListOperations<String, String> stringListOperations = stringRedisTemplate.opsForList();
-    return stringListOperations.rightPop(key, timeOut, timeUnit);
+    ListOperations<String, String> stringListOperations = blockingStringRedisTemplate.opsForList();
+    return stringListOperations.leftPop(
+        key, cappedBlockingTimeoutMillis(timeOut, timeUnit), TimeUnit.MILLISECONDS);
   }
 
   /**
@@ -185,7 +250,7 @@ public class ExampleListOperationsService {
    * 없다면, 지정한 시간동안 원본 리스트 키에 값이 들어올 때까지 기다리며, 이 제한시간 마저 지나면, {@link
    * ExampleListOperationsService#rightPopAndLeftPush(String, String)} 메소드와 동일하게 작동한다.
    *
-   * <p>참고로 제한시간에 0을 넣으면, 시간 제한 없이 값이 들어올 때까지 무한정 기다린다.
+   * <p>제한시간의 상한은 {@link ExampleListOperationsService#blockingRightPop(String, long, TimeUnit)} 과 같다.
    *
    * @param originKey 원본 List의 키
    * @param destKey 대상 List의 키
@@ -194,9 +259,13 @@ public class ExampleListOperationsService {
    */
   public String blockingRightPopAndLeftPush(
       String originKey, String destKey, long timeOut, TimeUnit timeUnit) {
-    ListOperations<String, String> stringListOperations = stringRedisTemplate.opsForList();
+    ListOperations<String, String> stringListOperations = blockingStringRedisTemplate.opsForList();
 
-    return stringListOperations.rightPopAndLeftPush(originKey, destKey, timeOut, timeUnit);
+    return stringListOperations.rightPopAndLeftPush(
+        originKey,
+        destKey,
+        cappedBlockingTimeoutMillis(timeOut, timeUnit),
+        TimeUnit.MILLISECONDS);
   }
 
   /**
@@ -245,6 +314,9 @@ public class ExampleListOperationsService {
   /**
    * List 자료형의 번지수 범위 내에 있는 모든 자료를 조회하는 메소드
    *
+   * <p>범위 전체를 LRANGE 응답 하나로 받으므로, 큰 List 전체(0, -1)를 읽을 때는 {@link
+   * ExampleListOperationsService#streamRange(String)} 로 나누어 읽어야 한다.
+   *
    * @param key List의 키
    * @param start 번지 수 범위조건 최소값
    * @param end 번지 수 범위조건 최대값
@@ -256,6 +328,75 @@ public class ExampleListOperationsService {
     return stringListOperations.range(key, start, end);
   }
 
+  /**
+   * List 자료형 전체를 LRANGE 로 나누어 읽는 Stream
+   *
+   * <p>window 크기는 example.redis.list.range-window-size(기본값 1000) 를 사용하고, 다음 window 를 미리 요청하지 않는다.
+   *
+   * @param key List의 키
+   * @return List 의 값 Stream (왼쪽부터)
+   * @see ExampleListOperationsService#streamRange(String, int, boolean)
+   */
+  public Stream<String> streamRange(final String key) {
+    return streamRange(key, rangeWindowSize, false);
+  }
+
+  /**
+   * List 자료형 전체를 windowSize 개씩 LRANGE 로 나누어 읽는 Stream
+   *
+   * <p>다음 window 는 앞의 window 를 다 소비한 뒤에 요청하므로 메모리에는 window 하나만 올라가고, 레디스도 LRANGE 한 번에 windowSize
+   * 개만 처리하므로 다른 명령어를 오래 막지 않는다. prefetch 가 true 이면 window 를 넘겨줄 때 다음 window 의 LRANGE 를 비동기로 미리
+   * 보내서, 소비하는 시간과 다음 응답을 기다리는 시간을 겹친다. (메모리에는 최대 window 두 개)
+   *
+   * <p>번지 수로 읽으므로 읽는 도중에 List 의 왼쪽에 값이 추가되거나 삭제되면 같은 값이 두 번 나오거나 빠질 수 있다. 중간에 멈출 수 있다면
+   * 미리 보낸 요청을 정리하도록 try-with-resources 로 Stream 을 닫아야 한다.
+   *
+   * @param key List의 키
+   * @param windowSize LRANGE 한 번에 읽을 값의 갯수
+   * @param prefetch 다음 window 를 미리 요청할지 여부
+   * @return List 의 값 Stream (왼쪽부터)
+   */
+  public Stream<String> streamRange(
+      final String key, final int windowSize, final boolean prefetch) {
+    return streamRangeWindows(key, windowSize, prefetch).flatMap(List::stream);
+  }
+
+  /**
+   * {@link ExampleListOperationsService#streamRange(String, int, boolean)} 의 결과를 LRANGE
+   * 응답(window) 단위로 흘려보내는 Stream
+   *
+   * <p>window 단위로 파이프라인이나 배치 처리를 할 때 사용한다. 마지막 window 는 windowSize 보다 작을 수 있다.
+   *
+   * @param key List의 키
+   * @param windowSize LRANGE 한 번에 읽을 값의 갯수
+   * @param prefetch 다음 window 를 미리 요청할지 여부
+   * @return window 목록 Stream
+   */
+  public Stream<List<String>> streamRangeWindows(
+      final String key, final int windowSize, final boolean prefetch) {
+    ListWindowIterator iterator = windowIterator(key, windowSize, prefetch);
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .onClose(iterator::close);
+  }
+
+  /**
+   * {@link ExampleListOperationsService#streamRange(String, int, boolean)} 의 Iterator 버전
+   *
+   * <p>중간에 멈추는 경우 prefetch 로 미리 보낸 요청의 응답은 버려진다.
+   *
+   * @param key List의 키
+   * @param windowSize LRANGE 한 번에 읽을 값의 갯수
+   * @param prefetch 다음 window 를 미리 요청할지 여부
+   * @return List 의 값 Iterator (왼쪽부터)
+   */
+  public Iterator<String> rangeIterator(
+      final String key, final int windowSize, final boolean prefetch) {
+    return streamRange(key, windowSize, prefetch).iterator();
+  }
+
   /**
    * List 자료형 내의 값 중, 번지 수 조건에 맞지 않는 값은 삭제하는 메소드
    * @param key List의 키
@@ -266,4 +407,61 @@ public class ExampleListOperationsService {
     ListOperations<String, String> stringListOperations = stringRedisTemplate.opsForList();
     stringListOperations.trim(key, start, end);
   }
+
+  /**
+   * 커넥션 하나를 고정한 채로 List 명령어 여러 개를 실행하는 메소드 (세션 모드)
+   *
+   * <p>커넥션을 고정하는 방식과 효과는 {@link StringSessionCallback} 참고
+   *
+   * <pre>
+   * service.executeInSession(
+   *     listOperations -> {
+   *       listOperations.rightPush(key, "value");
+   *       return listOperations.range(key, 0, -1);
+   *     });
+   * </pre>
+   *
+   * @param callback 고정된 커넥션으로 실행할 작업
+   * @param <T> 작업 결과 타입
+   * @return callback 의 반환값
+   */
+  public <T> T executeInSession(final Function<ListOperations<String, String>, T> callback) {
+    return stringRedisTemplate.execute(
+        new StringSessionCallback<>(operations -> callback.apply(operations.opsForList())));
+  }
+
+  private ListWindowIterator windowIterator(
+      final String key, final int windowSize, final boolean prefetch) {
+    return new ListWindowIterator(
+        (start, end) -> listRange(key, start, end),
+        prefetch
+            ? (start, end) ->
+                reactiveStringRedisTemplate
+                    .opsForList()
+                    .range(key, start, end)
+                    .collectList()
+                    .toFuture()
+            : null,
+        windowSize);
+  }
+
+  private long sizeOrZero(final String key) {
+    Long size = listSize(key);
+    return size == null ? 0 : size;
+  }
+
+  /**
+   * 블로킹 명령어의 제한시간을 example.redis.blocking.max-timeout 이하로 맞춘다. (0 은 상한값으로 바꾸고, 1 밀리초보다 짧은 제한시간은
+   * 1 밀리초로 올림)
+   */
+  private long cappedBlockingTimeoutMillis(final long timeOut, final TimeUnit timeUnit) {
+    if (timeOut < 0) {
+      throw new IllegalArgumentException("제한시간은 0 이상이어야 합니다. timeOut: " + timeOut);
+    }
+    long maxMillis = maxBlockingTimeout.toMillis();
+    if (timeOut == 0) {
+      return maxMillis;
+    }
+    return Math.min(Math.max(1, timeUnit.toMillis(timeOut)), maxMillis);
+  }
 }
@@ -0,0 +1,277 @@
+package com.redis.example.redistemplate.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Resource;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sorted Set 으로 만든 슬라이딩 윈도우 카운터, 처리율 제한(rate limit) 예제 서비스
+ *
+ * <p>이벤트 하나를 Sorted Set 의 멤버 하나로 저장하고 점수에는 발생 시각(밀리초, 소수점 아래는 마이크로초)을 넣는다. 윈도우 밖의 이벤트
+ * 삭제(ZREMRANGEBYSCORE), 개수 확인(ZCARD), 추가(ZADD)는 Lua 스크립트 하나로 실행하므로 요청 하나에 한 번만 왕복하고, 동시에 들어온
+ * 요청이 같은 개수를 보고 함께 허용되는 일도 없다. 시각은 레디스 서버의 TIME 을 사용하므로 애플리케이션 서버 사이의 시계 차이에 영향을 받지
+ * 않는다.
+ *
+ * <p>local-share 가 0 보다 크면 키마다 로컬 토큰 버킷을 두고, 버킷에 토큰이 남아 있으면 레디스에 묻지 않고 허용한다. 버킷은 limit *
+ * local-share 개의 토큰을 가지고 윈도우마다 같은 양이 채워진다. 로컬에서 허용한 요청은 그 키로 다음에 레디스를 호출할 때 그 시각으로 함께
+ * 기록하는데, 오래전에 허용한 요청까지 지금 허용한 것처럼 기록하면 제한을 지킨 클라이언트가 거부되므로 버킷 크기만큼만 기록한다. 대신
+ * 제한은 정확하지 않게 되어, 윈도우마다 최대 (애플리케이션 서버 수 * limit * local-share) 개까지 더 허용될 수 있고, 기록하기 전에
+ * 버킷이 로컬 캐시에서 밀려나면 그 요청은 기록되지 않는다. (기본값 0 은 로컬 버킷을 사용하지 않음)
+ */
+@Service
+public class ExampleRateLimiterService {
+  /**
+   * KEYS[1] 의 윈도우 밖 이벤트를 지운 후, 허용되면 ARGV[4] 개를, 허용 여부와 관계없이 로컬에서 이미 허용한 ARGV[5] 개를 추가
+   *
+   * <p>ARGV: {윈도우(밀리초), limit (음수이면 제한 없음), 멤버 접두어, 요청 수, 로컬에서 허용한 수}
+   *
+   * <p>반환값: {허용 여부 (1/0), 추가 후 윈도우 안의 이벤트 수}
+   */
+  @SuppressWarnings("rawtypes")
+  static final RedisScript<List> ACQUIRE_SCRIPT =
+      new DefaultRedisScript<>(
+          "redis.replicate_commands() "
+              + "local time = redis.call('TIME') "
+              + "local now = tonumber(time[1]) * 1000 + tonumber(time[2]) / 1000 "
+              + "local window = tonumber(ARGV[1]) "
+              + "local limit = tonumber(ARGV[2]) "
+              + "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window) "
+              + "local count = redis.call('ZCARD', KEYS[1]) "
+              + "local adds = tonumber(ARGV[5]) "
+              + "local allowed = limit < 0 or count + adds + tonumber(ARGV[4]) <= limit "
+              + "if allowed then adds = adds + tonumber(ARGV[4]) end "
+              + "local args = {} "
+              + "for i = 1, adds do "
+              + "  args[#args + 1] = now "
+              + "  args[#args + 1] = ARGV[3] .. i "
+              + "  if #args >= 1000 then redis.call('ZADD', KEYS[1], unpack(args)) args = {} end "
+              + "end "
+              + "if #args > 0 then redis.call('ZADD', KEYS[1], unpack(args)) end "
+              + "if adds > 0 then redis.call('PEXPIRE', KEYS[1], math.ceil(window)) end "
+              + "return {allowed and 1 or 0, count + adds}",
+          List.class);
+
+  /** KEYS[1] 에서 최근 ARGV[1] 밀리초 안의 이벤트 수 */
+  static final RedisScript<Long> COUNT_SCRIPT =
+      new DefaultRedisScript<>(
+          "local time = redis.call('TIME') "
+              + "local now = tonumber(time[1]) * 1000 + tonumber(time[2]) / 1000 "
+              + "local min = string.format('(%.17g', now - tonumber(ARGV[1])) "
+              + "return redis.call('ZCOUNT', KEYS[1], min, '+inf')",
+          Long.class);
+
+  @Resource private StringRedisTemplate stringRedisTemplate;
+
+  @Value("${example.redis.rate-limit.local-share:0}")
+  private double localShare;
+
+  @Value("${example.redis.rate-limit.local-cache-size:100000}")
+  private long localCacheSize;
+
+  /** 멤버 이름이 다른 애플리케이션 서버와 겹치지 않도록 붙이는 접두어 */
+  private final String memberPrefix = Long.toString(UUID.randomUUID().getMostSignificantBits(), 36);
+
+  private final AtomicLong sequence = new AtomicLong();
+  private Cache<String, LocalBucket> localBuckets;
+
+  private final LongAdder localAllowedCount = new LongAdder();
+  private final LongAdder redisCallCount = new LongAdder();
+  private final LongAdder rejectedCount = new LongAdder();
+
+  @PostConstruct
+  public void init() {
+    if (localShare < 0 || localShare >= 1) {
+      throw new IllegalStateException(
+          "local-share 는 0 이상 1 미만이어야 합니다. localShare: " + localShare);
+    }
+    localBuckets = Caffeine.newBuilder().maximumSize(localCacheSize).build();
+  }
+
+  /**
+   * 최근 window 동안 허용한 요청이 limit 개 미만이면 요청 하나를 허용하고 기록하는 메소드
+   *
+   * @param key 처리율 제한 대상의 키 (Sorted Set 의 키)
+   * @param limit window 동안 허용할 요청 수
+   * @param window 윈도우 크기
+   * @return 허용 여부
+   */
+  public boolean tryAcquire(final String key, final int limit, final Duration window) {
+    return tryAcquire(key, limit, window, 1);
+  }
+
+  /**
+   * 최근 window 동안 허용한 요청에 permits 개를 더해도 limit 개 이하이면 permits 개를 한 번에 허용하고 기록하는 메소드
+   *
+   * @param key 처리율 제한 대상의 키 (Sorted Set 의 키)
+   * @param limit window 동안 허용할 요청 수
+   * @param window 윈도우 크기
+   * @param permits 요청 수
+   * @return 허용 여부 (허용되지 않으면 permits 개는 기록하지 않음)
+   */
+  public boolean tryAcquire(
+      final String key, final int limit, final Duration window, final int permits) {
+    if (limit <= 0 || permits <= 0) {
+      throw new IllegalArgumentException(
+          "limit, permits 는 1 이상이어야 합니다. limit: " + limit + ", permits: " + permits);
+    }
+    checkWindow(window);
+
+    LocalBucket bucket = null;
+    if (localShare > 0) {
+      bucket =
+          localBuckets.get(
+              window.toMillis() + ":" + limit + ":" + key,
+              ignored -> new LocalBucket(limit * localShare, window));
+      if (bucket.tryAcquire(permits)) {
+        localAllowedCount.add(permits);
+        return true;
+      }
+    }
+
+    long localAllowed = bucket == null ? 0 : bucket.drainPending();
+    List<Long> result;
+    try {
+      result = acquire(key, window, limit, permits, localAllowed);
+    } catch (RuntimeException e) {
+      if (bucket != null) {
+        bucket.restorePending(localAllowed);
+      }
+      throw e;
+    }
+    boolean allowed = result.get(0) == 1;
+    if (!allowed) {
+      rejectedCount.increment();
+      if (bucket != null) {
+        // 전체 제한에 걸렸으므로 남은 로컬 토큰으로 더 허용하지 않는다.
+        bucket.clearTokens();
+      }
+    }
+    return allowed;
+  }
+
+  /**
+   * 이벤트 하나를 기록하고 최근 window 동안의 이벤트 수를 반환하는 메소드 (슬라이딩 윈도우 카운터, 로컬 버킷은 사용하지 않음)
+   *
+   * @param key 카운터의 키 (Sorted Set 의 키)
+   * @param window 윈도우 크기
+   * @return 기록한 이벤트를 포함한 최근 window 동안의 이벤트 수
+   */
+  public long incrementAndCount(final String key, final Duration window) {
+    checkWindow(window);
+    return acquire(key, window, -1, 1, 0).get(1);
+  }
+
+  /**
+   * 최근 window 동안의 이벤트 수를 조회하는 메소드 (로컬에서 허용하고 아직 기록하지 않은 요청은 포함되지 않음)
+   *
+   * @param key 카운터의 키 (Sorted Set 의 키)
+   * @param window 윈도우 크기
+   * @return 최근 window 동안의 이벤트 수
+   */
+  public long count(final String key, final Duration window) {
+    checkWindow(window);
+    Long count =
+        stringRedisTemplate.execute(
+            COUNT_SCRIPT, List.of(key), String.valueOf(window.toNanos() / 1_000_000.0));
+    return count == null ? 0 : count;
+  }
+
+  /** @return 로컬 토큰 버킷으로 레디스에 묻지 않고 허용한 요청 수 */
+  public long getLocalAllowedCount() {
+    return localAllowedCount.sum();
+  }
+
+  /** @return 레디스에서 Lua 스크립트를 실행한 횟수 */
+  public long getRedisCallCount() {
+    return redisCallCount.sum();
+  }
+
+  /** @return 허용하지 않은 요청 수 */
+  public long getRejectedCount() {
+    return rejectedCount.sum();
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Long> acquire(
+      final String key,
+      final Duration window,
+      final int limit,
+      final int permits,
+      final long localAllowed) {
+    redisCallCount.increment();
+    return stringRedisTemplate.execute(
+        ACQUIRE_SCRIPT,
+        List.of(key),
+        String.valueOf(window.toNanos() / 1_000_000.0),
+        String.valueOf(limit),
+        memberPrefix + ":" + sequence.incrementAndGet() + ":",
+        String.valueOf(permits),
+        String.valueOf(localAllowed));
+  }
+
+  private static void checkWindow(final Duration window) {
+    if (window.isNegative() || window.isZero()) {
+      throw new IllegalArgumentException("window 는 0 보다 커야 합니다. window: " + window);
+    }
+  }
+
+  /** limit * local-share 개의 토큰을 가지고, 윈도우마다 같은 양이 채워지는 로컬 토큰 버킷 */
+  static final class LocalBucket {
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long refilledAt;
+
+    /** 로컬에서 허용했지만 아직 레디스에 기록하지 않은 요청 수 (최대 maxPending) */
+    private long pending;
+
+    /** 한 번에 기록할 최대 요청 수 (버킷 크기, 그보다 오래된 요청은 대부분 이미 윈도우 밖) */
+    private final long maxPending;
+
+    LocalBucket(final double capacity, final Duration window) {
+      this.capacity = capacity;
+      this.maxPending = (long) capacity;
+      this.tokensPerNano = capacity / window.toNanos();
+      this.tokens = capacity;
+      this.refilledAt = System.nanoTime();
+    }
+
+    synchronized boolean tryAcquire(final int permits) {
+      long now = System.nanoTime();
+      tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+      refilledAt = now;
+      if (tokens < permits) {
+        return false;
+      }
+      tokens -= permits;
+      pending = Math.min(maxPending, pending + permits);
+      return true;
+    }
+
+    synchronized long drainPending() {
+      long drained = pending;
+      pending = 0;
+      return drained;
+    }
+
+    synchronized void restorePending(final long count) {
+      pending = Math.min(maxPending, pending + count);
+    }
+
+    synchronized void clearTokens() {
+      tokens = 0;
+    }
+  }
+}
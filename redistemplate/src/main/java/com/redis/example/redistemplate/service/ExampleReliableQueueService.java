@@ -0,0 +1,251 @@
+package com.redis.example.redistemplate.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.Resource;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Lists 자료형으로 만든 신뢰성 있는(reliable) 작업 큐 예제 서비스
+ *
+ * <p>작업은 큐 리스트의 왼쪽으로 넣고(LPUSH), 소비자는 오른쪽에서 꺼내면서 동시에 자기 전용 처리 중(processing) 리스트로 옮긴다
+ * (RPOPLPUSH). 처리가 끝난 작업은 처리 중 리스트에서 지우는데(LREM, ack), 소비자가 작업을 처리하다 죽더라도 작업은 처리 중 리스트에 남아
+ * 있으므로 다른 소비자가 큐로 되돌려서(reclaim) 다시 처리할 수 있다. 따라서 작업은 최소 한 번(at-least-once) 처리되며, 같은 작업이 두 번
+ * 처리될 수 있으므로 작업 처리는 멱등해야 한다.
+ *
+ * <p>사용하는 키는 아래와 같다.
+ *
+ * <ul>
+ *   <li>{queue} : 처리를 기다리는 작업 리스트
+ *   <li>{queue}:processing:{consumerId} : 소비자 워커별 처리 중 작업 리스트
+ *   <li>{queue}:heartbeats : 워커별 마지막 생존 신호 시각 (Sorted Set, score 는 epoch 밀리초)
+ *   <li>{queue}:dead : 처리에 실패한 작업 리스트
+ * </ul>
+ *
+ * <p>생존 신호 시각은 각 서버의 시계를 사용하므로, 서버 간 시계 차이는 visibility-timeout 보다 충분히 작아야 한다. 클러스터에서는 위의 키가
+ * 모두 같은 슬롯에 있도록 queue 에 해시 태그({...})를 넣어야 한다.
+ */
+@Service
+public class ExampleReliableQueueService {
+  static final String PROCESSING_KEY_INFIX = ":processing:";
+  static final String HEARTBEATS_KEY_SUFFIX = ":heartbeats";
+  static final String DEAD_LETTER_KEY_SUFFIX = ":dead";
+
+  /** 큐에서 최대 ARGV[1] 개의 작업을 처리 중 리스트로 옮기고 옮긴 작업 목록을 반환 */
+  @SuppressWarnings("rawtypes")
+  static final RedisScript<List> FETCH_SCRIPT =
+      new DefaultRedisScript<>(
+          "local jobs = {} "
+              + "for i = 1, tonumber(ARGV[1]) do "
+              + "  local job = redis.call('RPOPLPUSH', KEYS[1], KEYS[2]) "
+              + "  if not job then break end "
+              + "  jobs[i] = job "
+              + "end "
+              + "return jobs",
+          List.class);
+
+  /**
+   * KEYS[3] 에 기록된 처리 중 리스트 KEYS[2] 의 생존 신호가 ARGV[1] 이전이면, 그 작업을 모두 큐 KEYS[1] 의 오른쪽(가장 먼저 꺼내지는
+   * 쪽)으로 되돌리고 되돌린 작업 수를 반환 (그 사이 생존 신호가 갱신되었으면 0)
+   *
+   * <p>처리 중 리스트는 왼쪽이 최근 작업이므로 왼쪽부터 꺼내서 오른쪽에 넣어야 원래 순서가 유지된다.
+   */
+  static final RedisScript<Long> RECLAIM_SCRIPT =
+      new DefaultRedisScript<>(
+          "local heartbeat = redis.call('ZSCORE', KEYS[3], KEYS[2]) "
+              + "if not heartbeat or tonumber(heartbeat) > tonumber(ARGV[1]) then return 0 end "
+              + "local reclaimed = 0 "
+              + "local job = redis.call('LPOP', KEYS[2]) "
+              + "while job do "
+              + "  redis.call('RPUSH', KEYS[1], job) "
+              + "  reclaimed = reclaimed + 1 "
+              + "  job = redis.call('LPOP', KEYS[2]) "
+              + "end "
+              + "redis.call('ZREM', KEYS[3], KEYS[2]) "
+              + "return reclaimed",
+          Long.class);
+
+  /**
+   * 처리 중 리스트 KEYS[1] 에서 ARGV[4] 부터 ARGV[3] 개의 작업(성공)을 지우고, 나머지 작업(실패)은 지운 후 KEYS[2] 로 옮긴 다음
+   * KEYS[3] 에 ARGV[2] 의 생존 신호(ARGV[1])를 기록
+   *
+   * <p>스크립트 하나로 실행하므로 실패한 작업이 처리 중 리스트에서만 지워지거나 두 리스트에 모두 남는 일이 없다.
+   */
+  static final RedisScript<Long> ACK_SCRIPT =
+      new DefaultRedisScript<>(
+          "local acks = tonumber(ARGV[3]) "
+              + "for i = 4, 3 + acks do redis.call('LREM', KEYS[1], -1, ARGV[i]) end "
+              + "for i = 4 + acks, #ARGV do "
+              + "  redis.call('LREM', KEYS[1], -1, ARGV[i]) "
+              + "  redis.call('LPUSH', KEYS[2], ARGV[i]) "
+              + "end "
+              + "redis.call('ZADD', KEYS[3], ARGV[1], ARGV[2]) "
+              + "return #ARGV - 3",
+          Long.class);
+
+  /**
+   * 처리 중 리스트 KEYS[1] 이 비어 있으면 KEYS[2] 에서 그 생존 신호를 지우고 1 을 반환 (남은 작업이 있으면 생존 신호를 남겨두고 0)
+   *
+   * <p>종료하는 워커의 처리 중 리스트에 작업이 남아 있으면 생존 신호가 오래되도록 두어야 reclaim 이 그 작업을 되돌린다.
+   */
+  static final RedisScript<Long> RETIRE_SCRIPT =
+      new DefaultRedisScript<>(
+          "if redis.call('LLEN', KEYS[1]) > 0 then return 0 end "
+              + "redis.call('ZREM', KEYS[2], KEYS[1]) "
+              + "return 1",
+          Long.class);
+
+  @Resource private StringRedisTemplate stringRedisTemplate;
+
+  @Resource private ExampleListOperationsService exampleListOperationsService;
+
+  @Value("${example.redis.queue.fetch-size:32}")
+  private int fetchSize;
+
+  @Value("${example.redis.queue.ack-batch-size:64}")
+  private int ackBatchSize;
+
+  @Value("${example.redis.queue.poll-timeout:PT1S}")
+  private Duration pollTimeout;
+
+  @Value("${example.redis.queue.visibility-timeout:PT30S}")
+  private Duration visibilityTimeout;
+
+  @Value("${example.redis.queue.reclaim-interval:PT5S}")
+  private Duration reclaimInterval;
+
+  @Value("${example.redis.blocking.pool.max-total:8}")
+  private int blockingPoolMaxTotal;
+
+  /**
+   * 큐에 작업 하나를 넣는 메소드
+   *
+   * @param queue 큐 리스트의 키
+   * @param job 작업 데이터
+   * @return 큐에 쌓여있는 작업 수
+   */
+  public long enqueue(final String queue, final String job) {
+    return exampleListOperationsService.leftPush(queue, job);
+  }
+
+  /**
+   * 큐에 작업 여러 개를 LPUSH 한 번으로 넣는 메소드
+   *
+   * @param queue 큐 리스트의 키
+   * @param jobs 작업 데이터 콜렉션 (콜렉션 순서대로 처리됨)
+   * @return 큐에 쌓여있는 작업 수
+   */
+  public long enqueueAll(final String queue, final Collection<String> jobs) {
+    return exampleListOperationsService.leftPushAll(queue, jobs);
+  }
+
+  /**
+   * 처리를 기다리는 작업 수 (LLEN)
+   *
+   * @param queue 큐 리스트의 키
+   * @return 큐에 쌓여있는 작업 수 (처리 중인 작업 제외)
+   */
+  public long backlog(final String queue) {
+    Long size = exampleListOperationsService.listSize(queue);
+    return size == null ? 0 : size;
+  }
+
+  /**
+   * 처리에 실패해서 {queue}:dead 리스트로 옮겨진 작업 수
+   *
+   * @param queue 큐 리스트의 키
+   * @return 실패한 작업 수
+   */
+  public long deadLetterCount(final String queue) {
+    Long size = exampleListOperationsService.listSize(queue + DEAD_LETTER_KEY_SUFFIX);
+    return size == null ? 0 : size;
+  }
+
+  /**
+   * 생존 신호가 visibility-timeout 이상 멈춘 워커의 처리 중 작업을 큐로 되돌리는 메소드
+   *
+   * <p>{@link ExampleReliableQueueService#startConsumers(String, int, Consumer)} 로 시작한 소비자는
+   * reclaim-interval 마다 이 메소드를 호출하므로 보통은 직접 호출할 필요가 없다.
+   *
+   * @param queue 큐 리스트의 키
+   * @return 큐로 되돌린 작업 수
+   */
+  public long reclaim(final String queue) {
+    long staleBefore = System.currentTimeMillis() - visibilityTimeout.toMillis();
+    String heartbeatsKey = queue + HEARTBEATS_KEY_SUFFIX;
+    Set<String> staleProcessingKeys =
+        stringRedisTemplate
+            .opsForZSet()
+            .rangeByScore(heartbeatsKey, Double.NEGATIVE_INFINITY, staleBefore);
+    if (staleProcessingKeys == null) {
+      return 0;
+    }
+
+    long reclaimed = 0;
+    for (String processingKey : staleProcessingKeys) {
+      // 스크립트가 건드리는 키는 모두 KEYS 로 넘긴다. 생존 신호는 스크립트 안에서 다시 확인한다.
+      Long count =
+          stringRedisTemplate.execute(
+              RECLAIM_SCRIPT,
+              List.of(queue, processingKey, heartbeatsKey),
+              String.valueOf(staleBefore));
+      reclaimed += count == null ? 0 : count;
+    }
+    return reclaimed;
+  }
+
+  /**
+   * 큐의 작업을 처리하는 소비자 워커를 시작하는 메소드
+   *
+   * <p>워커는 작업이 있으면 fetch-size 개씩 한 번에 가져오고, 큐가 비어있으면 처리 중 ack 를 모두 보낸 후 BRPOPLPUSH 로 poll-timeout
+   * 만큼 기다린다. ack 는 ack-batch-size 개씩 모아서 Lua 스크립트 하나로 보낸다. handler 가 예외를 던진 작업은 {queue}:dead 리스트로
+   * 옮긴다.
+   *
+   * <p>기다리는 동안 워커마다 블로킹 전용 커넥션을 하나씩 붙잡으므로, workerCount 는 example.redis.blocking.pool.max-total 보다
+   * 클 수 없다.
+   *
+   * @param queue 큐 리스트의 키
+   * @param workerCount 워커 스레드 수
+   * @param handler 작업 처리 로직
+   * @return 실행 중인 소비자 (close 하면 처리 중인 작업을 마치고 종료)
+   */
+  public ReliableQueueConsumers startConsumers(
+      final String queue, final int workerCount, final Consumer<String> handler) {
+    if (workerCount <= 0 || workerCount > blockingPoolMaxTotal) {
+      throw new IllegalArgumentException(
+          "workerCount 는 1 이상 "
+              + blockingPoolMaxTotal
+              + " (example.redis.blocking.pool.max-total) 이하이어야 합니다. workerCount: "
+              + workerCount);
+    }
+    if (visibilityTimeout.compareTo(pollTimeout.multipliedBy(2)) < 0) {
+      throw new IllegalStateException(
+          "visibility-timeout 은 poll-timeout 의 2배 이상이어야 합니다. visibilityTimeout: "
+              + visibilityTimeout
+              + ", pollTimeout: "
+              + pollTimeout);
+    }
+    ReliableQueueConsumers consumers =
+        new ReliableQueueConsumers(
+            this,
+            stringRedisTemplate,
+            exampleListOperationsService,
+            queue,
+            handler,
+            fetchSize,
+            ackBatchSize,
+            pollTimeout,
+            visibilityTimeout,
+            reclaimInterval);
+    consumers.start(workerCount);
+    return consumers;
+  }
+}
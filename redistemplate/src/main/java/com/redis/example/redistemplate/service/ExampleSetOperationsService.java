@@ -1,19 +1,60 @@
 package com.redis.example.redistemplate.service;
 
+import io.lettuce.core.cluster.SlotHash;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
 import javax.annotation.Resource;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
-
-/** 레디스의 집합형 자료형 중 하나인 Set 형식에 대한 예제 서비스 */
+import java.util.function.Function;
+
+/**
+ * 레디스의 집합형 자료형 중 하나인 Set 형식에 대한 예제 서비스
+ *
+ * <p>합집합, 교집합, 차집합 메소드는 아래 경우에 SUNION/SINTER/SDIFF(STORE) 대신 Set 을 SSCAN 으로 나누어 읽어서 애플리케이션에서
+ * 계산한다. (계산 방식은 {@link ClientSideSetAlgebra} 참고)
+ *
+ * <ul>
+ *   <li>클러스터 모드에서 키(저장할 키 포함)가 서로 다른 슬롯에 있을 때 (서버 명령어는 CROSSSLOT 오류로 실패함)
+ *   <li>Set 크기의 합이 example.redis.set.client-side-threshold 보다 클 때 (서버 명령어가 레디스를 오래 막음)
+ * </ul>
+ *
+ * <p>크기를 확인하기 위해 SCARD 파이프라인을 한 번 더 보내며, client-side-threshold 가 0 이면 크기는 확인하지 않는다. 애플리케이션에서
+ * 계산한 결과는 원자적이지 않으므로, 계산 도중에 바뀐 Set 은 일부만 반영될 수 있다.
+ */
 @Service
 public class ExampleSetOperationsService {
   @Resource private StringRedisTemplate stringRedisTemplate;
 
+  @Resource private ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+  @Value("${example.redis.set.client-side-threshold:100000}")
+  private long clientSideThreshold;
+
+  @Value("${example.redis.set.scan-count:1000}")
+  private int scanCount;
+
+  @Value("${example.redis.set.pipeline-batch-size:1000}")
+  private int pipelineBatchSize;
+
+  private ClientSideSetAlgebra clientSideSetAlgebra;
+
+  @PostConstruct
+  public void init() {
+    clientSideSetAlgebra =
+        new ClientSideSetAlgebra(
+            stringRedisTemplate, reactiveStringRedisTemplate, scanCount, pipelineBatchSize);
+  }
+
   /**
    * Set에 요소를 삽입하기 위한 메소드
    *
@@ -121,9 +162,13 @@ public class ExampleSetOperationsService {
    * @return difference 연산 결과로써 조회한 요소 목록
    */
   public Set<String> difference(final Collection<String> keys) {
+    List<String> keyList = new ArrayList<>(keys);
+    if (computesOnClient(keyList, null)) {
+      return clientSideSetAlgebra.difference(keyList);
+    }
     SetOperations<String, String> setOperations = stringRedisTemplate.opsForSet();
 
-    return setOperations.difference(keys);
+    return setOperations.difference(keyList);
   }
 
   /**
@@ -134,9 +179,7 @@ public class ExampleSetOperationsService {
    * @return difference 연산 결과로써 조회한 요소 목록
    */
   public Set<String> difference(final String key, final String anotherKey) {
-    SetOperations<String, String> setOperations = stringRedisTemplate.opsForSet();
-
-    return setOperations.difference(key, anotherKey);
+    return difference(List.of(key, anotherKey));
   }
 
   /**
@@ -147,9 +190,7 @@ public class ExampleSetOperationsService {
    * @return difference 연산 결과로써 조회한 요소 목록
    */
   public Set<String> difference(final String key, final Collection<String> otherKeys) {
-    SetOperations<String, String> setOperations = stringRedisTemplate.opsForSet();
-
-    return setOperations.difference(key, otherKeys);
+    return difference(keys(key, otherKeys));
   }
 
   /**
@@ -160,9 +201,13 @@ public class ExampleSetOperationsService {
    * @return 처리한 데이터 갯수
    */
   public Long differenceAndStore(final Collection<String> keys, final String destKey) {
+    List<String> keyList = new ArrayList<>(keys);
+    if (computesOnClient(keyList, destKey)) {
+      return clientSideSetAlgebra.store(destKey, clientSideSetAlgebra.difference(keyList));
+    }
     SetOperations<String, String> setOperations = stringRedisTemplate.opsForSet();
 
-    return setOperations.differenceAndStore(keys, destKey);
+    return setOperations.differenceAndStore(keyList, destKey);
   }
 
   /**
@@ -174,9 +219,7 @@ public class ExampleSetOperationsService {
    * @return 처리한 데이터 갯수
    */
   public Long differenceAndStore(final String key, final String otherKey, final String destKey) {
-    SetOperations<String, String> setOperations = stringRedisTemplate.opsForSet();
-
-    return setOperations.differenceAndStore(key, otherKey, destKey);
+    return differenceAndStore(List.of(key, otherKey), destKey);
   }
 
   /**
@@ -187,10 +230,9 @@ public class ExampleSetOperationsService {
    * @param destKey 차집합 데이터를 저장할 Set의 키
    * @return 처리한 데이터 갯수
    */
-  public Long differenceAndStore(final String key, final Collection<String> otherKeys, final String destKey) {
-    SetOperations<String, String> setOperations = stringRedisTemplate.opsForSet();
-
-    return setOperations.differenceAndStore(key, otherKeys, destKey);
+  public Long differenceAndStore(
+      final String key, final Collection<String> otherKeys, final String destKey) {
+    return differenceAndStore(keys(key, otherKeys), destKey);
   }
 
 
@@ -201,9 +243,13 @@ public class ExampleSetOperationsService {
    * @return intersect 연산 결과로써 조회한 요소 목록
    */
   public Set<String> intersect(final Collection<String> keys) {
+    List<String> keyList = new ArrayList<>(keys);
+    if (computesOnClient(keyList, null)) {
+      return clientSideSetAlgebra.intersect(keyList);
+    }
     SetOperations<String, String> setOperations = stringRedisTemplate.opsForSet();
 
-    return setOperations.intersect(keys);
+    return setOperations.intersect(keyList);
   }
 
   /**
@@ -214,9 +260,7 @@ public class ExampleSetOperationsService {
    * @return intersect 연산 결과로써 조회한 요소 목록
    */
   public Set<String> intersect(final String key, final String anotherKey) {
-    SetOperations<String, String> setOperations = stringRedisTemplate.opsForSet();
-
-    return setOperations.intersect(key, anotherKey);
+    return intersect(List.of(key, anotherKey));
   }
 
   /**
@@ -227,9 +271,7 @@ public class ExampleSetOperationsService {
    * @return intersect 연산 결과로써 조회한 요소 목록
    */
   public Set<String> intersect(final String key, final Collection<String> otherKeys) {
-    SetOperations<String, String> setOperations = stringRedisTemplate.opsForSet();
-
-    return setOperations.intersect(key, otherKeys);
+    return intersect(keys(key, otherKeys));
   }
 
   /**
@@ -240,9 +282,13 @@ public class ExampleSetOperationsService {
    * @return 처리한 데이터 갯수
    */
   public Long intersectAndStore(final Collection<String> keys, final String destKey) {
+    List<String> keyList = new ArrayList<>(keys);
+    if (computesOnClient(keyList, destKey)) {
+      return clientSideSetAlgebra.store(destKey, clientSideSetAlgebra.intersect(keyList));
+    }
     SetOperations<String, String> setOperations = stringRedisTemplate.opsForSet();
 
-    return setOperations.intersectAndStore(keys, destKey);
+    return setOperations.intersectAndStore(keyList, destKey);
   }
 
   /**
@@ -254,9 +300,7 @@ public class ExampleSetOperationsService {
    * @return 처리한 데이터 갯수
    */
   public Long intersectAndStore(final String key, final String otherKey, final String destKey) {
-    SetOperations<String, String> setOperations = stringRedisTemplate.opsForSet();
-
-    return setOperations.intersectAndStore(key, otherKey, destKey);
+    return intersectAndStore(List.of(key, otherKey), destKey);
   }
 
   /**
@@ -267,10 +311,9 @@ public class ExampleSetOperationsService {
    * @param destKey 교집합 데이터를 저장할 Set의 키
    * @return 처리한 데이터 갯수
    */
-  public Long intersectAndStore(final String key, final Collection<String> otherKeys, final String destKey) {
-    SetOperations<String, String> setOperations = stringRedisTemplate.opsForSet();
-
-    return setOperations.intersectAndStore(key, otherKeys, destKey);
+  public Long intersectAndStore(
+      final String key, final Collection<String> otherKeys, final String destKey) {
+    return intersectAndStore(keys(key, otherKeys), destKey);
   }
 
   /**
@@ -280,9 +323,13 @@ public class ExampleSetOperationsService {
    * @return union 연산 결과로써 조회한 요소 목록
    */
   public Set<String> union(final Collection<String> keys) {
+    List<String> keyList = new ArrayList<>(keys);
+    if (computesOnClient(keyList, null)) {
+      return clientSideSetAlgebra.union(keyList);
+    }
     SetOperations<String, String> setOperations = stringRedisTemplate.opsForSet();
 
-    return setOperations.union(keys);
+    return setOperations.union(keyList);
   }
 
   /**
@@ -293,9 +340,7 @@ public class ExampleSetOperationsService {
    * @return union 연산 결과로써 조회한 요소 목록
    */
   public Set<String> union(final String key, final String anotherKey) {
-    SetOperations<String, String> setOperations = stringRedisTemplate.opsForSet();
-
-    return setOperations.union(key, anotherKey);
+    return union(List.of(key, anotherKey));
   }
 
   /**
@@ -306,9 +351,7 @@ public class ExampleSetOperationsService {
    * @return union 연산 결과로써 조회한 요소 목록
    */
   public Set<String> union(final String key, final Collection<String> otherKeys) {
-    SetOperations<String, String> setOperations = stringRedisTemplate.opsForSet();
-
-    return setOperations.union(key, otherKeys);
+    return union(keys(key, otherKeys));
   }
 
   /**
@@ -319,9 +362,13 @@ public class ExampleSetOperationsService {
    * @return 처리한 데이터 갯수
    */
   public Long unionAndStore(final Collection<String> keys, final String destKey) {
+    List<String> keyList = new ArrayList<>(keys);
+    if (computesOnClient(keyList, destKey)) {
+      return clientSideSetAlgebra.store(destKey, clientSideSetAlgebra.union(keyList));
+    }
     SetOperations<String, String> setOperations = stringRedisTemplate.opsForSet();
 
-    return setOperations.unionAndStore(keys, destKey);
+    return setOperations.unionAndStore(keyList, destKey);
   }
 
   /**
@@ -333,9 +380,7 @@ public class ExampleSetOperationsService {
    * @return 처리한 데이터 갯수
    */
   public Long unionAndStore(final String key, final String otherKey, final String destKey) {
-    SetOperations<String, String> setOperations = stringRedisTemplate.opsForSet();
-
-    return setOperations.unionAndStore(key, otherKey, destKey);
+    return unionAndStore(List.of(key, otherKey), destKey);
   }
 
   /**
@@ -346,10 +391,98 @@ public class ExampleSetOperationsService {
    * @param destKey 병합한 데이터를 저장할 Set의 키
    * @return 처리한 데이터 갯수
    */
-  public Long unionAndStore(final String key, final Collection<String> otherKeys, final String destKey) {
-    SetOperations<String, String> setOperations = stringRedisTemplate.opsForSet();
+  public Long unionAndStore(
+      final String key, final Collection<String> otherKeys, final String destKey) {
+    return unionAndStore(keys(key, otherKeys), destKey);
+  }
 
-    return setOperations.unionAndStore(key, otherKeys, destKey);
+  /**
+   * Set 자료형들의 합집합을 항상 애플리케이션에서 계산하는 메소드 (모든 Set 을 동시에 SSCAN)
+   *
+   * @param keys 요소를 비교할 Set 자료형의 key 콜렉션
+   * @return union 연산 결과로써 조회한 요소 목록
+   */
+  public Set<String> unionOnClient(final Collection<String> keys) {
+    return clientSideSetAlgebra.union(new ArrayList<>(keys));
+  }
+
+  /**
+   * Set 자료형들의 교집합을 항상 애플리케이션에서 계산하는 메소드 (가장 작은 Set 부터 후보를 줄여감)
+   *
+   * @param keys 요소를 비교할 Set 자료형의 key 콜렉션
+   * @return intersect 연산 결과로써 조회한 요소 목록
+   */
+  public Set<String> intersectOnClient(final Collection<String> keys) {
+    return clientSideSetAlgebra.intersect(new ArrayList<>(keys));
+  }
+
+  /**
+   * Set 자료형들의 차집합을 항상 애플리케이션에서 계산하는 메소드 (첫 번째 Set 에서 나머지 Set 의 요소를 뺌)
+   *
+   * @param keys 요소를 비교할 Set 자료형의 key 콜렉션 (첫 번째가 기준 Set)
+   * @return difference 연산 결과로써 조회한 요소 목록
+   */
+  public Set<String> differenceOnClient(final Collection<String> keys) {
+    return clientSideSetAlgebra.difference(new ArrayList<>(keys));
+  }
+
+  /**
+   * 커넥션 하나를 고정한 채로 Set 명령어 여러 개를 실행하는 메소드 (세션 모드)
+   *
+   * <p>커넥션을 고정하는 방식과 효과는 {@link StringSessionCallback} 참고
+   *
+   * <pre>
+   * service.executeInSession(
+   *     setOperations -> {
+   *       setOperations.add(key, "value");
+   *       return setOperations.members(key);
+   *     });
+   * </pre>
+   *
+   * @param callback 고정된 커넥션으로 실행할 작업
+   * @param <T> 작업 결과 타입
+   * @return callback 의 반환값
+   */
+  public <T> T executeInSession(final Function<SetOperations<String, String>, T> callback) {
+    return stringRedisTemplate.execute(
+        new StringSessionCallback<>(operations -> callback.apply(operations.opsForSet())));
+  }
+
+  /** 서버 명령어 대신 애플리케이션에서 계산해야 하는지 여부 (destKey 는 없으면 null) */
+  private boolean computesOnClient(final List<String> keys, final String destKey) {
+    if (isClusterAware() && spansSlots(keys, destKey)) {
+      return true;
+    }
+    if (clientSideThreshold <= 0) {
+      return false;
+    }
+    long totalSize = 0;
+    for (long size : clientSideSetAlgebra.sizes(keys)) {
+      totalSize += size;
+    }
+    return totalSize > clientSideThreshold;
+  }
+
+  private boolean isClusterAware() {
+    RedisConnectionFactory connectionFactory = stringRedisTemplate.getConnectionFactory();
+    return connectionFactory instanceof LettuceConnectionFactory
+        && ((LettuceConnectionFactory) connectionFactory).isClusterAware();
+  }
+
+  private static boolean spansSlots(final List<String> keys, final String destKey) {
+    int slot = SlotHash.getSlot(keys.get(0));
+    for (String key : keys) {
+      if (SlotHash.getSlot(key) != slot) {
+        return true;
+      }
+    }
+    return destKey != null && SlotHash.getSlot(destKey) != slot;
   }
 
+  private static List<String> keys(final String key, final Collection<String> otherKeys) {
+    List<String> keys = new ArrayList<>(otherKeys.size() + 1);
+    keys.add(key);
+    keys.addAll(otherKeys);
+    return keys;
+  }
 }
@@ -0,0 +1,271 @@
+package com.redis.example.redistemplate.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Resource;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 논리적인 Sorted Set 하나를 여러 개의 Sorted Set(샤드)으로 나누어 저장하는 예제 서비스
+ *
+ * <p>멤버는 멤버 이름의 해시로 정한 샤드 {key}:{0 ~ shards-1} 하나에만 들어간다. 샤드 키에는 해시 태그가 없으므로 클러스터에서는 샤드가 여러
+ * 노드에 흩어지고, 쓰기와 읽기 부하도 노드 수만큼 나누어진다. 쓰기는 {@link ExampleSortedSetOperationsService} 를 그대로 사용한다.
+ *
+ * <p>순위 범위 조회는 모든 샤드에 동시에 요청한 후(리액티브 템플릿) 샤드별로 정렬된 결과를 k-way merge 한다. 각 샤드에서 앞쪽 (offset +
+ * count) 개를 읽어야 하므로 offset 이 클수록 비싸다. 순위는 모든 샤드에서 그 멤버보다 앞에 있는 멤버 수를 더해서 구한다. 샤드를 한 번에
+ * 읽지 않으므로 조회 도중에 바뀐 점수는 일부 샤드에만 반영될 수 있다.
+ *
+ * <p>샤드는 shards 설정으로 정해지므로, shards 를 바꾸면 기존 데이터를 새 샤드로 옮겨야 한다.
+ */
+@Service
+public class ExampleShardedSortedSetService {
+  /** 레디스와 같은 순서 (점수가 같으면 멤버의 UTF-8 바이트를 부호 없이 비교) */
+  static final Comparator<TypedTuple<String>> ASCENDING =
+      Comparator.<TypedTuple<String>, Double>comparing(TypedTuple::getScore)
+          .thenComparing(TypedTuple::getValue, ExampleShardedSortedSetService::compareMembers);
+
+  @Resource private ExampleSortedSetOperationsService exampleSortedSetOperationsService;
+
+  @Resource private ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+  @Value("${example.redis.sharded-sorted-set.shards:8}")
+  private int shards;
+
+  @PostConstruct
+  public void init() {
+    if (shards <= 0) {
+      throw new IllegalStateException("shards 는 1 이상이어야 합니다. shards: " + shards);
+    }
+  }
+
+  /**
+   * 멤버를 추가하거나 점수를 바꾸는 메소드 (ZADD)
+   *
+   * @param key 논리적인 Sorted Set 의 키
+   * @param member 멤버
+   * @param score 점수
+   * @return 새로 추가되었는지 여부
+   */
+  public boolean addValueToSet(final String key, final String member, final double score) {
+    return exampleSortedSetOperationsService.addValueToSet(shardKey(key, member), member, score);
+  }
+
+  /**
+   * 멤버의 점수를 올리는 메소드 (ZINCRBY)
+   *
+   * @param key 논리적인 Sorted Set 의 키
+   * @param member 멤버
+   * @param delta 점수 변화량 (음수면 내림)
+   * @return 바뀐 점수
+   */
+  public double incrementScore(final String key, final String member, final double delta) {
+    return exampleSortedSetOperationsService.incrementScore(shardKey(key, member), member, delta);
+  }
+
+  /**
+   * 멤버를 삭제하는 메소드
+   *
+   * @param key 논리적인 Sorted Set 의 키
+   * @param member 멤버
+   * @return 삭제한 멤버 수
+   */
+  public Long remove(final String key, final String member) {
+    return exampleSortedSetOperationsService.remove(shardKey(key, member), member);
+  }
+
+  /**
+   * 모든 샤드의 멤버 수를 더하는 메소드
+   *
+   * @param key 논리적인 Sorted Set 의 키
+   * @return 멤버 수
+   */
+  public long size(final String key) {
+    return fanOut(key, shardKey -> zSetOperations().size(shardKey)).stream()
+        .mapToLong(Long::longValue)
+        .sum();
+  }
+
+  /**
+   * 점수 오름차순 순위 start ~ end 의 멤버를 조회하는 메소드 (ZRANGE)
+   *
+   * @param key 논리적인 Sorted Set 의 키
+   * @param start 시작 순위 (0 부터, 음수 불가)
+   * @param end 끝 순위 (포함, 음수 불가)
+   * @return 점수 오름차순 멤버 목록
+   */
+  public List<String> range(final String key, final long start, final long end) {
+    if (start < 0 || end < start) {
+      throw new IllegalArgumentException(
+          "start 는 0 이상, end 는 start 이상이어야 합니다. start: " + start + ", end: " + end);
+    }
+    List<List<TypedTuple<String>>> shardTuples =
+        fanOut(
+            key,
+            shardKey ->
+                zSetOperations().rangeWithScores(shardKey, Range.closed(0L, end)).collectList());
+    return merge(shardTuples, ASCENDING, start, end - start + 1).stream()
+        .map(TypedTuple::getValue)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * 점수 조건에 맞는 멤버를 점수 내림차순으로 offset 부터 count 개 조회하는 메소드
+   *
+   * @param key 논리적인 Sorted Set 의 키
+   * @param min 최소 score
+   * @param max 최대 score
+   * @param offset 건너뛸 멤버 수
+   * @param count 조회할 멤버 수
+   * @return 점수 내림차순 멤버 - 점수 쌍 목록
+   */
+  public List<TypedTuple<String>> reverseRangeByScoreWithScores(
+      final String key, final double min, final double max, final long offset, final long count) {
+    if (offset < 0 || count <= 0) {
+      throw new IllegalArgumentException(
+          "offset 은 0 이상, count 는 1 이상이어야 합니다. offset: " + offset + ", count: " + count);
+    }
+    RedisZSetCommands.Limit limit =
+        RedisZSetCommands.Limit.limit().offset(0).count(Math.toIntExact(offset + count));
+    List<List<TypedTuple<String>>> shardTuples =
+        fanOut(
+            key,
+            shardKey ->
+                zSetOperations()
+                    .reverseRangeByScoreWithScores(shardKey, Range.closed(min, max), limit)
+                    .collectList());
+    return merge(shardTuples, ASCENDING.reversed(), offset, count);
+  }
+
+  /**
+   * 멤버의 점수 오름차순 순위를 조회하는 메소드
+   *
+   * <p>멤버의 점수를 조회한 후, 모든 샤드에서 그보다 점수가 낮은 멤버 수(ZCOUNT)와 점수가 같으면서 이름이 앞서는 멤버 수를 더한다. 점수가
+   * 같은 멤버가 많으면 그만큼 읽어야 한다.
+   *
+   * @param key 논리적인 Sorted Set 의 키
+   * @param member 멤버
+   * @return 순위 (0 부터, 멤버가 없으면 null)
+   */
+  public Long rank(final String key, final String member) {
+    Double score = zSetOperations().score(shardKey(key, member), member).block();
+    if (score == null) {
+      return null;
+    }
+    Range<Double> lower = Range.of(Range.Bound.unbounded(), Range.Bound.exclusive(score));
+    Range<Double> same = Range.closed(score, score);
+    return fanOut(
+            key,
+            shardKey ->
+                zSetOperations()
+                    .count(shardKey, lower)
+                    .zipWith(
+                        zSetOperations()
+                            .rangeByScore(shardKey, same)
+                            .filter(other -> compareMembers(other, member) < 0)
+                            .count(),
+                        Long::sum))
+        .stream()
+        .mapToLong(Long::longValue)
+        .sum();
+  }
+
+  /**
+   * 멤버의 점수 내림차순 순위를 조회하는 메소드
+   *
+   * @param key 논리적인 Sorted Set 의 키
+   * @param member 멤버
+   * @return 순위 (0 부터, 멤버가 없으면 null)
+   */
+  public Long reverseRank(final String key, final String member) {
+    Long rank = rank(key, member);
+    return rank == null ? null : size(key) - 1 - rank;
+  }
+
+  /**
+   * 멤버가 들어가는 샤드의 키
+   *
+   * @param key 논리적인 Sorted Set 의 키
+   * @param member 멤버
+   * @return 샤드 키 ({key}:{샤드 번호})
+   */
+  public String shardKey(final String key, final String member) {
+    int hash = member.hashCode();
+    return key + ":" + Math.floorMod(hash ^ (hash >>> 16), shards);
+  }
+
+  private ReactiveZSetOperations<String, String> zSetOperations() {
+    return reactiveStringRedisTemplate.opsForZSet();
+  }
+
+  /** 모든 샤드에 동시에 요청하고 샤드 순서대로 결과를 모은다. */
+  private <T> List<T> fanOut(final String key, final Function<String, Mono<T>> request) {
+    List<Mono<T>> requests = new ArrayList<>(shards);
+    for (int shard = 0; shard < shards; shard++) {
+      requests.add(request.apply(key + ":" + shard));
+    }
+    return Flux.mergeSequential(requests).collectList().block();
+  }
+
+  /**
+   * 점수가 같은 멤버를 레디스와 같은 순서로 비교한다.
+   *
+   * <p>String.compareTo 는 UTF-16 코드 단위로 비교하므로 U+E000 이상이나 BMP 밖의 문자가 있으면 레디스의 UTF-8 바이트 순서와 다르다.
+   */
+  static int compareMembers(final String left, final String right) {
+    return Arrays.compareUnsigned(
+        left.getBytes(StandardCharsets.UTF_8), right.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /** 샤드별로 order 순서로 정렬된 목록을 합쳐서 skip 개를 건너뛴 후 limit 개를 반환한다. */
+  static <T> List<T> merge(
+      final List<List<T>> sortedLists,
+      final Comparator<? super T> order,
+      final long skip,
+      final long limit) {
+    int[] positions = new int[sortedLists.size()];
+    PriorityQueue<Integer> heads =
+        new PriorityQueue<>(
+            Math.max(1, sortedLists.size()),
+            (left, right) ->
+                order.compare(
+                    sortedLists.get(left).get(positions[left]),
+                    sortedLists.get(right).get(positions[right])));
+    for (int i = 0; i < sortedLists.size(); i++) {
+      if (!sortedLists.get(i).isEmpty()) {
+        heads.add(i);
+      }
+    }
+
+    List<T> merged = new ArrayList<>();
+    long skipped = 0;
+    while (!heads.isEmpty() && merged.size() < limit) {
+      int list = heads.poll();
+      T head = sortedLists.get(list).get(positions[list]++);
+      if (skipped < skip) {
+        skipped++;
+      } else {
+        merged.add(head);
+      }
+      if (positions[list] < sortedLists.get(list).size()) {
+        heads.add(list);
+      }
+    }
+    return merged;
+  }
+}
@@ -1,13 +1,23 @@
 package com.redis.example.redistemplate.service;
 
+import com.redis.example.redistemplate.dto.SortedSetPage;
 import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.Resource;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 @Service
@@ -109,6 +119,10 @@ public class ExampleSortedSetOperationsService {
   /**
    * Sorted Set 자료형 내 요소 정보 중 스코어 조건 기준 검색 메소드 (오름차순)
    *
+   * <p>offset 이 클수록 느려지므로, 페이지를 차례로 넘기는 경우에는 {@link
+   * ExampleSortedSetOperationsService#rangeByScorePage(String, double, double, int, String)} 를 사용해야
+   * 한다.
+   *
    * @param key Sorted Set의 키
    * @param min 최소 score
    * @param max 최대 score
@@ -267,7 +281,55 @@ public class ExampleSortedSetOperationsService {
   public Set<ZSetOperations.TypedTuple<String>> reverseRangeByScoreWithScores(
       final String key, final double min, final double max, final long offset, final long count) {
     ZSetOperations<String, String> zSetOperations = stringRedisTemplate.opsForZSet();
-    return zSetOperations.rangeByScoreWithScores(key, min, max, offset, count);
+    return zSetOperations.reverseRangeByScoreWithScores(key, min, max, offset, count);
+  }
+
+  /**
+   * Sorted Set 자료형 내 요소 정보 중 스코어 조건 기준 검색 (오름차순, cursor 기반 페이지)
+   *
+   * <p>LIMIT offset 은 레디스가 offset 개를 건너뛰며 세어야 하므로 뒤 페이지로 갈수록 느려진다. 이 메소드는 이전 페이지의 마지막
+   * 요소(점수, 멤버)를 cursor 로 받아서 그 점수보다 큰 범위(exclusive)부터 읽으므로, 몇 번째 페이지든 비용이 같다. cursor 와 점수가 같은
+   * 멤버는 따로 읽어서 이름 순서로 이어서 돌려주므로(레디스의 같은 점수 정렬 순서), 같은 점수의 멤버가 아주 많으면 그만큼 더 읽는다. 두
+   * 명령어는 파이프라인 하나로 보낸다.
+   *
+   * <p>페이지 사이에 추가, 삭제된 멤버는 위치에 따라 보이거나 보이지 않을 수 있지만, 남아있는 멤버가 중복되거나 빠지지는 않는다.
+   *
+   * @param key Sorted Set의 키
+   * @param min 최소 score
+   * @param max 최대 score
+   * @param count 페이지 크기
+   * @param cursor 이전 페이지의 {@link SortedSetPage#getNextCursor()} (첫 페이지는 null)
+   * @return 검색 결과 페이지
+   */
+  public SortedSetPage rangeByScorePage(
+      final String key,
+      final double min,
+      final double max,
+      final int count,
+      @Nullable final String cursor) {
+    return pageByScore(key, min, max, count, cursor, false);
+  }
+
+  /**
+   * Sorted Set 자료형 내 요소 정보 중 스코어 조건 기준 검색 (내림차순, cursor 기반 페이지)
+   *
+   * <p>{@link ExampleSortedSetOperationsService#rangeByScorePage(String, double, double, int,
+   * String)} 의 내림차순 버전이다. 점수가 같은 멤버는 이름 역순으로 돌려준다.
+   *
+   * @param key Sorted Set의 키
+   * @param min 최소 score
+   * @param max 최대 score
+   * @param count 페이지 크기
+   * @param cursor 이전 페이지의 {@link SortedSetPage#getNextCursor()} (첫 페이지는 null)
+   * @return 검색 결과 페이지
+   */
+  public SortedSetPage reverseRangeByScorePage(
+      final String key,
+      final double min,
+      final double max,
+      final int count,
+      @Nullable final String cursor) {
+    return pageByScore(key, min, max, count, cursor, true);
   }
 
   /**
@@ -356,6 +418,20 @@ public class ExampleSortedSetOperationsService {
     return zSetOperations.removeRangeByScore(key, min, max);
   }
 
+  /**
+   * Sorted Set 자료형 내 요소 정보 중 스코어 조건 기준 검색조건에 해당하는 값을 삭제하는 메소드 (소수점 score)
+   *
+   * @param key Sorted Set의 키
+   * @param min 최소 score
+   * @param max 최대 score
+   * @return 삭제작업 처리 갯수
+   */
+  @Nullable
+  public Long removeRangeByScore(final String key, final double min, final double max) {
+    ZSetOperations<String, String> zSetOperations = stringRedisTemplate.opsForZSet();
+    return zSetOperations.removeRangeByScore(key, min, max);
+  }
+
   /**
    * Sorted Set 자료형을 비교하여, 중복된 요소만 모은 데이터(= 교집합 데이터)를 저장하는 메소드
    *
@@ -485,4 +561,101 @@ public class ExampleSortedSetOperationsService {
 
     return zSetOperations.unionAndStore(key, otherKeys, destKey);
   }
+
+  @SuppressWarnings("unchecked")
+  private SortedSetPage pageByScore(
+      final String key,
+      final double min,
+      final double max,
+      final int count,
+      @Nullable final String cursor,
+      final boolean reverse) {
+    if (count <= 0) {
+      throw new IllegalArgumentException("count 는 1 이상이어야 합니다. count: " + count);
+    }
+    ZSetOperations.TypedTuple<String> after = cursor == null ? null : decodeCursor(cursor);
+    RedisZSetCommands.Range range = RedisZSetCommands.Range.range();
+    if (after == null) {
+      range.gte(min).lte(max);
+    } else if (reverse) {
+      range.gte(min).lt(after.getScore());
+    } else {
+      range.gt(after.getScore()).lte(max);
+    }
+    RedisZSetCommands.Limit limit = RedisZSetCommands.Limit.limit().count(count + 1);
+    byte[] rawKey = stringRedisTemplate.getStringSerializer().serialize(key);
+
+    List<Object> results =
+        stringRedisTemplate.executePipelined(
+            (RedisCallback<Object>)
+                redisConnection -> {
+                  StringRedisConnection connection = (StringRedisConnection) redisConnection;
+                  if (after != null) {
+                    connection.zRangeByScore(key, after.getScore(), after.getScore());
+                  }
+                  if (reverse) {
+                    connection.zRevRangeByScoreWithScores(rawKey, range, limit);
+                  } else {
+                    connection.zRangeByScoreWithScores(rawKey, range, limit);
+                  }
+                  return null;
+                });
+
+    List<ZSetOperations.TypedTuple<String>> items =
+        after == null ? new ArrayList<>() : tiesAfter(after, (Set<String>) results.get(0), reverse);
+    items.addAll((Set<ZSetOperations.TypedTuple<String>>) results.get(results.size() - 1));
+
+    if (items.size() <= count) {
+      return new SortedSetPage(items, null);
+    }
+    List<ZSetOperations.TypedTuple<String>> page = new ArrayList<>(items.subList(0, count));
+    return new SortedSetPage(page, encodeCursor(page.get(count - 1)));
+  }
+
+  /**
+   * after 와 점수가 같은 멤버(ties, 점수 오름차순 조회 결과) 중 페이지 순서상 after 뒤에 오는 멤버를 페이지 순서대로 반환한다.
+   *
+   * @param after 이전 페이지의 마지막 요소
+   * @param ties after 와 점수가 같은 멤버 (오름차순)
+   * @param reverse 점수 내림차순 페이지인지 여부
+   * @return after 뒤에 오는 멤버 - 점수 쌍 목록
+   */
+  static List<ZSetOperations.TypedTuple<String>> tiesAfter(
+      final ZSetOperations.TypedTuple<String> after,
+      final Collection<String> ties,
+      final boolean reverse) {
+    List<String> ordered = new ArrayList<>(ties);
+    if (reverse) {
+      Collections.reverse(ordered);
+    }
+    byte[] afterMember = after.getValue().getBytes(StandardCharsets.UTF_8);
+    List<ZSetOperations.TypedTuple<String>> items = new ArrayList<>();
+    for (String tie : ordered) {
+      // 레디스는 같은 점수의 멤버를 바이트 순서로 정렬한다.
+      int compared = Arrays.compareUnsigned(tie.getBytes(StandardCharsets.UTF_8), afterMember);
+      if (reverse ? compared < 0 : compared > 0) {
+        items.add(new DefaultTypedTuple<>(tie, after.getScore()));
+      }
+    }
+    return items;
+  }
+
+  static String encodeCursor(final ZSetOperations.TypedTuple<String> last) {
+    String raw = Long.toHexString(Double.doubleToLongBits(last.getScore())) + ":" + last.getValue();
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  static ZSetOperations.TypedTuple<String> decodeCursor(final String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.indexOf(':');
+      long scoreBits = Long.parseUnsignedLong(raw.substring(0, separator), 16);
+      double score = Double.longBitsToDouble(scoreBits);
+      return new DefaultTypedTuple<>(raw.substring(separator + 1), score);
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("잘못된 cursor 입니다. cursor: " + cursor, e);
+    }
+  }
 }
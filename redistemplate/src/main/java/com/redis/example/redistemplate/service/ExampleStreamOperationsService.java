@@ -0,0 +1,417 @@
+package com.redis.example.redistemplate.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.Resource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 레디스의 Streams 자료형에 대한 예제 서비스
+ *
+ * <p>List 와 달리 읽은 메시지가 지워지지 않으므로 ID 범위로 다시 읽을 수 있고(replay), 소비자 그룹(consumer group)으로 여러 소비자가
+ * 메시지를 나눠 처리하면서 처리 완료(XACK)되지 않은 메시지를 추적할 수 있다.
+ *
+ * <p>example.redis.stream.max-length 가 0 보다 크면 XADD 할 때 MAXLEN ~ 로 스트림 길이를 대략 그 값으로 유지한다. 정확한
+ * 길이로 자르지 않고 내부 노드 단위로 지우므로 비용이 작다. Spring Data Redis 2.2 의 StreamOperations 는 MAXLEN ~,
+ * XGROUP CREATE 의 MKSTREAM, XPENDING/XCLAIM 을 지원하지 않으므로, 이 기능들은 Lua 스크립트로 실행한다.
+ */
+@Service
+public class ExampleStreamOperationsService {
+  /** XGROUP CREATE ... MKSTREAM (그룹이 이미 있으면 0 반환) */
+  static final RedisScript<Long> CREATE_GROUP_SCRIPT =
+      new DefaultRedisScript<>(
+          "local ok, result = "
+              + "pcall(redis.call, 'XGROUP', 'CREATE', KEYS[1], ARGV[1], ARGV[2], 'MKSTREAM') "
+              + "if ok then return 1 end "
+              + "if string.find(result['err'], 'BUSYGROUP') then return 0 end "
+              + "return redis.error_reply(result['err'])",
+          Long.class);
+
+  /** XADD key MAXLEN ~ ARGV[1] * field value ... */
+  static final RedisScript<String> ADD_TRIMMED_SCRIPT =
+      new DefaultRedisScript<>(
+          "return redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[1], '*', unpack(ARGV, 2))",
+          String.class);
+
+  /** XTRIM key MAXLEN ~ ARGV[1] */
+  static final RedisScript<Long> TRIM_SCRIPT =
+      new DefaultRedisScript<>(
+          "return redis.call('XTRIM', KEYS[1], 'MAXLEN', '~', ARGV[1])", Long.class);
+
+  static final String DEAD_LETTER_KEY_SUFFIX = ":dead";
+
+  /**
+   * 그룹의 처리 대기(pending) 메시지 중 오래된 순으로 최대 ARGV[3] 개를 살펴서, ARGV[2] 밀리초 이상 ack 되지 않은 메시지를 ARGV[4]
+   * 소비자에게 넘기고(XCLAIM) 넘긴 메시지를 반환 (Redis 6.2 의 XAUTOCLAIM 과 같은 동작)
+   *
+   * <p>이미 ARGV[5] 번 이상 전달된 메시지는 넘기지 않고 KEYS[2] 스트림으로 옮긴 후(필드 앞에 source-id 추가) ack 한다.
+   *
+   * <p>반환값: {KEYS[2] 로 옮긴 메시지 수, 넘긴 메시지1, 넘긴 메시지2, ...}
+   */
+  @SuppressWarnings("rawtypes")
+  static final RedisScript<List> CLAIM_IDLE_SCRIPT =
+      new DefaultRedisScript<>(
+          "redis.replicate_commands() "
+              + "local pending = redis.call('XPENDING', KEYS[1], ARGV[1], '-', '+', ARGV[3]) "
+              + "local ids = {} "
+              + "local dead = 0 "
+              + "for _, entry in ipairs(pending) do "
+              + "  if entry[3] >= tonumber(ARGV[2]) then "
+              + "    if entry[4] >= tonumber(ARGV[5]) then "
+              + "      local records = redis.call('XRANGE', KEYS[1], entry[1], entry[1]) "
+              + "      if #records > 0 then "
+              + "        redis.call('XADD', KEYS[2], '*', 'source-id', entry[1], "
+              + "unpack(records[1][2])) "
+              + "      end "
+              + "      redis.call('XACK', KEYS[1], ARGV[1], entry[1]) "
+              + "      dead = dead + 1 "
+              + "    else "
+              + "      ids[#ids + 1] = entry[1] "
+              + "    end "
+              + "  end "
+              + "end "
+              + "local claimed = {} "
+              + "if #ids > 0 then "
+              + "  claimed = redis.call('XCLAIM', KEYS[1], ARGV[1], ARGV[4], ARGV[2], unpack(ids)) "
+              + "end "
+              + "table.insert(claimed, 1, dead) "
+              + "return claimed",
+          List.class);
+
+  @Resource private StringRedisTemplate stringRedisTemplate;
+
+  @Resource private RedisConnectionFactory blockingRedisConnectionFactory;
+
+  @Value("${example.redis.stream.max-length:0}")
+  private long maxLength;
+
+  @Value("${example.redis.stream.ack-chunk-size:500}")
+  private int ackChunkSize;
+
+  @Value("${example.redis.stream.read-count:100}")
+  private int readCount;
+
+  @Value("${example.redis.stream.poll-timeout:PT1S}")
+  private Duration pollTimeout;
+
+  @Value("${example.redis.stream.ack-batch-size:100}")
+  private int ackBatchSize;
+
+  @Value("${example.redis.stream.ack-interval:PT0.1S}")
+  private Duration ackInterval;
+
+  @Value("${example.redis.stream.claim-min-idle:PT30S}")
+  private Duration claimMinIdle;
+
+  @Value("${example.redis.stream.reclaim-interval:PT5S}")
+  private Duration reclaimInterval;
+
+  @Value("${example.redis.stream.max-deliveries:5}")
+  private int maxDeliveries;
+
+  /**
+   * 스트림에 메시지 하나를 추가하는 메소드 (XADD)
+   *
+   * @param key Stream 의 키
+   * @param fields 메시지의 field - value
+   * @return 추가된 메시지의 ID
+   */
+  public RecordId add(final String key, final Map<String, String> fields) {
+    if (maxLength <= 0) {
+      return streamOperations().add(key, fields);
+    }
+    List<String> args = new ArrayList<>(fields.size() * 2 + 1);
+    args.add(String.valueOf(maxLength));
+    for (Map.Entry<String, String> field : fields.entrySet()) {
+      args.add(field.getKey());
+      args.add(field.getValue());
+    }
+    String id = stringRedisTemplate.execute(ADD_TRIMMED_SCRIPT, List.of(key), args.toArray());
+    return RecordId.of(id);
+  }
+
+  /**
+   * 스트림에 메시지 여러 개를 파이프라인 한 번으로 추가하는 메소드
+   *
+   * <p>max-length 가 설정되어 있으면 같은 파이프라인의 마지막에 XTRIM MAXLEN ~ 을 한 번만 보낸다.
+   *
+   * @param key Stream 의 키
+   * @param messages 메시지 목록 (목록 순서대로 추가됨)
+   * @return 추가된 메시지의 ID 목록 (messages 순서)
+   */
+  public List<RecordId> addAll(final String key, final List<Map<String, String>> messages) {
+    if (messages.isEmpty()) {
+      return List.of();
+    }
+    List<Object> results =
+        stringRedisTemplate.executePipelined(
+            (RedisCallback<Object>)
+                redisConnection -> {
+                  StringRedisConnection connection = (StringRedisConnection) redisConnection;
+                  for (Map<String, String> fields : messages) {
+                    connection.xAdd(StreamRecords.newRecord().in(key).ofStrings(fields));
+                  }
+                  if (maxLength > 0) {
+                    connection.eval(
+                        TRIM_SCRIPT.getScriptAsString(),
+                        ReturnType.INTEGER,
+                        1,
+                        key,
+                        String.valueOf(maxLength));
+                  }
+                  return null;
+                });
+
+    List<RecordId> ids = new ArrayList<>(messages.size());
+    for (int i = 0; i < messages.size(); i++) {
+      Object result = results.get(i);
+      ids.add(result instanceof RecordId ? (RecordId) result : RecordId.of(String.valueOf(result)));
+    }
+    return ids;
+  }
+
+  /**
+   * 스트림에 들어있는 메시지 수 (XLEN)
+   *
+   * @param key Stream 의 키
+   * @return 메시지 수
+   */
+  public Long size(final String key) {
+    return streamOperations().size(key);
+  }
+
+  /**
+   * ID 범위로 메시지를 다시 읽는 메소드 (XRANGE)
+   *
+   * <p>다음 페이지는 마지막으로 받은 ID 의 바로 다음 ID(예: 1518951480106-0 다음은 1518951480106-1)부터 읽으면 된다.
+   *
+   * @param key Stream 의 키
+   * @param range ID 범위 (예: Range.unbounded())
+   * @param count 최대 메시지 수
+   * @return 메시지 목록 (ID 오름차순)
+   */
+  public List<MapRecord<String, String, String>> range(
+      final String key, final Range<String> range, final int count) {
+    return streamOperations().range(key, range, RedisZSetCommands.Limit.limit().count(count));
+  }
+
+  /**
+   * 스트림 길이를 대략 maxLength 로 줄이는 메소드 (XTRIM MAXLEN ~)
+   *
+   * @param key Stream 의 키
+   * @param maxLength 남길 메시지 수
+   * @return 지운 메시지 수
+   */
+  public Long trimApproximately(final String key, final long maxLength) {
+    return stringRedisTemplate.execute(TRIM_SCRIPT, List.of(key), String.valueOf(maxLength));
+  }
+
+  /**
+   * 소비자 그룹을 만드는 메소드 (스트림이 없으면 빈 스트림을 만든다)
+   *
+   * @param key Stream 의 키
+   * @param group 그룹 이름
+   * @param readOffset 그룹이 처음 읽을 위치 (ReadOffset.from("0") 이면 처음부터, ReadOffset.latest() 이면 이후 메시지만)
+   * @return 새로 만들었는지 여부 (이미 있으면 false)
+   */
+  public boolean createGroup(final String key, final String group, final ReadOffset readOffset) {
+    Long created =
+        stringRedisTemplate.execute(
+            CREATE_GROUP_SCRIPT, List.of(key), group, readOffset.getOffset());
+    return created != null && created == 1;
+  }
+
+  /**
+   * 소비자 그룹으로 아직 누구에게도 전달되지 않은 메시지를 최대 count 개 읽는 메소드 (XREADGROUP COUNT, 블로킹 없음)
+   *
+   * @param key Stream 의 키
+   * @param group 그룹 이름
+   * @param consumer 소비자 이름
+   * @param count 최대 메시지 수
+   * @return 메시지 목록 (읽은 메시지는 ack 하기 전까지 처리 대기 상태로 남음)
+   */
+  @SuppressWarnings("unchecked")
+  public List<MapRecord<String, String, String>> readGroup(
+      final String key, final String group, final String consumer, final int count) {
+    return streamOperations()
+        .read(
+            org.springframework.data.redis.connection.stream.Consumer.from(group, consumer),
+            StreamReadOptions.empty().count(count),
+            StreamOffset.create(key, ReadOffset.lastConsumed()));
+  }
+
+  /**
+   * 처리한 메시지를 ack 하는 메소드
+   *
+   * <p>ID 를 ack-chunk-size 개씩 나눈 XACK 들을 파이프라인 한 번으로 보낸다.
+   *
+   * @param key Stream 의 키
+   * @param group 그룹 이름
+   * @param ids ack 할 메시지 ID 콜렉션
+   * @return ack 된 메시지 수
+   */
+  public long acknowledge(final String key, final String group, final Collection<RecordId> ids) {
+    if (ids.isEmpty()) {
+      return 0;
+    }
+    List<RecordId> idList = new ArrayList<>(ids);
+    List<Object> results =
+        stringRedisTemplate.executePipelined(
+            (RedisCallback<Object>)
+                redisConnection -> {
+                  StringRedisConnection connection = (StringRedisConnection) redisConnection;
+                  for (int from = 0; from < idList.size(); from += ackChunkSize) {
+                    List<RecordId> chunk =
+                        idList.subList(from, Math.min(from + ackChunkSize, idList.size()));
+                    connection.xAck(key, group, chunk.toArray(new RecordId[0]));
+                  }
+                  return null;
+                });
+
+    long acknowledged = 0;
+    for (Object result : results) {
+      acknowledged += result == null ? 0 : ((Number) result).longValue();
+    }
+    return acknowledged;
+  }
+
+  /**
+   * minIdle 이상 ack 되지 않은 처리 대기 메시지를 consumer 에게 넘기는 메소드
+   *
+   * <p>메시지를 읽은 소비자가 죽거나 처리에 실패한 경우 다른 소비자가 이어서 처리하기 위해 사용한다. 넘겨받은 메시지의 전달 횟수는 1 증가한다.
+   * 이미 maxDeliveries 번 전달된 메시지는 계속 실패하는 메시지로 보고 넘기지 않고, {key}:dead 스트림으로 옮긴 후 ack 한다. (클러스터에서는
+   * 두 키가 같은 슬롯에 있도록 key 에 해시 태그({...})를 넣어야 함)
+   *
+   * @param key Stream 의 키
+   * @param group 그룹 이름
+   * @param consumer 메시지를 넘겨받을 소비자 이름
+   * @param minIdle 최소 미처리 시간
+   * @param count 한 번에 살펴볼 처리 대기 메시지 수
+   * @param maxDeliveries 최대 전달 횟수
+   * @return 넘겨받은 메시지 목록 (그 사이 지워진 메시지, {key}:dead 로 옮긴 메시지는 제외)
+   */
+  @SuppressWarnings("unchecked")
+  public List<MapRecord<String, String, String>> claimIdle(
+      final String key,
+      final String group,
+      final String consumer,
+      final Duration minIdle,
+      final int count,
+      final int maxDeliveries) {
+    List<Object> claimed =
+        stringRedisTemplate.execute(
+            CLAIM_IDLE_SCRIPT,
+            List.of(key, key + DEAD_LETTER_KEY_SUFFIX),
+            group,
+            String.valueOf(minIdle.toMillis()),
+            String.valueOf(count),
+            consumer,
+            String.valueOf(maxDeliveries));
+    if (claimed == null || claimed.size() <= 1) {
+      return List.of();
+    }
+
+    List<MapRecord<String, String, String>> records = new ArrayList<>(claimed.size() - 1);
+    for (Object entry : claimed.subList(1, claimed.size())) {
+      if (!(entry instanceof List)) {
+        continue;
+      }
+      List<Object> idAndFields = (List<Object>) entry;
+      if (idAndFields.size() < 2 || idAndFields.get(1) == null) {
+        continue;
+      }
+      List<Object> flatFields = (List<Object>) idAndFields.get(1);
+      Map<String, String> fields = new LinkedHashMap<>();
+      for (int i = 0; i + 1 < flatFields.size(); i += 2) {
+        fields.put((String) flatFields.get(i), (String) flatFields.get(i + 1));
+      }
+      records.add(
+          StreamRecords.newRecord()
+              .in(key)
+              .withId(RecordId.of((String) idAndFields.get(0)))
+              .ofMap(fields));
+    }
+    return records;
+  }
+
+  /**
+   * 소비자 그룹으로 메시지를 처리하는 소비자를 시작하는 메소드
+   *
+   * <p>StreamMessageListenerContainer 가 XREADGROUP COUNT read-count BLOCK poll-timeout 으로 메시지를 읽어서
+   * handler 에 넘긴다. handler 가 정상 종료한 메시지의 ID 는 모아두었다가 ack-batch-size 개가 되거나 ack-interval 이 지나면 한 번에
+   * ack 한다. handler 가 예외를 던진 메시지는 ack 하지 않으므로, claim-min-idle 이 지나면 reclaim-interval 마다 실행되는 {@link
+   * ExampleStreamOperationsService#claimIdle(String, String, String, Duration, int, int)} 로 다시 처리되고,
+   * max-deliveries 번 전달된 후에도 ack 되지 않으면 {key}:dead 스트림으로 옮겨진다.
+   *
+   * <p>XREADGROUP BLOCK 은 커넥션을 붙잡으므로 블로킹 전용 커넥션 풀(blockingRedisConnectionFactory)을 사용한다. 그룹이
+   * 없으면 스트림의 처음부터 읽는 그룹을 만든다.
+   *
+   * @param key Stream 의 키
+   * @param group 그룹 이름
+   * @param consumer 소비자 이름 (그룹 안에서 유일해야 함)
+   * @param handler 메시지 처리 로직
+   * @return 실행 중인 소비자 (close 하면 남은 ack 를 보내고 종료)
+   */
+  public StreamGroupConsumer startConsumer(
+      final String key,
+      final String group,
+      final String consumer,
+      final Consumer<MapRecord<String, String, String>> handler) {
+    createGroup(key, group, ReadOffset.from("0"));
+    StreamGroupConsumer groupConsumer =
+        new StreamGroupConsumer(
+            this,
+            blockingRedisConnectionFactory,
+            key,
+            group,
+            consumer,
+            handler,
+            readCount,
+            pollTimeout,
+            ackBatchSize,
+            ackInterval,
+            claimMinIdle,
+            reclaimInterval,
+            maxDeliveries);
+    groupConsumer.start();
+    return groupConsumer;
+  }
+
+  /**
+   * max-deliveries 번 전달된 후에도 처리되지 않아서 {key}:dead 스트림으로 옮겨진 메시지 수 (XLEN)
+   *
+   * @param key Stream 의 키
+   * @return 옮겨진 메시지 수
+   */
+  public long deadLetterCount(final String key) {
+    Long size = streamOperations().size(key + DEAD_LETTER_KEY_SUFFIX);
+    return size == null ? 0 : size;
+  }
+
+  private StreamOperations<String, String, String> streamOperations() {
+    return stringRedisTemplate.opsForStream();
+  }
+}
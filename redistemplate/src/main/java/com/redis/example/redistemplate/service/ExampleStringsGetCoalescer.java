@@ -0,0 +1,205 @@
+package com.redis.example.redistemplate.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 여러 스레드에서 동시에 들어오는 Strings 단건 조회를 모아서 MGET 한번으로 처리하는 컴포넌트
+ *
+ * <p>첫 조회 요청이 들어온 시점부터 window-micros 가 지나거나, 요청이 max-batch-size 개 모이면 그때까지 모인 키를 MGET 한번으로
+ * 조회한 후 각 요청자에게 자기 키의 결과를 돌려준다. MGET 이 실행되는 동안 들어온 요청은 다음 MGET 에 모이므로 부하가 클수록 한번에
+ * 처리되는 키가 많아진다. 대신 요청 하나당 최대 window-micros 만큼 지연이 생길 수 있다.
+ *
+ * <p>example.redis.strings.coalescing.enabled=true 일 때만 빈으로 등록되며, 등록되어 있으면 {@link
+ * ExampleStringsOperationsService#get(String)} 이 이 컴포넌트를 거쳐서 조회한다.
+ */
+@Service
+@ConditionalOnProperty(
+    prefix = "example.redis.strings.coalescing",
+    name = "enabled",
+    havingValue = "true")
+public class ExampleStringsGetCoalescer {
+  @Resource private StringRedisTemplate stringRedisTemplate;
+
+  @Value("${example.redis.strings.coalescing.window-micros:200}")
+  private long windowMicros;
+
+  @Value("${example.redis.strings.coalescing.max-batch-size:64}")
+  private int maxBatchSize;
+
+  @Value("${example.redis.connection.command-timeout:PT2S}")
+  private Duration commandTimeout;
+
+  private final BlockingQueue<PendingGet> pendingGets = new LinkedBlockingQueue<>();
+  private final LongAdder batchCount = new LongAdder();
+  private final LongAdder requestCount = new LongAdder();
+
+  private volatile boolean running;
+  private Thread dispatcher;
+
+  @PostConstruct
+  public void start() {
+    running = true;
+    dispatcher = new Thread(this::dispatchLoop, "strings-get-coalescer");
+    dispatcher.setDaemon(true);
+    dispatcher.start();
+  }
+
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    running = false;
+    dispatcher.interrupt();
+    dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+    failPending();
+  }
+
+  /**
+   * Strings 데이터 단건을 조회하는 메소드 (비동기)
+   *
+   * @param key Strings 데이터의 key
+   * @return 다음 MGET 이 끝나면 완료되는 Strings 데이터
+   */
+  public CompletableFuture<String> getAsync(final String key) {
+    PendingGet pendingGet = new PendingGet(key);
+    if (!running) {
+      pendingGet.future.completeExceptionally(new IllegalStateException("coalescer가 종료되었습니다."));
+      return pendingGet.future;
+    }
+    pendingGets.add(pendingGet);
+    if (!running) {
+      // 넣는 사이에 stop 이 끝났으면 디스패처가 더 이상 꺼내지 않는다. (이미 완료된 요청에는 영향 없음)
+      pendingGet.future.completeExceptionally(new IllegalStateException("coalescer가 종료되었습니다."));
+    }
+    return pendingGet.future;
+  }
+
+  /**
+   * Strings 데이터 단건을 조회하는 메소드
+   *
+   * <p>window-micros 에 command-timeout 을 더한 시간 안에 결과를 받지 못하면 {@link QueryTimeoutException} 이 발생한다.
+   *
+   * @param key Strings 데이터의 key
+   * @return Strings 데이터
+   */
+  public String get(final String key) {
+    long timeoutNanos = commandTimeout.toNanos() + TimeUnit.MICROSECONDS.toNanos(windowMicros);
+    try {
+      return getAsync(key).get(timeoutNanos, TimeUnit.NANOSECONDS);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException("MGET 실행 중 오류가 발생했습니다.", e.getCause());
+    } catch (TimeoutException e) {
+      throw new QueryTimeoutException("coalescer 조회 제한시간이 지났습니다. key: " + key, e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("조회 결과를 기다리는 중 인터럽트되었습니다.", e);
+    }
+  }
+
+  /** @return 지금까지 실행한 MGET 횟수 */
+  public long getBatchCount() {
+    return batchCount.sum();
+  }
+
+  /** @return 지금까지 MGET 으로 처리한 조회 요청 수 */
+  public long getRequestCount() {
+    return requestCount.sum();
+  }
+
+  private void dispatchLoop() {
+    List<PendingGet> batch = new ArrayList<>(maxBatchSize);
+    long windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+
+    while (running) {
+      try {
+        batch.add(pendingGets.take());
+        long deadline = System.nanoTime() + windowNanos;
+        while (batch.size() < maxBatchSize) {
+          long remaining = deadline - System.nanoTime();
+          PendingGet next =
+              remaining > 0 ? pendingGets.poll(remaining, TimeUnit.NANOSECONDS) : null;
+          if (next == null) {
+            pendingGets.drainTo(batch, maxBatchSize - batch.size());
+            break;
+          }
+          batch.add(next);
+        }
+        dispatch(batch);
+        batch.clear();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+
+    failAll(batch);
+    failPending();
+  }
+
+  private void dispatch(final List<PendingGet> batch) {
+    List<String> keys = new ArrayList<>(batch.size());
+    Map<String, Integer> keyIndexes = new HashMap<>();
+    for (PendingGet pendingGet : batch) {
+      if (keyIndexes.putIfAbsent(pendingGet.key, keys.size()) == null) {
+        keys.add(pendingGet.key);
+      }
+    }
+
+    try {
+      List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+      for (PendingGet pendingGet : batch) {
+        pendingGet.future.complete(values.get(keyIndexes.get(pendingGet.key)));
+      }
+    } catch (Throwable e) {
+      // Error 도 요청자에게 전달해서 디스패처 스레드가 죽지 않고 대기 중인 요청이 영원히 기다리지 않게 한다.
+      for (PendingGet pendingGet : batch) {
+        pendingGet.future.completeExceptionally(e);
+      }
+    }
+    batchCount.increment();
+    requestCount.add(batch.size());
+  }
+
+  private void failPending() {
+    List<PendingGet> remaining = new ArrayList<>();
+    pendingGets.drainTo(remaining);
+    failAll(remaining);
+  }
+
+  /** 아직 완료되지 않은 요청을 실패 처리 (이미 완료된 요청에는 영향 없음) */
+  private void failAll(final List<PendingGet> batch) {
+    for (PendingGet pendingGet : batch) {
+      pendingGet.future.completeExceptionally(new IllegalStateException("coalescer가 종료되었습니다."));
+    }
+  }
+
+  private static class PendingGet {
+    private final String key;
+    private final CompletableFuture<String> future = new CompletableFuture<>();
+
+    private PendingGet(final String key) {
+      this.key = key;
+    }
+  }
+}
@@ -1,10 +1,20 @@
 package com.redis.example.redistemplate.service;
 
+import com.redis.example.redistemplate.cache.NearCache;
+import com.redis.example.redistemplate.dto.StringsCommand;
+import com.redis.example.redistemplate.dto.StringsCommandResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.Resource;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -14,6 +24,15 @@ import java.util.Map;
 public class ExampleStringsOperationsService {
   @Resource private StringRedisTemplate stringRedisTemplate;
 
+  @Autowired(required = false)
+  private ExampleStringsGetCoalescer stringsGetCoalescer;
+
+  @Autowired(required = false)
+  private NearCache<String> stringsNearCache;
+
+  @Value("${example.redis.strings.batch-chunk-size:100}")
+  private int batchChunkSize;
+
   /**
    * Strings 데이터 단건 저장 메소드
    *
@@ -23,6 +42,7 @@ public class ExampleStringsOperationsService {
   public void set(final String key, final String value) {
     ValueOperations<String, String> valueOperations = stringRedisTemplate.opsForValue();
     valueOperations.set(key, value);
+    invalidateNearCache(key);
   }
 
   /**
@@ -32,15 +52,31 @@ public class ExampleStringsOperationsService {
   public void multiSet(final Map<String, String> mapObj) {
     ValueOperations<String, String> valueOperations = stringRedisTemplate.opsForValue();
     valueOperations.multiSet(mapObj);
+    if (stringsNearCache != null) {
+      stringsNearCache.invalidateAll(mapObj.keySet());
+    }
   }
 
   /**
    * Strings 데이터 단건을 조회하는 메소드
    *
+   * <p>로컬 캐시({@link NearCache})가 활성화되어 있으면 캐시된 값을 먼저 확인한다. {@link ExampleStringsGetCoalescer} 가
+   * 활성화되어 있으면, 동시에 들어온 다른 조회 요청과 묶어서 MGET 으로 조회한다.
+   *
    * @param key Strings 데이터의 key
    * @return Strings 데이터
    */
   public String get(final String key) {
+    if (stringsNearCache != null) {
+      return stringsNearCache.get(key, this::getFromRedis);
+    }
+    return getFromRedis(key);
+  }
+
+  private String getFromRedis(final String key) {
+    if (stringsGetCoalescer != null) {
+      return stringsGetCoalescer.get(key);
+    }
     ValueOperations<String, String> valueOperations = stringRedisTemplate.opsForValue();
     return valueOperations.get(key);
   }
@@ -65,7 +101,9 @@ public class ExampleStringsOperationsService {
   public String getAndSet(final String key, final String value) {
     ValueOperations<String, String> valueOperations = stringRedisTemplate.opsForValue();
 
-    return valueOperations.getAndSet(key, value);
+    String oldValue = valueOperations.getAndSet(key, value);
+    invalidateNearCache(key);
+    return oldValue;
   }
 
   /**
@@ -77,7 +115,9 @@ public class ExampleStringsOperationsService {
    */
   public Integer append(final String key, final String value) {
     ValueOperations<String, String> valueOperations = stringRedisTemplate.opsForValue();
-    return valueOperations.append(key, value);
+    Integer length = valueOperations.append(key, value);
+    invalidateNearCache(key);
+    return length;
   }
 
   /**
@@ -87,7 +127,9 @@ public class ExampleStringsOperationsService {
    * @return 삭제성공 여부
    */
   public boolean delete(final String key) {
-    return stringRedisTemplate.delete(key);
+    boolean deleted = stringRedisTemplate.delete(key);
+    invalidateNearCache(key);
+    return deleted;
   }
 
   /**
@@ -97,8 +139,95 @@ public class ExampleStringsOperationsService {
    * @return 삭제 성공한 데이터 갯수
    */
   public long delete(final Collection<String> keys) {
-    return stringRedisTemplate.delete(keys);
+    long deletedCount = stringRedisTemplate.delete(keys);
+    if (stringsNearCache != null) {
+      stringsNearCache.invalidateAll(keys);
+    }
+    return deletedCount;
+  }
+
+  /**
+   * 여러 Strings 명령어(SET, GET, GETSET, APPEND, DEL)를 파이프라인으로 묶어서 실행하는 메소드
+   *
+   * <p>기본 청크 크기(example.redis.strings.batch-chunk-size, 기본값 100) 만큼씩 나누어 실행한다.
+   *
+   * @param commands 실행할 명령어 목록
+   * @return 명령어 순서와 동일한 순서의 실행 결과 목록
+   */
+  public List<StringsCommandResult> executeBatch(final List<StringsCommand> commands) {
+    return executeBatch(commands, batchChunkSize);
   }
 
+  /**
+   * 여러 Strings 명령어(SET, GET, GETSET, APPEND, DEL)를 파이프라인으로 묶어서 실행하는 메소드
+   *
+   * <p>명령어 N개를 chunkSize 개씩 나누어 파이프라인 하나로 보내므로, 네트워크 왕복 횟수가 N 에서 N / chunkSize 로 줄어든다.
+   * 파이프라인은 트랜잭션이 아니므로 청크 사이, 명령어 사이에 다른 클라이언트의 명령어가 끼어들 수 있다.
+   *
+   * @param commands 실행할 명령어 목록
+   * @param chunkSize 파이프라인 하나에 담을 명령어 갯수
+   * @return 명령어 순서와 동일한 순서의 실행 결과 목록
+   */
+  public List<StringsCommandResult> executeBatch(
+      final List<StringsCommand> commands, final int chunkSize) {
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("chunkSize는 1 이상이어야 합니다. chunkSize: " + chunkSize);
+    }
+
+    List<StringsCommandResult> results = new ArrayList<>(commands.size());
+    for (int from = 0; from < commands.size(); from += chunkSize) {
+      List<StringsCommand> chunk = commands.subList(from, Math.min(from + chunkSize, commands.size()));
+      List<Object> chunkResults =
+          stringRedisTemplate.executePipelined(
+              (RedisCallback<Object>)
+                  connection -> {
+                    StringRedisConnection stringRedisConnection = (StringRedisConnection) connection;
+                    for (StringsCommand command : chunk) {
+                      pipeline(stringRedisConnection, command);
+                    }
+                    return null;
+                  });
 
+      for (int i = 0; i < chunk.size(); i++) {
+        results.add(new StringsCommandResult(chunk.get(i), chunkResults.get(i)));
+        if (chunk.get(i).getType() != StringsCommand.Type.GET) {
+          invalidateNearCache(chunk.get(i).getKey());
+        }
+      }
+    }
+    return results;
+  }
+
+  private void invalidateNearCache(final String key) {
+    if (stringsNearCache != null) {
+      stringsNearCache.invalidate(key);
+    }
+  }
+
+  private void pipeline(final StringRedisConnection connection, final StringsCommand command) {
+    switch (command.getType()) {
+      case SET:
+        Expiration expiration =
+            command.getTimeToLive() == null
+                ? Expiration.persistent()
+                : Expiration.from(command.getTimeToLive());
+        connection.set(
+            command.getKey(), command.getValue(), expiration, RedisStringCommands.SetOption.upsert());
+        break;
+      case GET:
+        connection.get(command.getKey());
+        break;
+      case GET_AND_SET:
+        connection.getSet(command.getKey(), command.getValue());
+        break;
+      case APPEND:
+        connection.append(command.getKey(), command.getValue());
+        break;
+      case DELETE:
+        connection.del(command.getKey());
+        break;
+      default:
+        throw new IllegalArgumentException("지원하지 않는 명령어입니다. type: " + command.getType());
+    }
+  }
 }
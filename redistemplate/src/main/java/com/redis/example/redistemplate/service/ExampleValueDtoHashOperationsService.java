@@ -0,0 +1,134 @@
+package com.redis.example.redistemplate.service;
+
+import com.redis.example.redistemplate.dto.ValueDto;
+import com.redis.example.redistemplate.serializer.ValueDtoHashMapper;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.Resource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO를 Hash 데이터로 저장하는 서비스
+ *
+ * <p>{@link ExampleValueDtoStringsOperationsService} 는 DTO 전체를 하나의 값으로 직렬화하므로 프로퍼티 하나만 바꿀 때도 전체를
+ * 읽고 다시 써야 한다. 여기서는 {@link ValueDtoHashMapper} 로 프로퍼티마다 field 하나씩 저장하므로, 필요한 field 만 읽고 쓸 수
+ * 있고 field 하나를 바꾸는 동안 다른 field 의 변경을 덮어쓰지 않는다.
+ */
+@Service
+public class ExampleValueDtoHashOperationsService {
+  private static final ValueDtoHashMapper VALUE_DTO_HASH_MAPPER = new ValueDtoHashMapper();
+
+  @Resource private StringRedisTemplate stringRedisTemplate;
+
+  /**
+   * DTO를 Hash 데이터로 저장 (null 인 프로퍼티의 field 는 삭제)
+   *
+   * @param key DTO를 저장할 Hash 데이터 키
+   * @param valueDto 저장할 DTO 데이터
+   */
+  public void setValueDtoHash(final String key, final ValueDto valueDto) {
+    Map<String, String> hash = VALUE_DTO_HASH_MAPPER.toHash(valueDto);
+    if (hash.isEmpty()) {
+      stringRedisTemplate.delete(key);
+      return;
+    }
+
+    List<String> nullFields = new ArrayList<>(ValueDtoHashMapper.FIELDS);
+    nullFields.removeAll(hash.keySet());
+    if (nullFields.isEmpty()) {
+      stringRedisTemplate.opsForHash().putAll(key, hash);
+      return;
+    }
+
+    stringRedisTemplate.executePipelined(
+        (RedisCallback<Object>)
+            connection -> {
+              StringRedisConnection stringRedisConnection = (StringRedisConnection) connection;
+              stringRedisConnection.hMSet(key, hash);
+              stringRedisConnection.hDel(key, nullFields.toArray(new String[0]));
+              return null;
+            });
+  }
+
+  /**
+   * Hash 데이터로 저장한 DTO 전체 조회
+   *
+   * @param key DTO를 저장한 Hash 데이터 키
+   * @return 조회한 DTO 객체 (키가 없으면 null)
+   */
+  public ValueDto getValueDtoHash(final String key) {
+    HashOperations<String, String, String> stringHashOperations = stringRedisTemplate.opsForHash();
+    Map<String, String> hash = stringHashOperations.entries(key);
+    return hash.isEmpty() ? null : VALUE_DTO_HASH_MAPPER.fromHash(hash);
+  }
+
+  /**
+   * DTO 프로퍼티 하나만 조회
+   *
+   * @param key DTO를 저장한 Hash 데이터 키
+   * @param field 조회할 프로퍼티 이름 ({@link ValueDtoHashMapper#FIELDS})
+   * @return 프로퍼티 값
+   */
+  public String getField(final String key, final String field) {
+    ValueDtoHashMapper.checkField(field);
+    HashOperations<String, String, String> stringHashOperations = stringRedisTemplate.opsForHash();
+    return stringHashOperations.get(key, field);
+  }
+
+  /**
+   * 지정한 프로퍼티만 조회 (HMGET)
+   *
+   * @param key DTO를 저장한 Hash 데이터 키
+   * @param fields 조회할 프로퍼티 이름 콜렉션 ({@link ValueDtoHashMapper#FIELDS})
+   * @return 지정한 프로퍼티만 채운 DTO 객체 (지정하지 않은 프로퍼티는 null)
+   */
+  public ValueDto getFields(final String key, final Collection<String> fields) {
+    fields.forEach(ValueDtoHashMapper::checkField);
+    List<String> fieldList = new ArrayList<>(fields);
+    HashOperations<String, String, String> stringHashOperations = stringRedisTemplate.opsForHash();
+    List<String> values = stringHashOperations.multiGet(key, fieldList);
+
+    Map<String, String> hash = new HashMap<>(4);
+    for (int i = 0; i < fieldList.size(); i++) {
+      if (values.get(i) != null) {
+        hash.put(fieldList.get(i), values.get(i));
+      }
+    }
+    return VALUE_DTO_HASH_MAPPER.fromHash(hash);
+  }
+
+  /**
+   * DTO 프로퍼티 하나만 저장 (다른 프로퍼티는 읽지도, 바꾸지도 않음)
+   *
+   * @param key DTO를 저장한 Hash 데이터 키
+   * @param field 저장할 프로퍼티 이름 ({@link ValueDtoHashMapper#FIELDS})
+   * @param value 저장할 값 (null 이면 field 삭제)
+   */
+  public void setField(final String key, final String field, final String value) {
+    ValueDtoHashMapper.checkField(field);
+    HashOperations<String, String, String> stringHashOperations = stringRedisTemplate.opsForHash();
+    if (value == null) {
+      stringHashOperations.delete(key, field);
+      return;
+    }
+    stringHashOperations.put(key, field, value);
+  }
+
+  /**
+   * Hash 데이터로 저장한 DTO 삭제
+   *
+   * @param key DTO를 저장한 Hash 데이터 키
+   * @return 삭제 성공여부
+   */
+  public boolean deleteValueDtoHash(final String key) {
+    return stringRedisTemplate.delete(key);
+  }
+}
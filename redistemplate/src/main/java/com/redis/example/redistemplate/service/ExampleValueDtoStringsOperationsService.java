@@ -1,18 +1,37 @@
 package com.redis.example.redistemplate.service;
 
+import com.redis.example.redistemplate.cache.NearCache;
 import com.redis.example.redistemplate.dto.ValueDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.Resource;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 @Service
 public class ExampleValueDtoStringsOperationsService {
   @Resource
   private RedisTemplate<String, ValueDto> customizedValueDtoRedisTemplate;
 
+  @Autowired(required = false)
+  private NearCache<ValueDto> valueDtoNearCache;
+
+  @Value("${example.redis.value-dto.parallel-deserialize-threshold:256}")
+  private int parallelDeserializeThreshold;
+
   /**
    * DTO를 Strings 데이터로 직렬화하여 저장
    * @param key 직렬화 후 저장할 DTO Strings 데이터 키
@@ -22,26 +41,130 @@ public class ExampleValueDtoStringsOperationsService {
     ValueOperations<String, ValueDto> valueOperations =
         customizedValueDtoRedisTemplate.opsForValue();
     valueOperations.set(key, valueDto);
+    invalidateNearCache(key);
   }
 
   /**
    * 직렬화 저장한 Strings 데이터 조회
+   *
+   * <p>로컬 캐시({@link NearCache})가 활성화되어 있으면 캐시된 값을 먼저 확인한다.
+   *
    * @param key 직렬화 후 저장한 DTO Strings의 데이터 키
    * @return 조회 후 역직렬화한 DTO 객체
    */
   public ValueDto getValueDtoString(final String key) {
+    if (valueDtoNearCache != null) {
+      return valueDtoNearCache.get(key, this::getValueDtoStringFromRedis);
+    }
+    return getValueDtoStringFromRedis(key);
+  }
+
+  private ValueDto getValueDtoStringFromRedis(final String key) {
     ValueOperations<String, ValueDto> valueOperations =
         customizedValueDtoRedisTemplate.opsForValue();
     return valueOperations.get(key);
   }
 
+  /**
+   * DTO 여러 건을 Strings 데이터로 직렬화하여 한번에 저장
+   *
+   * <p>ttl 이 없으면 MSET 한 번으로, 있으면 SET EX 명령어들을 파이프라인 하나로 보내므로 건수와 관계없이 네트워크 왕복은 한 번이다.
+   *
+   * @param valueDtos 저장할 DTO Strings 데이터 키와 DTO 데이터
+   * @param ttl 만료 시간 (null 이거나 0 이면 만료 없음)
+   */
+  public void setValueDtos(final Map<String, ValueDto> valueDtos, final Duration ttl) {
+    if (valueDtos.isEmpty()) {
+      return;
+    }
+
+    if (ttl == null || ttl.isZero()) {
+      customizedValueDtoRedisTemplate.opsForValue().multiSet(valueDtos);
+    } else {
+      if (ttl.isNegative()) {
+        throw new IllegalArgumentException("ttl 은 0 이상이어야 합니다. ttl: " + ttl);
+      }
+      RedisSerializer<String> keySerializer = keySerializer();
+      RedisSerializer<ValueDto> valueSerializer = valueSerializer();
+      Expiration expiration = Expiration.from(ttl);
+      customizedValueDtoRedisTemplate.executePipelined(
+          (RedisCallback<Object>)
+              connection -> {
+                for (Map.Entry<String, ValueDto> entry : valueDtos.entrySet()) {
+                  connection.set(
+                      keySerializer.serialize(entry.getKey()),
+                      valueSerializer.serialize(entry.getValue()),
+                      expiration,
+                      SetOption.upsert());
+                }
+                return null;
+              });
+    }
+
+    if (valueDtoNearCache != null) {
+      valueDtoNearCache.invalidateAll(valueDtos.keySet());
+    }
+  }
+
+  /**
+   * 직렬화 저장한 Strings 데이터 여러 건을 MGET 한 번으로 조회
+   *
+   * <p>조회 건수가 example.redis.value-dto.parallel-deserialize-threshold(기본값 256) 이상이면 역직렬화를 병렬로 수행한다.
+   * 로컬 캐시({@link NearCache})는 사용하지 않고 항상 레디스에서 조회한다.
+   *
+   * @param keys 직렬화 후 저장한 DTO Strings 데이터 키 콜렉션
+   * @return 키와 역직렬화한 DTO 객체 (keys 순서 유지, 존재하지 않는 키는 제외)
+   */
+  public Map<String, ValueDto> getValueDtos(final Collection<String> keys) {
+    if (keys.isEmpty()) {
+      return Map.of();
+    }
+
+    List<String> keyList = new ArrayList<>(keys);
+    RedisSerializer<String> keySerializer = keySerializer();
+    byte[][] rawKeys = new byte[keyList.size()][];
+    for (int i = 0; i < rawKeys.length; i++) {
+      rawKeys[i] = keySerializer.serialize(keyList.get(i));
+    }
+    List<byte[]> rawValues =
+        customizedValueDtoRedisTemplate.execute(
+            (RedisCallback<List<byte[]>>) connection -> connection.mGet(rawKeys));
+    if (rawValues == null) {
+      return Map.of();
+    }
+
+    RedisSerializer<ValueDto> valueSerializer = valueSerializer();
+    ValueDto[] values = new ValueDto[rawValues.size()];
+    IntStream indexes = IntStream.range(0, values.length);
+    if (values.length >= parallelDeserializeThreshold) {
+      indexes = indexes.parallel();
+    }
+    indexes.forEach(
+        i -> {
+          byte[] rawValue = rawValues.get(i);
+          if (rawValue != null) {
+            values[i] = valueSerializer.deserialize(rawValue);
+          }
+        });
+
+    Map<String, ValueDto> result = new LinkedHashMap<>();
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] != null) {
+        result.put(keyList.get(i), values[i]);
+      }
+    }
+    return result;
+  }
+
   /**
    * 직렬화 저장한 Strings 데이터 단일 건 삭제
    * @param key 직렬화 후 저장한 DTO Strings의 데이터 키
    * @return 삭제 성공여부
    */
   public boolean deleteValueDtoString(final String key) {
-    return customizedValueDtoRedisTemplate.delete(key);
+    boolean deleted = customizedValueDtoRedisTemplate.delete(key);
+    invalidateNearCache(key);
+    return deleted;
   }
 
   /**
@@ -51,6 +174,26 @@ public class ExampleValueDtoStringsOperationsService {
    */
   public long deleteValueDtoStrings(final Collection<String> keys) {
 
-    return customizedValueDtoRedisTemplate.delete(keys);
+    long deletedCount = customizedValueDtoRedisTemplate.delete(keys);
+    if (valueDtoNearCache != null) {
+      valueDtoNearCache.invalidateAll(keys);
+    }
+    return deletedCount;
+  }
+
+  @SuppressWarnings("unchecked")
+  private RedisSerializer<String> keySerializer() {
+    return (RedisSerializer<String>) customizedValueDtoRedisTemplate.getKeySerializer();
+  }
+
+  @SuppressWarnings("unchecked")
+  private RedisSerializer<ValueDto> valueSerializer() {
+    return (RedisSerializer<ValueDto>) customizedValueDtoRedisTemplate.getValueSerializer();
+  }
+
+  private void invalidateNearCache(final String key) {
+    if (valueDtoNearCache != null) {
+      valueDtoNearCache.invalidate(key);
+    }
   }
 }
@@ -0,0 +1,108 @@
+package com.redis.example.redistemplate.service;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * List 를 windowSize 개씩 LRANGE 로 나누어 읽는 Iterator
+ *
+ * <p>받아온 window 가 windowSize 보다 작으면 List 의 끝으로 보고 멈춘다. prefetch 를 켜면 window 하나를 돌려줄 때 다음 window 의
+ * LRANGE 를 비동기로 미리 보내므로, 소비하는 동안 다음 응답이 도착한다. 메모리에는 최대 window 두 개만 올라간다.
+ */
+final class ListWindowIterator implements Iterator<List<String>> {
+  /** start 부터 end 까지 LRANGE 하는 함수 */
+  interface RangeReader {
+    List<String> range(long start, long end);
+  }
+
+  /** start 부터 end 까지 LRANGE 를 비동기로 보내는 함수 */
+  interface AsyncRangeReader {
+    CompletableFuture<List<String>> range(long start, long end);
+  }
+
+  private final RangeReader reader;
+  private final AsyncRangeReader asyncReader;
+  private final int windowSize;
+
+  private long nextStart;
+  private List<String> nextWindow;
+  private CompletableFuture<List<String>> prefetchedWindow;
+  private boolean finished;
+
+  /**
+   * @param reader 동기 LRANGE 함수
+   * @param asyncReader 비동기 LRANGE 함수 (null 이면 prefetch 하지 않음)
+   * @param windowSize LRANGE 한 번에 읽을 요소 수
+   */
+  ListWindowIterator(
+      final RangeReader reader, final AsyncRangeReader asyncReader, final int windowSize) {
+    if (windowSize <= 0) {
+      throw new IllegalArgumentException("windowSize 는 1 이상이어야 합니다. windowSize: " + windowSize);
+    }
+    this.reader = reader;
+    this.asyncReader = asyncReader;
+    this.windowSize = windowSize;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (nextWindow == null && !finished) {
+      nextWindow = fetch();
+      if (nextWindow.size() < windowSize) {
+        finished = true;
+      } else if (asyncReader != null) {
+        prefetchedWindow = asyncReader.range(nextStart, nextStart + windowSize - 1);
+      }
+      if (nextWindow.isEmpty()) {
+        nextWindow = null;
+      }
+    }
+    return nextWindow != null;
+  }
+
+  @Override
+  public List<String> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    List<String> window = nextWindow;
+    nextWindow = null;
+    return window;
+  }
+
+  /** 미리 보낸 LRANGE 가 있으면 응답을 버린다. */
+  void close() {
+    finished = true;
+    nextWindow = null;
+    if (prefetchedWindow != null) {
+      prefetchedWindow.cancel(false);
+      prefetchedWindow = null;
+    }
+  }
+
+  private List<String> fetch() {
+    List<String> window;
+    if (prefetchedWindow != null) {
+      try {
+        window = prefetchedWindow.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw e;
+      } finally {
+        prefetchedWindow = null;
+      }
+    } else {
+      window = reader.range(nextStart, nextStart + windowSize - 1);
+    }
+    if (window == null) {
+      return List.of();
+    }
+    nextStart += window.size();
+    return window;
+  }
+}
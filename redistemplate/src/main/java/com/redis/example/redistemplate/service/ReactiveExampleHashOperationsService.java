@@ -0,0 +1,245 @@
+package com.redis.example.redistemplate.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveHashOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.Resource;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ExampleHashOperationsService} 의 리액티브 버전
+ *
+ * <p>반환한 Mono/Flux 를 구독해야 명령어가 실행된다.
+ */
+@Service
+public class ReactiveExampleHashOperationsService {
+  @Resource private ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+  @Value("${example.redis.hash.scan-count:1000}")
+  private int scanCount;
+
+  @Value("${example.redis.hash.entries-max-size:10000}")
+  private long entriesMaxSize;
+
+  /**
+   * Hash 자료형 내에 field 명이 존재유무를 확인하는 메소드
+   *
+   * @param key Hash 자료형의 key
+   * @param hashKey Hash의 field 이름
+   * @return field 존재유무
+   */
+  public Mono<Boolean> hasHashKey(final String key, final String hashKey) {
+    return hashOperations().hasKey(key, hashKey);
+  }
+
+  /**
+   * Hash 자료형 내에 존재하는 field가 몇개인지를 조회하는 메소드
+   *
+   * @param key Hash 자료형의 key
+   * @return field 갯수
+   */
+  public Mono<Long> size(final String key) {
+    return hashOperations().size(key);
+  }
+
+  /**
+   * Hash 자료형 내에 존재하는 모든 field명을 조회하는 메소드
+   *
+   * @param key Hash 자료형의 key
+   * @return Hash 자료형 내에 존재하는 field 명
+   */
+  public Flux<String> keys(final String key) {
+    return hashOperations().keys(key);
+  }
+
+  /**
+   * Hash 자료형 내에 특정 field 명으로 존재하는 value를 조회하는 메소드
+   *
+   * @param key Hash 자료형의 key
+   * @param hashKey Hash의 field 이름
+   * @return field에 해당하는 value (field가 없으면 값 없이 완료)
+   */
+  public Mono<String> get(final String key, final String hashKey) {
+    return hashOperations().get(key, hashKey);
+  }
+
+  /**
+   * Hash 자료형 내에 복수의 field 명으로 존재하는 value들을 조회하는 메소드
+   *
+   * @param key Hash 자료형의 key
+   * @param hashKeys Hash의 field 이름 콜렉션
+   * @return field에 해당하는 value 목록 (hashKeys 순서, 없는 field는 null)
+   */
+  public Mono<List<String>> multiGet(final String key, final Collection<String> hashKeys) {
+    return hashOperations().multiGet(key, hashKeys);
+  }
+
+  /**
+   * Hash 자료형 내에 존재하는 모든 field - value 데이터를 조회하는 메소드 (HGETALL)
+   *
+   * <p>field 갯수가 example.redis.hash.entries-max-size(기본값 10000) 보다 많으면 IllegalStateException 으로 끝나므로, 큰
+   * Hash 는 {@link ReactiveExampleHashOperationsService#streamEntries(String, int)} 로 나누어 읽어야 한다.
+   *
+   * @param key Hash 자료형의 key
+   * @return field - value 쌍 데이터
+   */
+  public Flux<Map.Entry<String, String>> entries(final String key) {
+    return hashOperations()
+        .size(key)
+        .flatMapMany(
+            size ->
+                size > entriesMaxSize
+                    ? Flux.error(
+                        new IllegalStateException(
+                            "Hash 의 field 갯수가 entries 로 조회할 수 있는 최대 갯수보다 많습니다. key: "
+                                + key
+                                + ", size: "
+                                + size
+                                + ", entriesMaxSize: "
+                                + entriesMaxSize))
+                    : hashOperations().entries(key));
+  }
+
+  /**
+   * Hash 자료형 내에 존재하는 모든 field - value 데이터를 HSCAN 으로 나누어 읽는 메소드
+   *
+   * <p>COUNT 는 example.redis.hash.scan-count(기본값 1000) 를 사용한다.
+   *
+   * @param key Hash 자료형의 key
+   * @return field - value 쌍 데이터
+   */
+  public Flux<Map.Entry<String, String>> streamEntries(final String key) {
+    return streamEntries(key, scanCount);
+  }
+
+  /**
+   * Hash 자료형 내에 존재하는 모든 field - value 데이터를 HSCAN 으로 나누어 읽는 메소드
+   *
+   * <p>구독자가 요청한 만큼만 다음 HSCAN 을 보내므로(backpressure), 소비가 느리면 읽기도 느려진다. 구독을 취소하거나 끝까지 읽으면
+   * 더 이상 HSCAN 을 보내지 않는다. 읽는 도중에 Hash 가 바뀌면 같은 field 가 두 번 나올 수 있다. (HSCAN 의 특성)
+   *
+   * @param key Hash 자료형의 key
+   * @param count HSCAN 한 번에 읽을 field 갯수의 기준값 (COUNT)
+   * @return field - value 쌍 데이터
+   */
+  public Flux<Map.Entry<String, String>> streamEntries(final String key, final int count) {
+    return scan(key, scanOptions(count));
+  }
+
+  /**
+   * {@link ReactiveExampleHashOperationsService#streamEntries(String, int)} 의 결과를 chunkSize 개씩 묶어서 흘려보내는
+   * 메소드
+   *
+   * @param key Hash 자료형의 key
+   * @param count HSCAN 한 번에 읽을 field 갯수의 기준값 (COUNT)
+   * @param chunkSize 묶음 하나의 최대 field 갯수
+   * @return field - value 쌍 목록
+   */
+  public Flux<List<Map.Entry<String, String>>> streamEntryChunks(
+      final String key, final int count, final int chunkSize) {
+    if (chunkSize <= 0) {
+      return Flux.error(
+          new IllegalArgumentException("chunkSize 는 1 이상이어야 합니다. chunkSize: " + chunkSize));
+    }
+    return streamEntries(key, count).buffer(chunkSize);
+  }
+
+  /**
+   * Hash 자료형 내에, 특정 조건에 부합하는 데이터를 조건검색 하는 메소드 (HSCAN)
+   *
+   * @param key Hash 자료형의 key
+   * @param scanOptions 검색을 하기 위한 조건객체
+   * @return 조건에 부합하는 데이터 목록
+   */
+  public Flux<Map.Entry<String, String>> scan(final String key, final ScanOptions scanOptions) {
+    return hashOperations().scan(key, scanOptions);
+  }
+
+  /**
+   * Hash 자료형 내에 존재하는 field - value 데이터를 삭제하기 위한 메소드
+   *
+   * @param key Hash 자료형의 key
+   * @param hashKeys Hash의 field 이름들
+   * @return 삭제한 field 갯수
+   */
+  public Mono<Long> deleteHashKeys(final String key, final String... hashKeys) {
+    return hashOperations().remove(key, (Object[]) hashKeys);
+  }
+
+  /**
+   * Hash 자료형 내, 특정 field 명으로 새로운 값을 삽입하는 매소드. 동일한 field명으로 데이터가 존재할 경우, 새로운 값으로 덮어쓴다.
+   *
+   * @param key Hash 자료형의 key
+   * @param hashKey Hash의 field 이름
+   * @param value 삽입할 데이터
+   * @return 새로운 field 였는지 여부
+   */
+  public Mono<Boolean> put(final String key, final String hashKey, final String value) {
+    return hashOperations().put(key, hashKey, value);
+  }
+
+  /**
+   * Hash 자료형 내, 특정 field 명으로 새로운 값을 삽입하는 매소드. 동일한 field명으로 데이터가 존재하지 않을 경우에만 삽입한다.
+   *
+   * @param key Hash 자료형의 key
+   * @param hashKey Hash의 field 이름
+   * @param value 삽입할 데이터
+   * @return 삽입 성공 여부
+   */
+  public Mono<Boolean> putIfAbsent(final String key, final String hashKey, final String value) {
+    return hashOperations().putIfAbsent(key, hashKey, value);
+  }
+
+  /**
+   * Hash 자료형 내에 복수의 field - value를 한번에 삽입하는 메소드
+   *
+   * @param key Hash 자료형의 key
+   * @param hashKeysAndValuesMap 삽입할 field name - value 쌍 데이터
+   * @return 삽입 성공 여부
+   */
+  public Mono<Boolean> putAll(final String key, final Map<String, String> hashKeysAndValuesMap) {
+    return hashOperations().putAll(key, hashKeysAndValuesMap);
+  }
+
+  /**
+   * Hash 자료형 내, 특정 field 명에 있는 숫자 데이터를 원하는 만큼 가산시키기 위한 메소드. 감산을 원할 시 음수 값을 전달하면 된다.
+   *
+   * @param key Hash 자료형의 key
+   * @param hashKey Hash의 field 이름
+   * @param increaseValue 증가시킬 값
+   * @return 증가 완료시킨 최종 데이터
+   */
+  public Mono<Long> increase(final String key, final String hashKey, final long increaseValue) {
+    return hashOperations().increment(key, hashKey, increaseValue);
+  }
+
+  /**
+   * Hash 자료형 내, 특정 field 명에 있는 숫자 데이터를 원하는 만큼 가산시키기 위한 메소드. 감산을 원할 시 음수 값을 전달하면 된다.
+   *
+   * @param key Hash 자료형의 key
+   * @param hashKey Hash의 field 이름
+   * @param increaseValue 증가시킬 값
+   * @return 증가 완료시킨 최종 데이터
+   */
+  public Mono<Double> increase(final String key, final String hashKey, final double increaseValue) {
+    return hashOperations().increment(key, hashKey, increaseValue);
+  }
+
+  private ReactiveHashOperations<String, String, String> hashOperations() {
+    return reactiveStringRedisTemplate.opsForHash();
+  }
+
+  private static ScanOptions scanOptions(final int count) {
+    if (count <= 0) {
+      throw new IllegalArgumentException("count 는 1 이상이어야 합니다. count: " + count);
+    }
+    return ScanOptions.scanOptions().count(count).build();
+  }
+}
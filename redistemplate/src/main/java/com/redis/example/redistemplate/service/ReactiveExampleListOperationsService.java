@@ -0,0 +1,217 @@
+package com.redis.example.redistemplate.service;
+
+import org.springframework.data.redis.core.ReactiveListOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.Resource;
+import java.time.Duration;
+
+/**
+ * {@link ExampleListOperationsService} 의 리액티브 버전
+ *
+ * <p>반환한 Mono/Flux 를 구독해야 명령어가 실행된다. 블로킹 pop 명령어는 다른 명령어를 막지 않도록 전용 커넥션에서 실행되며,
+ * 기다리는 동안에도 스레드를 점유하지 않는다.
+ */
+@Service
+public class ReactiveExampleListOperationsService {
+  @Resource private ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+  /**
+   * List 자료형의 오른쪽 끝에 새로운 값을 추가하는 메소드
+   *
+   * @param key List의 키
+   * @param value List에 넣을 데이터
+   * @return 리스트에 들어가 있는 값의 갯수
+   */
+  public Mono<Long> rightPush(String key, String value) {
+    return listOperations().rightPush(key, value);
+  }
+
+  /**
+   * List 자료형의 오른쪽 끝에 새로운 값을 삽입하는 메소드 (리스트가 존재할 때만)
+   *
+   * @param key List의 키
+   * @param value List에 넣을 데이터
+   * @return 리스트에 들어가 있는 값의 갯수 (리스트가 없을 경우 0)
+   */
+  public Mono<Long> rightPushIfPresent(String key, String value) {
+    return listOperations().rightPushIfPresent(key, value);
+  }
+
+  /**
+   * 기준이 되는 피봇 값의 오른쪽(=피봇 값의 뒤)에 새로운 값을 삽입하는 메소드
+   *
+   * @param key List의 키
+   * @param pivotValue 삽입 위치의 기준이 될 피봇 값
+   * @param newValue 새로 삽입할 값
+   * @return 리스트에 들어가 있는 값의 갯수
+   */
+  public Mono<Long> rightInsertValue(String key, String pivotValue, String newValue) {
+    return listOperations().rightPush(key, pivotValue, newValue);
+  }
+
+  /**
+   * List 자료형의 왼쪽 끝에 새로운 값을 삽입하는 메소드
+   *
+   * @param key List의 키
+   * @param value List에 넣을 데이터
+   * @return 리스트에 들어가 있는 값의 갯수
+   */
+  public Mono<Long> leftPush(String key, String value) {
+    return listOperations().leftPush(key, value);
+  }
+
+  /**
+   * List 자료형의 왼쪽 끝에 새로운 값을 삽입하는 메소드 (리스트가 존재할 때만)
+   *
+   * @param key List의 키
+   * @param value List에 넣을 데이터
+   * @return 리스트에 들어가 있는 값의 갯수 (리스트가 없을 경우 0)
+   */
+  public Mono<Long> leftPushIfPresent(String key, String value) {
+    return listOperations().leftPushIfPresent(key, value);
+  }
+
+  /**
+   * 기준이 되는 피봇 값의 왼쪽(=피봇 값의 앞)에 새로운 값을 삽입하는 메소드
+   *
+   * @param key List의 키
+   * @param pivotValue 삽입 위치의 기준이 될 피봇 값
+   * @param newValue 새로 삽입할 값
+   * @return 리스트에 들어가 있는 값의 갯수
+   */
+  public Mono<Long> leftInsertValue(String key, String pivotValue, String newValue) {
+    return listOperations().leftPush(key, pivotValue, newValue);
+  }
+
+  /**
+   * List 자료형의 오른쪽 끝에 있는 값을 꺼내는 메소드
+   *
+   * @param key List의 키
+   * @return pop 한 데이터 (리스트가 비어있으면 값 없이 완료)
+   */
+  public Mono<String> rightPop(String key) {
+    return listOperations().rightPop(key);
+  }
+
+  /**
+   * List 자료형의 왼쪽 끝에 있는 값을 꺼내는 메소드
+   *
+   * @param key List의 키
+   * @return pop 한 데이터 (리스트가 비어있으면 값 없이 완료)
+   */
+  public Mono<String> leftPop(String key) {
+    return listOperations().leftPop(key);
+  }
+
+  /**
+   * {@link ReactiveExampleListOperationsService#rightPop(String)} 의 블로킹 버전 메소드 (BRPOP)
+   *
+   * @param key List의 키
+   * @param timeout 제한시간 (초 단위로 내림하며, {@link Duration#ZERO} 이면 값이 들어올 때까지 무한정 기다린다)
+   * @return pop 한 데이터 (제한시간이 지나면 값 없이 완료)
+   */
+  public Mono<String> blockingRightPop(String key, Duration timeout) {
+    return listOperations().rightPop(key, timeout);
+  }
+
+  /**
+   * {@link ReactiveExampleListOperationsService#leftPop(String)} 의 블로킹 버전 메소드 (BLPOP)
+   *
+   * @param key List의 키
+   * @param timeout 제한시간 (초 단위로 내림하며, {@link Duration#ZERO} 이면 값이 들어올 때까지 무한정 기다린다)
+   * @return pop 한 데이터 (제한시간이 지나면 값 없이 완료)
+   */
+  public Mono<String> blockingLeftPop(String key, Duration timeout) {
+    return listOperations().leftPop(key, timeout);
+  }
+
+  /**
+   * 원본 리스트 키의 값을 rpop한 후에 대상 리스트 키에 lpush 하는 메소드
+   *
+   * @param originKey 원본 List의 키
+   * @param destKey 대상 List의 키
+   * @return 원본 키에서 대상 키로 옮겨간 값 (옮긴 값이 없으면 값 없이 완료)
+   */
+  public Mono<String> rightPopAndLeftPush(String originKey, String destKey) {
+    return listOperations().rightPopAndLeftPush(originKey, destKey);
+  }
+
+  /**
+   * {@link ReactiveExampleListOperationsService#rightPopAndLeftPush(String, String)} 의 블로킹 버전 메소드
+   * (BRPOPLPUSH)
+   *
+   * @param originKey 원본 List의 키
+   * @param destKey 대상 List의 키
+   * @param timeout 제한시간 (초 단위로 내림하며, {@link Duration#ZERO} 이면 값이 들어올 때까지 무한정 기다린다)
+   * @return 원본 키에서 대상 키로 옮겨간 값 (제한시간이 지나면 값 없이 완료)
+   */
+  public Mono<String> blockingRightPopAndLeftPush(
+      String originKey, String destKey, Duration timeout) {
+    return listOperations().rightPopAndLeftPush(originKey, destKey, timeout);
+  }
+
+  /**
+   * List 내 특정 번지에 있는 값을 반환하는 메소드
+   *
+   * @param key List의 키
+   * @param index 찾고자 하는 번지수
+   * @return 번지수에 존재하는 값 (값이 없으면 값 없이 완료)
+   */
+  public Mono<String> index(String key, long index) {
+    return listOperations().index(key, index);
+  }
+
+  /**
+   * List 자료형 내의 특정 번지수에 특정 값을 덮어씌우는 메소드
+   *
+   * @param key List의 키
+   * @param index 덮어씌우고자 하는 번지수
+   * @param value 덮어씌우고자 하는 값
+   * @return 성공여부
+   */
+  public Mono<Boolean> setValue(String key, long index, String value) {
+    return listOperations().set(key, index, value);
+  }
+
+  /**
+   * List 자료형의 길이를 구하는 메소드
+   *
+   * @param key List의 키
+   * @return List 자료형의 길이
+   */
+  public Mono<Long> listSize(String key) {
+    return listOperations().size(key);
+  }
+
+  /**
+   * List 자료형의 번지수 범위 내에 있는 모든 자료를 조회하는 메소드
+   *
+   * @param key List의 키
+   * @param start 번지 수 범위조건 최소값
+   * @param end 번지 수 범위조건 최대값
+   * @return 조건에 해당하는 값의 목록
+   */
+  public Flux<String> listRange(String key, long start, long end) {
+    return listOperations().range(key, start, end);
+  }
+
+  /**
+   * List 자료형 내의 값 중, 번지 수 조건에 맞지 않는 값은 삭제하는 메소드
+   *
+   * @param key List의 키
+   * @param start 번지 수 범위조건 최소값
+   * @param end 번지 수 범위조건 최대값
+   * @return 성공여부
+   */
+  public Mono<Boolean> trim(String key, long start, long end) {
+    return listOperations().trim(key, start, end);
+  }
+
+  private ReactiveListOperations<String, String> listOperations() {
+    return reactiveStringRedisTemplate.opsForList();
+  }
+}
@@ -0,0 +1,317 @@
+package com.redis.example.redistemplate.service;
+
+import org.springframework.data.redis.core.ReactiveSetOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.Resource;
+import java.util.Collection;
+
+/**
+ * {@link ExampleSetOperationsService} 의 리액티브 버전
+ *
+ * <p>반환한 Mono/Flux 를 구독해야 명령어가 실행된다. 집합 연산 결과는 Set 으로 모으지 않고 요소 단위로 흘려보낸다.
+ */
+@Service
+public class ReactiveExampleSetOperationsService {
+  @Resource private ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+  /**
+   * Set 자료형에 요소를 삽입하기 위한 메소드
+   *
+   * @param key Set의 키
+   * @param value Set에 삽입할 값
+   * @return 새로 삽입한 요소 갯수
+   */
+  public Mono<Long> addValueToSet(final String key, final String value) {
+    return setOperations().add(key, value);
+  }
+
+  /**
+   * Set 자료형에 여러 요소를 삽입하기 위한 메소드
+   *
+   * @param key Set의 키
+   * @param values Set에 삽입할 값들
+   * @return 새로 삽입한 요소 갯수
+   */
+  public Mono<Long> addValuesToSet(final String key, final String... values) {
+    return setOperations().add(key, values);
+  }
+
+  /**
+   * Set 자료형 내 요소의 전체 갯수를 구하는 메소드
+   *
+   * @param key Set의 키
+   * @return Set의 크기
+   */
+  public Mono<Long> size(final String key) {
+    return setOperations().size(key);
+  }
+
+  /**
+   * Set 자료형 내 모든 요소를 조회하는 메소드
+   *
+   * @param key Set의 키
+   * @return Set의 모든 요소
+   */
+  public Flux<String> members(final String key) {
+    return setOperations().members(key);
+  }
+
+  /**
+   * Set 자료형 내 특정 요소의 존재여부를 확인하는 메소드
+   *
+   * @param key Set의 키
+   * @param value 확인할 값
+   * @return 존재여부
+   */
+  public Mono<Boolean> isMember(final String key, final String value) {
+    return setOperations().isMember(key, value);
+  }
+
+  /**
+   * 원본 Set의 요소를 대상 Set으로 옮기는 메소드
+   *
+   * @param originKey 원본 Set의 키
+   * @param destKey 대상 Set의 키
+   * @param value 옮길 요소
+   * @return 이동 성공여부
+   */
+  public Mono<Boolean> move(final String originKey, final String destKey, final String value) {
+    return setOperations().move(originKey, value, destKey);
+  }
+
+  /**
+   * Set의 요소 중 하나를 랜덤하게 pop 하는 메소드
+   *
+   * @param key Set의 키
+   * @return pop 되어 나온 요소 (Set이 비어있으면 값 없이 완료)
+   */
+  public Mono<String> pop(final String key) {
+    return setOperations().pop(key);
+  }
+
+  /**
+   * Set의 요소 중 정해진 갯수만큼 랜덤하게 pop 하는 메소드
+   *
+   * @param key Set의 키
+   * @param count 랜덤하게 pop 해올 요소의 갯수
+   * @return pop 해온 요소 목록
+   */
+  public Flux<String> popWithCount(final String key, final long count) {
+    return setOperations().pop(key, count);
+  }
+
+  /**
+   * Set 자료형을 비교하여, 중복되지 않은 요소만 모은 데이터(= 차집합 데이터)를 조회하는 메소드
+   *
+   * @param keys 요소를 비교할 Set 자료형의 key 콜렉션
+   * @return 차집합 요소 목록
+   */
+  public Flux<String> difference(final Collection<String> keys) {
+    return setOperations().difference(keys);
+  }
+
+  /**
+   * Set 자료형을 비교하여, 중복되지 않은 요소만 모은 데이터(= 차집합 데이터)를 조회하는 메소드
+   *
+   * @param key Set의 키
+   * @param anotherKey 비교할 Set 자료형의 key
+   * @return 차집합 요소 목록
+   */
+  public Flux<String> difference(final String key, final String anotherKey) {
+    return setOperations().difference(key, anotherKey);
+  }
+
+  /**
+   * Set 자료형을 비교하여, 중복되지 않은 요소만 모은 데이터(= 차집합 데이터)를 조회하는 메소드
+   *
+   * @param key Set의 키
+   * @param otherKeys 비교할 Set 자료형의 key 콜렉션
+   * @return 차집합 요소 목록
+   */
+  public Flux<String> difference(final String key, final Collection<String> otherKeys) {
+    return setOperations().difference(key, otherKeys);
+  }
+
+  /**
+   * Set 자료형을 비교하여, 중복되지 않은 요소만 모은 데이터(= 차집합 데이터)를 저장하는 메소드
+   *
+   * @param keys 요소를 비교할 Set 자료형의 key 콜렉션
+   * @param destKey 차집합 데이터를 저장할 Set의 키
+   * @return 저장한 요소 갯수
+   */
+  public Mono<Long> differenceAndStore(final Collection<String> keys, final String destKey) {
+    return setOperations().differenceAndStore(keys, destKey);
+  }
+
+  /**
+   * Set 자료형을 비교하여, 중복되지 않은 요소만 모은 데이터(= 차집합 데이터)를 저장하는 메소드
+   *
+   * @param key Set의 키
+   * @param otherKey 비교할 다른 Set 자료형의 key
+   * @param destKey 차집합 데이터를 저장할 Set의 키
+   * @return 저장한 요소 갯수
+   */
+  public Mono<Long> differenceAndStore(
+      final String key, final String otherKey, final String destKey) {
+    return setOperations().differenceAndStore(key, otherKey, destKey);
+  }
+
+  /**
+   * Set 자료형을 비교하여, 중복되지 않은 요소만 모은 데이터(= 차집합 데이터)를 저장하는 메소드
+   *
+   * @param key Set의 키
+   * @param otherKeys 비교할 Set 자료형의 key 콜렉션
+   * @param destKey 차집합 데이터를 저장할 Set의 키
+   * @return 저장한 요소 갯수
+   */
+  public Mono<Long> differenceAndStore(
+      final String key, final Collection<String> otherKeys, final String destKey) {
+    return setOperations().differenceAndStore(key, otherKeys, destKey);
+  }
+
+  /**
+   * Set 자료형을 비교하여, 중복된 요소만 모은 데이터(= 교집합 데이터)를 조회하는 메소드
+   *
+   * @param keys 요소를 비교할 Set 자료형의 key 콜렉션
+   * @return 교집합 요소 목록
+   */
+  public Flux<String> intersect(final Collection<String> keys) {
+    return setOperations().intersect(keys);
+  }
+
+  /**
+   * Set 자료형을 비교하여, 중복된 요소만 모은 데이터(= 교집합 데이터)를 조회하는 메소드
+   *
+   * @param key Set의 키
+   * @param anotherKey 비교할 Set 자료형의 key
+   * @return 교집합 요소 목록
+   */
+  public Flux<String> intersect(final String key, final String anotherKey) {
+    return setOperations().intersect(key, anotherKey);
+  }
+
+  /**
+   * Set 자료형을 비교하여, 중복된 요소만 모은 데이터(= 교집합 데이터)를 조회하는 메소드
+   *
+   * @param key Set의 키
+   * @param otherKeys 비교할 Set 자료형의 key 콜렉션
+   * @return 교집합 요소 목록
+   */
+  public Flux<String> intersect(final String key, final Collection<String> otherKeys) {
+    return setOperations().intersect(key, otherKeys);
+  }
+
+  /**
+   * Set 자료형을 비교하여, 중복된 요소만 모은 데이터(= 교집합 데이터)를 저장하는 메소드
+   *
+   * @param keys 요소를 비교할 Set 자료형의 key 콜렉션
+   * @param destKey 교집합 데이터를 저장할 Set의 키
+   * @return 저장한 요소 갯수
+   */
+  public Mono<Long> intersectAndStore(final Collection<String> keys, final String destKey) {
+    return setOperations().intersectAndStore(keys, destKey);
+  }
+
+  /**
+   * Set 자료형을 비교하여, 중복된 요소만 모은 데이터(= 교집합 데이터)를 저장하는 메소드
+   *
+   * @param key Set의 키
+   * @param otherKey 비교할 다른 Set 자료형의 key
+   * @param destKey 교집합 데이터를 저장할 Set의 키
+   * @return 저장한 요소 갯수
+   */
+  public Mono<Long> intersectAndStore(
+      final String key, final String otherKey, final String destKey) {
+    return setOperations().intersectAndStore(key, otherKey, destKey);
+  }
+
+  /**
+   * Set 자료형을 비교하여, 중복된 요소만 모은 데이터(= 교집합 데이터)를 저장하는 메소드
+   *
+   * @param key Set의 키
+   * @param otherKeys 비교할 Set 자료형의 key 콜렉션
+   * @param destKey 교집합 데이터를 저장할 Set의 키
+   * @return 저장한 요소 갯수
+   */
+  public Mono<Long> intersectAndStore(
+      final String key, final Collection<String> otherKeys, final String destKey) {
+    return setOperations().intersectAndStore(key, otherKeys, destKey);
+  }
+
+  /**
+   * Set 자료형을 비교하여, 모든 Set의 값을 하나로 병합한 데이터(= 합집합 데이터)를 조회하는 메소드
+   *
+   * @param keys 요소를 비교할 Set 자료형의 key 콜렉션
+   * @return 합집합 요소 목록
+   */
+  public Flux<String> union(final Collection<String> keys) {
+    return setOperations().union(keys);
+  }
+
+  /**
+   * Set 자료형을 비교하여, 모든 Set의 값을 하나로 병합한 데이터(= 합집합 데이터)를 조회하는 메소드
+   *
+   * @param key Set의 키
+   * @param anotherKey 비교할 Set 자료형의 key
+   * @return 합집합 요소 목록
+   */
+  public Flux<String> union(final String key, final String anotherKey) {
+    return setOperations().union(key, anotherKey);
+  }
+
+  /**
+   * Set 자료형을 비교하여, 모든 Set의 값을 하나로 병합한 데이터(= 합집합 데이터)를 조회하는 메소드
+   *
+   * @param key Set의 키
+   * @param otherKeys 비교할 Set 자료형의 key 콜렉션
+   * @return 합집합 요소 목록
+   */
+  public Flux<String> union(final String key, final Collection<String> otherKeys) {
+    return setOperations().union(key, otherKeys);
+  }
+
+  /**
+   * Set 자료형을 비교하여, 모든 Set의 값을 하나로 병합한 데이터(= 합집합 데이터)를 저장하는 메소드
+   *
+   * @param keys 요소를 비교할 Set 자료형의 key 콜렉션
+   * @param destKey 합집합 데이터를 저장할 Set의 키
+   * @return 저장한 요소 갯수
+   */
+  public Mono<Long> unionAndStore(final Collection<String> keys, final String destKey) {
+    return setOperations().unionAndStore(keys, destKey);
+  }
+
+  /**
+   * Set 자료형을 비교하여, 모든 Set의 값을 하나로 병합한 데이터(= 합집합 데이터)를 저장하는 메소드
+   *
+   * @param key Set의 키
+   * @param otherKey 비교할 다른 Set 자료형의 key
+   * @param destKey 합집합 데이터를 저장할 Set의 키
+   * @return 저장한 요소 갯수
+   */
+  public Mono<Long> unionAndStore(
+      final String key, final String otherKey, final String destKey) {
+    return setOperations().unionAndStore(key, otherKey, destKey);
+  }
+
+  /**
+   * Set 자료형을 비교하여, 모든 Set의 값을 하나로 병합한 데이터(= 합집합 데이터)를 저장하는 메소드
+   *
+   * @param key Set의 키
+   * @param otherKeys 비교할 Set 자료형의 key 콜렉션
+   * @param destKey 합집합 데이터를 저장할 Set의 키
+   * @return 저장한 요소 갯수
+   */
+  public Mono<Long> unionAndStore(
+      final String key, final Collection<String> otherKeys, final String destKey) {
+    return setOperations().unionAndStore(key, otherKeys, destKey);
+  }
+
+  private ReactiveSetOperations<String, String> setOperations() {
+    return reactiveStringRedisTemplate.opsForSet();
+  }
+}
@@ -0,0 +1,430 @@
+package com.redis.example.redistemplate.service;
+
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.Resource;
+import java.util.Collection;
+
+/**
+ * {@link ExampleSortedSetOperationsService} 의 리액티브 버전
+ *
+ * <p>반환한 Mono/Flux 를 구독해야 명령어가 실행된다. 인덱스와 score 조건은 모두 양 끝을 포함하는 범위(closed range)로 변환하며,
+ * 검색 결과는 정렬 순서대로 흘려보낸다.
+ */
+@Service
+public class ReactiveExampleSortedSetOperationsService {
+  @Resource private ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+  /**
+   * Sorted Set 자료형에 요소를 삽입하기 위한 메소드
+   *
+   * @param key Sorted Set의 키
+   * @param value Sorted Set에 삽입할 값
+   * @param score Sorted Set에 삽입할 값의 score
+   * @return 삽입 성공여부
+   */
+  public Mono<Boolean> addValueToSet(final String key, final String value, final double score) {
+    return zSetOperations().add(key, value, score);
+  }
+
+  /**
+   * Sorted Set 자료형에 요소를 삽입하기 위한 메소드
+   *
+   * @param key Sorted Set의 키
+   * @param tuples Sorted Set에 삽입할 값과 score 쌍
+   * @return 삽입한 요소의 갯수
+   */
+  public Mono<Long> addValuesToSet(
+      final String key, final Collection<ZSetOperations.TypedTuple<String>> tuples) {
+    return zSetOperations().addAll(key, tuples);
+  }
+
+  /**
+   * Sorted Set 자료형 내 요소의 score 값을 가산시키기 위한 메소드
+   *
+   * @param key Sorted Set의 키
+   * @param value Sorted Set에 삽입되어 있는 요소의 값
+   * @param score 가산할 score 값 (감산이 필요한 경우 음수값을 대입)
+   * @return 가산한 후의 score
+   */
+  public Mono<Double> incrementScore(final String key, final String value, final double score) {
+    return zSetOperations().incrementScore(key, value, score);
+  }
+
+  /**
+   * Sorted Set 자료형 내 요소의 전체 갯수를 구하는 메소드
+   *
+   * @param key Sorted Set의 키
+   * @return Sorted Set의 길이
+   */
+  public Mono<Long> size(final String key) {
+    return zSetOperations().size(key);
+  }
+
+  /**
+   * Sorted Set 자료형 내 요소 중 score 조건에 해당하는 갯수를 구하는 메소드
+   *
+   * @param key Sorted Set의 키
+   * @param minScore 집계 대상 요소의 최소 score
+   * @param maxScore 집계 대상 요소의 최대 score
+   * @return 집계 데이터
+   */
+  public Mono<Long> count(final String key, final double minScore, final double maxScore) {
+    return zSetOperations().count(key, Range.closed(minScore, maxScore));
+  }
+
+  /**
+   * Sorted Set 자료형 내 요소 정보 중 인덱스 조건 기준 검색 메소드 (오름차순)
+   *
+   * @param key Sorted Set의 키
+   * @param min 최소 인덱스 (최소값은 0)
+   * @param max 최대 인덱스 (전체검색이 필요한 경우: 최소 인덱스값에는 0, 최대 인덱스 값에는 -1 대입 )
+   * @return 검색결과 (요소 목록)
+   */
+  public Flux<String> range(final String key, final long min, final long max) {
+    return zSetOperations().range(key, Range.closed(min, max));
+  }
+
+  /**
+   * Sorted Set 자료형 내 요소 정보 중 스코어 조건 기준 검색 메소드 (오름차순)
+   *
+   * @param key Sorted Set의 키
+   * @param min 최소 score
+   * @param max 최대 score
+   * @return 검색결과 (요소 목록)
+   */
+  public Flux<String> rangeByScore(final String key, final double min, final double max) {
+    return zSetOperations().rangeByScore(key, Range.closed(min, max));
+  }
+
+  /**
+   * Sorted Set 자료형 내 요소 정보 중 스코어 조건 기준 검색 메소드 (오름차순)
+   *
+   * @param key Sorted Set의 키
+   * @param min 최소 score
+   * @param max 최대 score
+   * @param offset SQL의 오프셋과 기능 동일
+   * @param count SQL의 count(혹은 top n) 과 기능 동일
+   * @return 검색결과 (요소 목록)
+   */
+  public Flux<String> rangeByScore(
+      final String key, final double min, final double max, final long offset, final long count) {
+    return zSetOperations().rangeByScore(key, Range.closed(min, max), limit(offset, count));
+  }
+
+  /**
+   * Sorted Set 자료형 내 요소 정보 중 사전순 조건 기준 검색 메소드 (오름차순)
+   *
+   * @param key Sorted Set의 키
+   * @param range 최소-최대 값 조건설정 객체
+   * @return 검색결과 (요소 목록)
+   */
+  public Flux<String> rangeByLex(final String key, final Range<String> range) {
+    return zSetOperations().rangeByLex(key, range);
+  }
+
+  /**
+   * Sorted Set 자료형 내 요소 정보 중 사전순 조건 기준 검색 메소드 (오름차순)
+   *
+   * @param key Sorted Set의 키
+   * @param range 최소-최대 값 조건설정 객체
+   * @param limit SQL 기능 중 offset, count(top N) 등의 조건설정 객체
+   * @return 검색결과 (요소 목록)
+   */
+  public Flux<String> rangeByLex(
+      final String key, final Range<String> range, final RedisZSetCommands.Limit limit) {
+    return zSetOperations().rangeByLex(key, range, limit);
+  }
+
+  /**
+   * Sorted Set 자료형 내 요소 정보 중 스코어 조건 기준 검색 (오름차순)
+   *
+   * @param key Sorted Set의 키
+   * @param min 최소 score
+   * @param max 최대 score
+   * @return 검색 결과 (요소 - 스코어 쌍 목록)
+   */
+  public Flux<ZSetOperations.TypedTuple<String>> rangeByScoreWithScores(
+      final String key, final double min, final double max) {
+    return zSetOperations().rangeByScoreWithScores(key, Range.closed(min, max));
+  }
+
+  /**
+   * Sorted Set 자료형 내 요소 정보 중 스코어 조건 기준 검색 (오름차순)
+   *
+   * @param key Sorted Set의 키
+   * @param min 최소 score
+   * @param max 최대 score
+   * @param offset SQL의 오프셋과 기능 동일
+   * @param count SQL의 count(혹은 top n) 과 기능 동일
+   * @return 검색 결과 (요소 - 스코어 쌍 목록)
+   */
+  public Flux<ZSetOperations.TypedTuple<String>> rangeByScoreWithScores(
+      final String key, final double min, final double max, final long offset, final long count) {
+    return zSetOperations()
+        .rangeByScoreWithScores(key, Range.closed(min, max), limit(offset, count));
+  }
+
+  /**
+   * Sorted Set 자료형 내 요소 정보 중 인덱스 조건 기준 검색 메소드 (내림차순)
+   *
+   * @param key Sorted Set의 키
+   * @param min 최소 인덱스 (최소값은 0)
+   * @param max 최대 인덱스 (전체검색이 필요한 경우: 최소 인덱스값에는 0, 최대 인덱스 값에는 -1 대입 )
+   * @return 검색결과 (요소 목록)
+   */
+  public Flux<String> reverseRange(final String key, final long min, final long max) {
+    return zSetOperations().reverseRange(key, Range.closed(min, max));
+  }
+
+  /**
+   * Sorted Set 자료형 내 요소 정보 중 스코어 조건 기준 검색 메소드 (내림차순)
+   *
+   * @param key Sorted Set의 키
+   * @param min 최소 score
+   * @param max 최대 score
+   * @return 검색결과 (요소 목록)
+   */
+  public Flux<String> reverseRangeByScore(final String key, final double min, final double max) {
+    return zSetOperations().reverseRangeByScore(key, Range.closed(min, max));
+  }
+
+  /**
+   * Sorted Set 자료형 내 요소 정보 중 스코어 조건 기준 검색 메소드 (내림차순)
+   *
+   * @param key Sorted Set의 키
+   * @param min 최소 score
+   * @param max 최대 score
+   * @param offset SQL의 오프셋과 기능 동일
+   * @param count SQL의 count(혹은 top n) 과 기능 동일
+   * @return 검색결과 (요소 목록)
+   */
+  public Flux<String> reverseRangeByScore(
+      final String key, final double min, final double max, final long offset, final long count) {
+    return zSetOperations()
+        .reverseRangeByScore(key, Range.closed(min, max), limit(offset, count));
+  }
+
+  /**
+   * Sorted Set 자료형 내 요소 정보 중 스코어 조건 기준 검색 (내림차순)
+   *
+   * @param key Sorted Set의 키
+   * @param min 최소 score
+   * @param max 최대 score
+   * @return 검색 결과 (요소 - 스코어 쌍 목록)
+   */
+  public Flux<ZSetOperations.TypedTuple<String>> reverseRangeByScoreWithScores(
+      final String key, final double min, final double max) {
+    return zSetOperations().reverseRangeByScoreWithScores(key, Range.closed(min, max));
+  }
+
+  /**
+   * Sorted Set 자료형 내 요소 정보 중 스코어 조건 기준 검색 (내림차순)
+   *
+   * @param key Sorted Set의 키
+   * @param min 최소 score
+   * @param max 최대 score
+   * @param offset SQL의 오프셋과 기능 동일
+   * @param count SQL의 count(혹은 top n) 과 기능 동일
+   * @return 검색 결과 (요소 - 스코어 쌍 목록)
+   */
+  public Flux<ZSetOperations.TypedTuple<String>> reverseRangeByScoreWithScores(
+      final String key, final double min, final double max, final long offset, final long count) {
+    return zSetOperations()
+        .reverseRangeByScoreWithScores(key, Range.closed(min, max), limit(offset, count));
+  }
+
+  /**
+   * Sorted Set 자료형 내 특정 요소의 오름차순 순위를 조회하는 메소드
+   *
+   * @param key Sorted Set의 키
+   * @param value 순위를 조회하고 싶은 요소
+   * @return 해당 요소의 순위 (요소가 없으면 값 없이 완료)
+   */
+  public Mono<Long> rank(final String key, final String value) {
+    return zSetOperations().rank(key, value);
+  }
+
+  /**
+   * Sorted Set 자료형 내 특정 요소의 내림차순 순위를 조회하는 메소드
+   *
+   * @param key Sorted Set의 키
+   * @param value 순위를 조회하고 싶은 요소
+   * @return 해당 요소의 순위 (요소가 없으면 값 없이 완료)
+   */
+  public Mono<Long> reverseRank(final String key, final String value) {
+    return zSetOperations().reverseRank(key, value);
+  }
+
+  /**
+   * Sorted Set 자료형 내 특정 요소를 삭제하는 메소드
+   *
+   * @param key Sorted Set의 키
+   * @param values 삭제할 대상 요소
+   * @return 삭제작업 처리 갯수
+   */
+  public Mono<Long> remove(final String key, final String... values) {
+    return zSetOperations().remove(key, (Object[]) values);
+  }
+
+  /**
+   * Sorted Set 자료형 내 요소 정보 중 인덱스 조건 기준 검색조건에 해당하는 값을 삭제하는 메소드
+   *
+   * @param key Sorted Set의 키
+   * @param min 최소 인덱스 (최소값은 0)
+   * @param max 최대 인덱스 (전체삭제가 필요한 경우: 최소 인덱스값에는 0, 최대 인덱스 값에는 -1 대입 )
+   * @return 삭제작업 처리 갯수
+   */
+  public Mono<Long> removeRange(final String key, final long min, final long max) {
+    return zSetOperations().removeRange(key, Range.closed(min, max));
+  }
+
+  /**
+   * Sorted Set 자료형 내 요소 정보 중 스코어 조건 기준 검색조건에 해당하는 값을 삭제하는 메소드
+   *
+   * @param key Sorted Set의 키
+   * @param min 최소 score
+   * @param max 최대 score
+   * @return 삭제작업 처리 갯수
+   */
+  public Mono<Long> removeRangeByScore(final String key, final double min, final double max) {
+    return zSetOperations().removeRangeByScore(key, Range.closed(min, max));
+  }
+
+  /**
+   * Sorted Set 자료형을 비교하여, 중복된 요소만 모은 데이터(= 교집합 데이터)를 저장하는 메소드
+   *
+   * @param key Sorted Set의 키
+   * @param otherKey 비교할 다른 Sorted Set 자료형의 key
+   * @param destKey 교집합 데이터를 저장할 Sorted Set의 키
+   * @return 저장한 요소 갯수
+   */
+  public Mono<Long> intersectAndStore(final String key, final String otherKey, final String destKey) {
+    return zSetOperations().intersectAndStore(key, otherKey, destKey);
+  }
+
+  /**
+   * Sorted Set 자료형을 비교하여, 중복된 요소만 모은 데이터(= 교집합 데이터)를 저장하는 메소드
+   *
+   * @param key Sorted Set의 키
+   * @param otherKeys 비교할 Sorted Set 자료형의 키 콜렉션
+   * @param destKey 교집합 데이터를 저장할 Sorted Set의 키
+   * @return 저장한 요소 갯수
+   */
+  public Mono<Long> intersectAndStore(
+      final String key, final Collection<String> otherKeys, final String destKey) {
+    return zSetOperations().intersectAndStore(key, otherKeys, destKey);
+  }
+
+  /**
+   * Sorted Set 자료형을 비교하여, 중복된 요소만 모은 데이터(= 교집합 데이터)를 저장하는 메소드
+   *
+   * @param key Sorted Set의 키
+   * @param otherKeys 비교할 Sorted Set 자료형의 키 콜렉션
+   * @param destKey 교집합 데이터를 저장할 Sorted Set의 키
+   * @param aggregate 중복된 요소의 score를 어떻게 처리할 것인지 정해주는 열거형 객체 (이걸 대입 안할경우 기본값은 SUM)
+   * @return 저장한 요소 갯수
+   */
+  public Mono<Long> intersectAndStore(
+      final String key,
+      final Collection<String> otherKeys,
+      final String destKey,
+      final RedisZSetCommands.Aggregate aggregate) {
+    return zSetOperations().intersectAndStore(key, otherKeys, destKey, aggregate);
+  }
+
+  /**
+   * Sorted Set 자료형을 비교하여, 중복된 요소만 모은 데이터(= 교집합 데이터)를 저장하는 메소드
+   *
+   * @param key Sorted Set의 키
+   * @param otherKeys 비교할 Sorted Set 자료형의 키 콜렉션
+   * @param destKey 교집합 데이터를 저장할 Sorted Set의 키
+   * @param aggregate 중복된 요소의 score를 어떻게 처리할 것인지 정해주는 열거형 객체 (이걸 대입 안할경우 기본값은 SUM)
+   * @param weights 비교할 Sorted Set 자료형별 요소의 score에 곱셈으로 가중치를 줄 값 (지정하지 않을경우 기본값은 1)
+   * @return 저장한 요소 갯수
+   */
+  public Mono<Long> intersectAndStore(
+      final String key,
+      final Collection<String> otherKeys,
+      final String destKey,
+      final RedisZSetCommands.Aggregate aggregate,
+      final RedisZSetCommands.Weights weights) {
+    return zSetOperations().intersectAndStore(key, otherKeys, destKey, aggregate, weights);
+  }
+
+  /**
+   * Sorted Set 자료형을 비교하여, 모든 Set의 값을 하나로 병합한 데이터(= 합집합 데이터)를 저장하는 메소드
+   *
+   * @param key Sorted Set의 키
+   * @param otherKey 비교할 다른 Sorted Set 자료형의 key
+   * @param destKey 합집합 데이터를 저장할 Sorted Set의 키
+   * @return 저장한 요소 갯수
+   */
+  public Mono<Long> unionAndStore(final String key, final String otherKey, final String destKey) {
+    return zSetOperations().unionAndStore(key, otherKey, destKey);
+  }
+
+  /**
+   * Sorted Set 자료형을 비교하여, 모든 Set의 값을 하나로 병합한 데이터(= 합집합 데이터)를 저장하는 메소드
+   *
+   * @param key Sorted Set의 키
+   * @param otherKeys 비교할 Sorted Set 자료형의 키 콜렉션
+   * @param destKey 합집합 데이터를 저장할 Sorted Set의 키
+   * @return 저장한 요소 갯수
+   */
+  public Mono<Long> unionAndStore(
+      final String key, final Collection<String> otherKeys, final String destKey) {
+    return zSetOperations().unionAndStore(key, otherKeys, destKey);
+  }
+
+  /**
+   * Sorted Set 자료형을 비교하여, 모든 Set의 값을 하나로 병합한 데이터(= 합집합 데이터)를 저장하는 메소드
+   *
+   * @param key Sorted Set의 키
+   * @param otherKeys 비교할 Sorted Set 자료형의 키 콜렉션
+   * @param destKey 합집합 데이터를 저장할 Sorted Set의 키
+   * @param aggregate 중복된 요소의 score를 어떻게 처리할 것인지 정해주는 열거형 객체 (이걸 대입 안할경우 기본값은 SUM)
+   * @return 저장한 요소 갯수
+   */
+  public Mono<Long> unionAndStore(
+      final String key,
+      final Collection<String> otherKeys,
+      final String destKey,
+      final RedisZSetCommands.Aggregate aggregate) {
+    return zSetOperations().unionAndStore(key, otherKeys, destKey, aggregate);
+  }
+
+  /**
+   * Sorted Set 자료형을 비교하여, 모든 Set의 값을 하나로 병합한 데이터(= 합집합 데이터)를 저장하는 메소드
+   *
+   * @param key Sorted Set의 키
+   * @param otherKeys 비교할 Sorted Set 자료형의 키 콜렉션
+   * @param destKey 합집합 데이터를 저장할 Sorted Set의 키
+   * @param aggregate 중복된 요소의 score를 어떻게 처리할 것인지 정해주는 열거형 객체 (이걸 대입 안할경우 기본값은 SUM)
+   * @param weights 비교할 Sorted Set 자료형별 요소의 score에 곱셈으로 가중치를 줄 값 (지정하지 않을경우 기본값은 1)
+   * @return 저장한 요소 갯수
+   */
+  public Mono<Long> unionAndStore(
+      final String key,
+      final Collection<String> otherKeys,
+      final String destKey,
+      final RedisZSetCommands.Aggregate aggregate,
+      final RedisZSetCommands.Weights weights) {
+    return zSetOperations().unionAndStore(key, otherKeys, destKey, aggregate, weights);
+  }
+
+  private static RedisZSetCommands.Limit limit(final long offset, final long count) {
+    return RedisZSetCommands.Limit.limit().offset((int) offset).count((int) count);
+  }
+
+  private ReactiveZSetOperations<String, String> zSetOperations() {
+    return reactiveStringRedisTemplate.opsForZSet();
+  }
+}
@@ -0,0 +1,142 @@
+package com.redis.example.redistemplate.service;
+
+import com.redis.example.redistemplate.cache.NearCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.annotation.Resource;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ExampleStringsOperationsService} 의 리액티브 버전
+ *
+ * <p>레디스 응답을 기다리는 동안 호출 스레드를 점유하지 않으므로, 적은 수의 이벤트 루프 스레드로 많은 요청을 동시에 처리할 수 있다.
+ * 반환한 Mono 를 구독해야 명령어가 실행된다.
+ *
+ * <p>조회에는 로컬 캐시와 GET 병합을 적용하지 않는다. 로컬 캐시({@link NearCache})가 활성화되어 있으면 쓰기가 끝난 뒤에 무효화하는데,
+ * 무효화 메시지 발행은 블로킹 호출이므로 이벤트 루프 스레드가 아닌 boundedElastic 스케줄러에서 실행한다.
+ */
+@Service
+public class ReactiveExampleStringsOperationsService {
+  @Resource private ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+  @Autowired(required = false)
+  private NearCache<String> stringsNearCache;
+
+  /**
+   * 단일 데이터 삽입
+   *
+   * @param key Strings 데이터 키
+   * @param value 저장할 값
+   * @return 삽입 성공여부
+   */
+  public Mono<Boolean> set(final String key, final String value) {
+    ReactiveValueOperations<String, String> valueOperations =
+        reactiveStringRedisTemplate.opsForValue();
+    return invalidateNearCacheAfter(valueOperations.set(key, value), List.of(key));
+  }
+
+  /**
+   * 여러 건 데이터 삽입 (MSET)
+   *
+   * @param mapObj Strings 데이터 키와 값
+   * @return 삽입 성공여부
+   */
+  public Mono<Boolean> multiSet(final Map<String, String> mapObj) {
+    ReactiveValueOperations<String, String> valueOperations =
+        reactiveStringRedisTemplate.opsForValue();
+    return invalidateNearCacheAfter(valueOperations.multiSet(mapObj), mapObj.keySet());
+  }
+
+  /**
+   * 단일 데이터 조회
+   *
+   * @param key Strings 데이터 키
+   * @return 조회한 값 (키가 없으면 값 없이 완료)
+   */
+  public Mono<String> get(final String key) {
+    ReactiveValueOperations<String, String> valueOperations =
+        reactiveStringRedisTemplate.opsForValue();
+    return valueOperations.get(key);
+  }
+
+  /**
+   * 여러 건 데이터 조회 (MGET)
+   *
+   * @param keys Strings 데이터 키 콜렉션
+   * @return 조회한 값 목록 (keys 순서, 없는 키는 null)
+   */
+  public Mono<List<String>> multiGet(final Collection<String> keys) {
+    ReactiveValueOperations<String, String> valueOperations =
+        reactiveStringRedisTemplate.opsForValue();
+    return valueOperations.multiGet(keys);
+  }
+
+  /**
+   * 새로운 값을 저장하고 이전 값을 조회
+   *
+   * @param key Strings 데이터 키
+   * @param value 새로 저장할 값
+   * @return 이전 값
+   */
+  public Mono<String> getAndSet(final String key, final String value) {
+    ReactiveValueOperations<String, String> valueOperations =
+        reactiveStringRedisTemplate.opsForValue();
+    return invalidateNearCacheAfter(valueOperations.getAndSet(key, value), List.of(key));
+  }
+
+  /**
+   * 기존 값 뒤에 문자열을 이어붙임
+   *
+   * @param key Strings 데이터 키
+   * @param value 이어붙일 문자열
+   * @return 이어붙인 후의 값 길이
+   */
+  public Mono<Long> append(final String key, final String value) {
+    ReactiveValueOperations<String, String> valueOperations =
+        reactiveStringRedisTemplate.opsForValue();
+    return invalidateNearCacheAfter(valueOperations.append(key, value), List.of(key));
+  }
+
+  /**
+   * 단일 데이터 삭제
+   *
+   * @param key Strings 데이터 키
+   * @return 삭제 성공여부
+   */
+  public Mono<Boolean> delete(final String key) {
+    return invalidateNearCacheAfter(
+        reactiveStringRedisTemplate.delete(key).map(deletedCount -> deletedCount > 0),
+        List.of(key));
+  }
+
+  /**
+   * 여러 건 데이터 삭제
+   *
+   * @param keys Strings 데이터 키 콜렉션
+   * @return 삭제한 데이터 갯수
+   */
+  public Mono<Long> delete(final Collection<String> keys) {
+    if (keys.isEmpty()) {
+      return Mono.just(0L);
+    }
+    return invalidateNearCacheAfter(
+        reactiveStringRedisTemplate.delete(keys.toArray(new String[0])), keys);
+  }
+
+  private <T> Mono<T> invalidateNearCacheAfter(
+      final Mono<T> write, final Collection<String> keys) {
+    if (stringsNearCache == null) {
+      return write;
+    }
+    return write
+        .publishOn(Schedulers.boundedElastic())
+        .doOnSuccess(ignored -> stringsNearCache.invalidateAll(keys));
+  }
+}
@@ -0,0 +1,124 @@
+package com.redis.example.redistemplate.service;
+
+import com.redis.example.redistemplate.cache.NearCache;
+import com.redis.example.redistemplate.dto.ValueDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.annotation.Resource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ExampleValueDtoStringsOperationsService} 의 리액티브 버전
+ *
+ * <p>customizedValueDtoRedisTemplate 와 같은 직렬화 객체를 쓰는 reactiveValueDtoRedisTemplate 을 사용하므로, 블로킹
+ * 서비스로 저장한 데이터를 그대로 읽을 수 있다. 반환한 Mono 를 구독해야 명령어가 실행된다.
+ *
+ * <p>조회는 항상 레디스에서 한다. 로컬 캐시({@link NearCache})가 활성화되어 있으면 쓰기가 끝난 뒤에 무효화하는데, 무효화 메시지 발행은
+ * 블로킹 호출이므로 이벤트 루프 스레드가 아닌 boundedElastic 스케줄러에서 실행한다.
+ */
+@Service
+public class ReactiveExampleValueDtoStringsOperationsService {
+  @Resource
+  private ReactiveRedisTemplate<String, ValueDto> reactiveValueDtoRedisTemplate;
+
+  @Autowired(required = false)
+  private NearCache<ValueDto> valueDtoNearCache;
+
+  /**
+   * DTO를 Strings 데이터로 직렬화하여 저장
+   *
+   * @param key 직렬화 후 저장할 DTO Strings 데이터 키
+   * @param valueDto 직렬화할 DTO 데이터
+   * @return 저장 성공여부
+   */
+  public Mono<Boolean> setValueDtoString(final String key, final ValueDto valueDto) {
+    ReactiveValueOperations<String, ValueDto> valueOperations =
+        reactiveValueDtoRedisTemplate.opsForValue();
+    return invalidateNearCacheAfter(valueOperations.set(key, valueDto), List.of(key));
+  }
+
+  /**
+   * 직렬화 저장한 Strings 데이터 조회
+   *
+   * @param key 직렬화 후 저장한 DTO Strings의 데이터 키
+   * @return 조회 후 역직렬화한 DTO 객체 (키가 없으면 값 없이 완료)
+   */
+  public Mono<ValueDto> getValueDtoString(final String key) {
+    ReactiveValueOperations<String, ValueDto> valueOperations =
+        reactiveValueDtoRedisTemplate.opsForValue();
+    return valueOperations.get(key);
+  }
+
+  /**
+   * 직렬화 저장한 Strings 데이터 여러 건을 MGET 한 번으로 조회
+   *
+   * @param keys 직렬화 후 저장한 DTO Strings 데이터 키 콜렉션
+   * @return 키와 역직렬화한 DTO 객체 (keys 순서 유지, 존재하지 않는 키는 제외)
+   */
+  public Mono<Map<String, ValueDto>> getValueDtos(final Collection<String> keys) {
+    if (keys.isEmpty()) {
+      return Mono.just(Map.of());
+    }
+
+    List<String> keyList = new ArrayList<>(keys);
+    ReactiveValueOperations<String, ValueDto> valueOperations =
+        reactiveValueDtoRedisTemplate.opsForValue();
+    return valueOperations
+        .multiGet(keyList)
+        .map(
+            values -> {
+              Map<String, ValueDto> result = new LinkedHashMap<>();
+              for (int i = 0; i < values.size(); i++) {
+                if (values.get(i) != null) {
+                  result.put(keyList.get(i), values.get(i));
+                }
+              }
+              return result;
+            });
+  }
+
+  /**
+   * 직렬화 저장한 Strings 데이터 단일 건 삭제
+   *
+   * @param key 직렬화 후 저장한 DTO Strings의 데이터 키
+   * @return 삭제 성공여부
+   */
+  public Mono<Boolean> deleteValueDtoString(final String key) {
+    return invalidateNearCacheAfter(
+        reactiveValueDtoRedisTemplate.delete(key).map(deletedCount -> deletedCount > 0),
+        List.of(key));
+  }
+
+  /**
+   * 직렬화 저장한 Strings 데이터 여러 건 삭제
+   *
+   * @param keys 직렬화 후 저장한 DTO Strings 데이터 키 콜렉션
+   * @return 삭제 성공한 데이터 갯수
+   */
+  public Mono<Long> deleteValueDtoStrings(final Collection<String> keys) {
+    if (keys.isEmpty()) {
+      return Mono.just(0L);
+    }
+    return invalidateNearCacheAfter(
+        reactiveValueDtoRedisTemplate.delete(keys.toArray(new String[0])), keys);
+  }
+
+  private <T> Mono<T> invalidateNearCacheAfter(
+      final Mono<T> write, final Collection<String> keys) {
+    if (valueDtoNearCache == null) {
+      return write;
+    }
+    return write
+        .publishOn(Schedulers.boundedElastic())
+        .doOnSuccess(ignored -> valueDtoNearCache.invalidateAll(keys));
+  }
+}
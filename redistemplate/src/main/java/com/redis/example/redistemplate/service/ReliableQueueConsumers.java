@@ -0,0 +1,332 @@
+package com.redis.example.redistemplate.service;
+
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * {@link ExampleReliableQueueService#startConsumers(String, int, Consumer)} 로 시작한 소비자 워커 묶음
+ *
+ * <p>워커마다 자기 전용 처리 중 리스트를 가지고, 별도 스레드가 visibility-timeout 의 1/3 마다 모든 워커의 생존 신호를 파이프라인으로
+ * 갱신한다. 생존 신호는 handler 가 오래 걸려도 계속 갱신되므로, 워커가 살아있는 동안에는 처리 중 작업이 회수되지 않는다. 처리량은
+ * getProcessedCount 의 증가량으로, 밀린 정도(lag)는 getBacklog 로 확인할 수 있다.
+ */
+public class ReliableQueueConsumers implements AutoCloseable {
+  private static final long ERROR_BACKOFF_MILLIS = 100;
+
+  private final ExampleReliableQueueService queueService;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ExampleListOperationsService listOperationsService;
+  private final String queue;
+  private final Consumer<String> handler;
+  private final int fetchSize;
+  private final int ackBatchSize;
+  private final Duration pollTimeout;
+  private final long heartbeatIntervalMillis;
+  private final Duration reclaimInterval;
+
+  private final LongAdder fetchedCount = new LongAdder();
+  private final LongAdder processedCount = new LongAdder();
+  private final LongAdder failedCount = new LongAdder();
+  private final LongAdder ackBatchCount = new LongAdder();
+  private final LongAdder reclaimedCount = new LongAdder();
+  private final LongAdder errorCount = new LongAdder();
+
+  /** 실행 중인 워커의 처리 중 리스트 키 (생존 신호를 보낼 대상) */
+  private final Set<String> activeProcessingKeys = ConcurrentHashMap.newKeySet();
+
+  private volatile boolean running;
+  private volatile RuntimeException lastError;
+  private ExecutorService workers;
+  private ScheduledExecutorService reclaimer;
+
+  ReliableQueueConsumers(
+      final ExampleReliableQueueService queueService,
+      final StringRedisTemplate stringRedisTemplate,
+      final ExampleListOperationsService listOperationsService,
+      final String queue,
+      final Consumer<String> handler,
+      final int fetchSize,
+      final int ackBatchSize,
+      final Duration pollTimeout,
+      final Duration visibilityTimeout,
+      final Duration reclaimInterval) {
+    this.queueService = queueService;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.listOperationsService = listOperationsService;
+    this.queue = queue;
+    this.handler = handler;
+    this.fetchSize = fetchSize;
+    this.ackBatchSize = ackBatchSize;
+    this.pollTimeout = pollTimeout;
+    this.heartbeatIntervalMillis = Math.max(1, visibilityTimeout.toMillis() / 3);
+    this.reclaimInterval = reclaimInterval;
+  }
+
+  void start(final int workerCount) {
+    running = true;
+    AtomicInteger workerIndex = new AtomicInteger();
+    workers =
+        Executors.newFixedThreadPool(
+            workerCount,
+            runnable -> {
+              String name = "reliable-queue-" + queue + "-" + workerIndex.getAndIncrement();
+              Thread thread = new Thread(runnable, name);
+              thread.setDaemon(true);
+              return thread;
+            });
+    String consumerPrefix =
+        queue + ExampleReliableQueueService.PROCESSING_KEY_INFIX + UUID.randomUUID();
+    for (int i = 0; i < workerCount; i++) {
+      String processingKey = consumerPrefix + ":" + i;
+      workers.execute(() -> new Worker(processingKey).run());
+    }
+
+    reclaimer =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "reliable-queue-" + queue + "-reclaimer");
+              thread.setDaemon(true);
+              return thread;
+            });
+    reclaimer.scheduleWithFixedDelay(
+        this::reclaim,
+        reclaimInterval.toMillis(),
+        reclaimInterval.toMillis(),
+        TimeUnit.MILLISECONDS);
+    reclaimer.scheduleWithFixedDelay(
+        this::heartbeat, 0, heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * 새 작업 가져오기를 멈추고, 워커가 처리 중인 작업과 ack 를 마칠 때까지 기다린다. (기다리는 중에 인터럽트되면 워커를 인터럽트하고 바로
+   * 반환하며, 워커의 처리 중 리스트에 남은 작업은 reclaim 으로 큐에 되돌아감)
+   */
+  @Override
+  public void close() {
+    running = false;
+    reclaimer.shutdownNow();
+    workers.shutdown();
+    try {
+      workers.awaitTermination(
+          pollTimeout.toMillis() + TimeUnit.SECONDS.toMillis(5), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      workers.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** @return 큐에서 가져온 작업 수 */
+  public long getFetchedCount() {
+    return fetchedCount.sum();
+  }
+
+  /** @return 처리에 성공한 작업 수 */
+  public long getProcessedCount() {
+    return processedCount.sum();
+  }
+
+  /** @return 처리에 실패해서 {queue}:dead 로 옮긴 작업 수 */
+  public long getFailedCount() {
+    return failedCount.sum();
+  }
+
+  /** @return ack 스크립트를 실행한 횟수 */
+  public long getAckBatchCount() {
+    return ackBatchCount.sum();
+  }
+
+  /** @return 멈춘 워커로부터 큐로 되돌린 작업 수 */
+  public long getReclaimedCount() {
+    return reclaimedCount.sum();
+  }
+
+  /** @return 레디스 명령어 실행 중 발생한 예외 수 (예외가 나면 잠시 쉬었다가 계속 실행함) */
+  public long getErrorCount() {
+    return errorCount.sum();
+  }
+
+  /** @return 마지막으로 발생한 레디스 명령어 예외 (없으면 null) */
+  public RuntimeException getLastError() {
+    return lastError;
+  }
+
+  /** @return 처리를 기다리는 작업 수 (LLEN) */
+  public long getBacklog() {
+    return queueService.backlog(queue);
+  }
+
+  private void reclaim() {
+    try {
+      reclaimedCount.add(queueService.reclaim(queue));
+    } catch (RuntimeException e) {
+      recordError(e);
+    }
+  }
+
+  /** 실행 중인 모든 워커의 생존 신호를 파이프라인 한 번으로 갱신 */
+  private void heartbeat() {
+    if (activeProcessingKeys.isEmpty()) {
+      return;
+    }
+    String heartbeatsKey = queue + ExampleReliableQueueService.HEARTBEATS_KEY_SUFFIX;
+    long now = System.currentTimeMillis();
+    try {
+      stringRedisTemplate.executePipelined(
+          (RedisCallback<Object>)
+              redisConnection -> {
+                StringRedisConnection connection = (StringRedisConnection) redisConnection;
+                for (String processingKey : activeProcessingKeys) {
+                  connection.zAdd(heartbeatsKey, now, processingKey);
+                }
+                return null;
+              });
+    } catch (RuntimeException e) {
+      recordError(e);
+    }
+  }
+
+  private void recordError(final RuntimeException e) {
+    errorCount.increment();
+    lastError = e;
+  }
+
+  private class Worker {
+    private final String processingKey;
+    private final List<String> acks = new ArrayList<>();
+    private final List<String> failures = new ArrayList<>();
+
+    Worker(final String processingKey) {
+      this.processingKey = processingKey;
+    }
+
+    void run() {
+      activeProcessingKeys.add(processingKey);
+      try {
+        // 첫 생존 신호는 바로 보내서, 작업을 가져오기 전에 회수 대상으로 등록한다.
+        stringRedisTemplate
+            .opsForZSet()
+            .add(
+                queue + ExampleReliableQueueService.HEARTBEATS_KEY_SUFFIX,
+                processingKey,
+                System.currentTimeMillis());
+      } catch (RuntimeException e) {
+        recordError(e);
+      }
+      try {
+        while (running) {
+          try {
+            poll();
+          } catch (RuntimeException e) {
+            recordError(e);
+            sleepAfterError();
+          }
+        }
+      } finally {
+        activeProcessingKeys.remove(processingKey);
+        try {
+          flushAcks();
+          // handler 에서 Error 가 나서 처리 중 리스트에 작업이 남았으면 생존 신호를 남겨서 reclaim 이 되돌리게 한다.
+          stringRedisTemplate.execute(
+              ExampleReliableQueueService.RETIRE_SCRIPT,
+              List.of(processingKey, queue + ExampleReliableQueueService.HEARTBEATS_KEY_SUFFIX));
+        } catch (RuntimeException e) {
+          recordError(e);
+        }
+      }
+    }
+
+    private void poll() {
+      List<String> jobs = fetch();
+      if (jobs.isEmpty()) {
+        flushAcks();
+        String job =
+            listOperationsService.blockingRightPopAndLeftPush(
+                queue, processingKey, pollTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        if (job == null) {
+          return;
+        }
+        jobs = Collections.singletonList(job);
+      }
+      fetchedCount.add(jobs.size());
+
+      for (String job : jobs) {
+        handle(job);
+        if (acks.size() + failures.size() >= ackBatchSize) {
+          flushAcks();
+        }
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> fetch() {
+      List<String> jobs =
+          stringRedisTemplate.execute(
+              ExampleReliableQueueService.FETCH_SCRIPT,
+              List.of(queue, processingKey),
+              String.valueOf(fetchSize));
+      return jobs == null ? Collections.emptyList() : jobs;
+    }
+
+    private void handle(final String job) {
+      try {
+        handler.accept(job);
+        acks.add(job);
+      } catch (RuntimeException e) {
+        failures.add(job);
+      }
+    }
+
+    /**
+     * 처리한 작업을 처리 중 리스트에서 지우고(LREM) 실패한 작업은 {queue}:dead 로 옮긴 후 생존 신호를 갱신 (Lua 스크립트 하나로 원자적으로
+     * 실행)
+     */
+    private void flushAcks() {
+      if (acks.isEmpty() && failures.isEmpty()) {
+        return;
+      }
+      List<String> args = new ArrayList<>(acks.size() + failures.size() + 3);
+      args.add(String.valueOf(System.currentTimeMillis()));
+      args.add(processingKey);
+      args.add(String.valueOf(acks.size()));
+      args.addAll(acks);
+      args.addAll(failures);
+      stringRedisTemplate.execute(
+          ExampleReliableQueueService.ACK_SCRIPT,
+          List.of(
+              processingKey,
+              queue + ExampleReliableQueueService.DEAD_LETTER_KEY_SUFFIX,
+              queue + ExampleReliableQueueService.HEARTBEATS_KEY_SUFFIX),
+          args.toArray());
+      processedCount.add(acks.size());
+      failedCount.add(failures.size());
+      ackBatchCount.increment();
+      acks.clear();
+      failures.clear();
+    }
+
+    private void sleepAfterError() {
+      try {
+        Thread.sleep(ERROR_BACKOFF_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        running = false;
+      }
+    }
+  }
+}
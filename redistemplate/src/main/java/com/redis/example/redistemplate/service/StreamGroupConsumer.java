@@ -0,0 +1,241 @@
+package com.redis.example.redistemplate.service;
+
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * {@link ExampleStreamOperationsService#startConsumer(String, String, String, Consumer)} 로 시작한 소비자
+ *
+ * <p>메시지는 StreamMessageListenerContainer 의 스레드 하나에서 순서대로 처리하고, ack 와 미처리 메시지 회수(claim)는 별도 스레드
+ * 하나에서 주기적으로 실행한다. 회수한 메시지는 회수 스레드에서 handler 에 넘기지만 리스너 스레드와 같은 lock 을 잡으므로, handler 는 동시에
+ * 두 스레드에서 실행되지 않는다. (회수한 메시지를 처리하는 동안에는 새 메시지 처리가 잠시 멈춤)
+ */
+public class StreamGroupConsumer implements AutoCloseable {
+  private final ExampleStreamOperationsService streamService;
+  private final String key;
+  private final String group;
+  private final String consumer;
+  private final Consumer<MapRecord<String, String, String>> handler;
+  private final int readCount;
+  private final int ackBatchSize;
+  private final Duration ackInterval;
+  private final Duration claimMinIdle;
+  private final Duration reclaimInterval;
+  private final int maxDeliveries;
+  private final Object handlerLock = new Object();
+
+  private final StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
+  private final ExecutorService pollingExecutor;
+  private final ScheduledExecutorService scheduler;
+  private final ConcurrentLinkedQueue<RecordId> pendingAcks = new ConcurrentLinkedQueue<>();
+
+  private final LongAdder processedCount = new LongAdder();
+  private final LongAdder failedCount = new LongAdder();
+  private final LongAdder ackedCount = new LongAdder();
+  private final LongAdder ackBatchCount = new LongAdder();
+  private final LongAdder claimedCount = new LongAdder();
+  private final LongAdder errorCount = new LongAdder();
+
+  private volatile Throwable lastError;
+
+  StreamGroupConsumer(
+      final ExampleStreamOperationsService streamService,
+      final RedisConnectionFactory connectionFactory,
+      final String key,
+      final String group,
+      final String consumer,
+      final Consumer<MapRecord<String, String, String>> handler,
+      final int readCount,
+      final Duration pollTimeout,
+      final int ackBatchSize,
+      final Duration ackInterval,
+      final Duration claimMinIdle,
+      final Duration reclaimInterval,
+      final int maxDeliveries) {
+    this.streamService = streamService;
+    this.key = key;
+    this.group = group;
+    this.consumer = consumer;
+    this.handler = handler;
+    this.readCount = readCount;
+    this.ackBatchSize = ackBatchSize;
+    this.ackInterval = ackInterval;
+    this.claimMinIdle = claimMinIdle;
+    this.reclaimInterval = reclaimInterval;
+    this.maxDeliveries = maxDeliveries;
+
+    String threadName = "stream-consumer-" + key + "-" + group + "-" + consumer;
+    pollingExecutor = Executors.newSingleThreadExecutor(daemonThreadFactory(threadName));
+    scheduler =
+        Executors.newSingleThreadScheduledExecutor(daemonThreadFactory(threadName + "-ack"));
+    StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
+        StreamMessageListenerContainerOptions.builder()
+            .batchSize(readCount)
+            .pollTimeout(pollTimeout)
+            .executor(pollingExecutor)
+            .errorHandler(this::recordError)
+            .build();
+    container = StreamMessageListenerContainer.create(connectionFactory, options);
+  }
+
+  void start() {
+    org.springframework.data.redis.connection.stream.Consumer groupConsumer =
+        org.springframework.data.redis.connection.stream.Consumer.from(group, consumer);
+    container.register(
+        StreamReadRequest.builder(StreamOffset.create(key, ReadOffset.lastConsumed()))
+            .consumer(groupConsumer)
+            .autoAck(false)
+            .cancelOnError(error -> false)
+            .build(),
+        this::handle);
+    container.start();
+
+    scheduler.scheduleWithFixedDelay(
+        this::flushAcksSafely,
+        ackInterval.toMillis(),
+        ackInterval.toMillis(),
+        TimeUnit.MILLISECONDS);
+    scheduler.scheduleWithFixedDelay(
+        this::claimIdle,
+        reclaimInterval.toMillis(),
+        reclaimInterval.toMillis(),
+        TimeUnit.MILLISECONDS);
+  }
+
+  /** 메시지 읽기를 멈추고 남은 ack 를 보낸 후 종료한다. (처리 중인 메시지는 ack 되지 않으면 나중에 다시 처리됨) */
+  @Override
+  public void close() {
+    container.stop();
+    pollingExecutor.shutdown();
+    scheduler.shutdown();
+    boolean interrupted = false;
+    try {
+      pollingExecutor.awaitTermination(5, TimeUnit.SECONDS);
+      scheduler.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      pollingExecutor.shutdownNow();
+      scheduler.shutdownNow();
+      interrupted = true;
+    }
+    flushAcksSafely();
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** @return 처리에 성공한 메시지 수 */
+  public long getProcessedCount() {
+    return processedCount.sum();
+  }
+
+  /**
+   * @return 처리에 실패한 메시지 수 (ack 하지 않았으므로 claim-min-idle 이후 다시 처리되고, max-deliveries 번 전달된 후에는
+   *     {key}:dead 로 옮겨짐)
+   */
+  public long getFailedCount() {
+    return failedCount.sum();
+  }
+
+  /** @return ack 된 메시지 수 */
+  public long getAckedCount() {
+    return ackedCount.sum();
+  }
+
+  /** @return ack 파이프라인을 보낸 횟수 */
+  public long getAckBatchCount() {
+    return ackBatchCount.sum();
+  }
+
+  /** @return 다른 소비자로부터 넘겨받아 처리한 메시지 수 */
+  public long getClaimedCount() {
+    return claimedCount.sum();
+  }
+
+  /** @return 레디스 명령어 실행 중 발생한 예외 수 */
+  public long getErrorCount() {
+    return errorCount.sum();
+  }
+
+  /** @return 마지막으로 발생한 레디스 명령어 예외 (없으면 null) */
+  public Throwable getLastError() {
+    return lastError;
+  }
+
+  private void handle(final MapRecord<String, String, String> record) {
+    try {
+      synchronized (handlerLock) {
+        handler.accept(record);
+      }
+    } catch (RuntimeException e) {
+      failedCount.increment();
+      return;
+    }
+    processedCount.increment();
+    pendingAcks.add(record.getId());
+    if (pendingAcks.size() >= ackBatchSize) {
+      flushAcksSafely();
+    }
+  }
+
+  private void claimIdle() {
+    try {
+      List<MapRecord<String, String, String>> claimed =
+          streamService.claimIdle(key, group, consumer, claimMinIdle, readCount, maxDeliveries);
+      claimedCount.add(claimed.size());
+      for (MapRecord<String, String, String> record : claimed) {
+        handle(record);
+      }
+    } catch (RuntimeException e) {
+      recordError(e);
+    }
+  }
+
+  /** 리스너 스레드와 ack 스레드가 동시에 보내지 않도록 동기화한다. */
+  private synchronized void flushAcksSafely() {
+    List<RecordId> ids = new ArrayList<>();
+    RecordId id;
+    while ((id = pendingAcks.poll()) != null) {
+      ids.add(id);
+    }
+    if (ids.isEmpty()) {
+      return;
+    }
+    try {
+      ackedCount.add(streamService.acknowledge(key, group, ids));
+      ackBatchCount.increment();
+    } catch (RuntimeException e) {
+      recordError(e);
+    }
+  }
+
+  private void recordError(final Throwable error) {
+    errorCount.increment();
+    lastError = error;
+  }
+
+  private static ThreadFactory daemonThreadFactory(final String name) {
+    return runnable -> {
+      Thread thread = new Thread(runnable, name);
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
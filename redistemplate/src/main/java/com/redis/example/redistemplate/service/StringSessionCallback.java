@@ -0,0 +1,33 @@
+package com.redis.example.redistemplate.service;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+
+import java.util.function.Function;
+
+/**
+ * stringRedisTemplate 용 {@link SessionCallback}
+ *
+ * <p>SessionCallback 은 키/값 타입이 메소드 제네릭이라 매번 캐스팅해야 하므로, String 타입의 RedisOperations 를 받는 함수로
+ * 감싼다.
+ *
+ * <p>각 서비스의 executeInSession 이 이 콜백으로 세션 모드를 실행한다. 일반 메소드는 호출할 때마다 커넥션을 얻고 반납하지만, 세션 모드는
+ * callback 이 끝날 때까지 커넥션 하나를 현재 스레드에 묶어둔다. 커넥션 풀을 사용하는 경우(공유 커넥션을 쓰지 않는 경우) 명령어마다 풀에서
+ * 커넥션을 빌리고 돌려주는 비용이 사라진다. callback 안에서 호출한 다른 서비스의 메소드도 같은 스레드라면 같은 커넥션을 사용한다.
+ *
+ * @param <T> 세션 실행 결과 타입
+ */
+class StringSessionCallback<T> implements SessionCallback<T> {
+  private final Function<RedisOperations<String, String>, T> callback;
+
+  StringSessionCallback(final Function<RedisOperations<String, String>, T> callback) {
+    this.callback = callback;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <K, V> T execute(final RedisOperations<K, V> operations) throws DataAccessException {
+    return callback.apply((RedisOperations<String, String>) operations);
+  }
+}
@@ -0,0 +1,109 @@
+package com.redis.example.redistemplate.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 샤드별 조회 결과를 합치는 k-way merge 와 같은 점수 멤버의 순서 테스트 (레디스 없이 실행) */
+class ExampleShardedSortedSetServiceTest {
+  private static final String EMOJI = "😀";
+
+  private static final List<List<Integer>> SHARDS =
+      List.of(List.of(1, 4, 7, 10), List.of(2, 5, 8), List.of(), List.of(3, 6, 9));
+
+  @Test
+  @DisplayName("여러 샤드의 정렬된 목록을 하나의 순서로 합친다")
+  void mergeAll() {
+    assertThat(ExampleShardedSortedSetService.merge(SHARDS, Comparator.naturalOrder(), 0, 100))
+        .containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+  }
+
+  @Test
+  @DisplayName("skip 개를 건너뛴 후 limit 개만 반환한다")
+  void mergeSkipAndLimit() {
+    assertThat(ExampleShardedSortedSetService.merge(SHARDS, Comparator.naturalOrder(), 2, 3))
+        .containsExactly(3, 4, 5);
+    assertThat(ExampleShardedSortedSetService.merge(SHARDS, Comparator.naturalOrder(), 8, 5))
+        .containsExactly(9, 10);
+    assertThat(ExampleShardedSortedSetService.merge(SHARDS, Comparator.naturalOrder(), 10, 5))
+        .isEmpty();
+  }
+
+  @Test
+  @DisplayName("내림차순으로 정렬된 목록도 합친다")
+  void mergeDescending() {
+    List<List<Integer>> shards = List.of(List.of(9, 3), List.of(8, 7, 1), List.of(5));
+
+    assertThat(ExampleShardedSortedSetService.merge(shards, Comparator.reverseOrder(), 1, 4))
+        .containsExactly(8, 7, 5, 3);
+  }
+
+  @Test
+  @DisplayName("샤드가 없거나 모두 비어 있으면 빈 목록")
+  void mergeEmpty() {
+    assertThat(
+            ExampleShardedSortedSetService.<Integer>merge(
+                List.of(), Comparator.naturalOrder(), 0, 10))
+        .isEmpty();
+    assertThat(
+            ExampleShardedSortedSetService.<Integer>merge(
+                List.of(List.of(), List.of()), Comparator.naturalOrder(), 0, 10))
+        .isEmpty();
+  }
+
+  @Test
+  @DisplayName("같은 점수의 멤버는 레디스처럼 UTF-8 바이트 순서로 합친다")
+  void mergeTiesInUtf8Order() {
+    // UTF-16 으로는 EMOJI 가 U+E000 보다 앞이지만, 레디스(UTF-8 바이트)에서는 뒤다.
+    List<List<TypedTuple<String>>> shards =
+        List.of(
+            List.of(tuple(EMOJI, 1.0), tuple("b", 2.0)),
+            List.of(tuple("a", 1.0), tuple("", 1.0), tuple("a", 2.0)));
+
+    assertThat(
+            members(
+                ExampleShardedSortedSetService.merge(
+                    shards, ExampleShardedSortedSetService.ASCENDING, 0, 10)))
+        .containsExactly("a", "", EMOJI, "a", "b");
+  }
+
+  @Test
+  @DisplayName("내림차순에서는 같은 점수의 멤버도 UTF-8 바이트 역순으로 합친다")
+  void mergeTiesDescending() {
+    List<List<TypedTuple<String>>> shards =
+        List.of(
+            List.of(tuple("b", 2.0), tuple(EMOJI, 1.0)),
+            List.of(tuple("a", 2.0), tuple("", 1.0), tuple("a", 1.0)));
+
+    assertThat(
+            members(
+                ExampleShardedSortedSetService.merge(
+                    shards, ExampleShardedSortedSetService.ASCENDING.reversed(), 1, 3)))
+        .containsExactly("a", EMOJI, "");
+  }
+
+  @Test
+  @DisplayName("멤버 비교는 부호 없는 UTF-8 바이트 순서")
+  void compareMembers() {
+    assertThat(ExampleShardedSortedSetService.compareMembers("a", "b")).isNegative();
+    assertThat(ExampleShardedSortedSetService.compareMembers("ab", "a")).isPositive();
+    assertThat(ExampleShardedSortedSetService.compareMembers("한", "한")).isZero();
+    assertThat(ExampleShardedSortedSetService.compareMembers("", EMOJI)).isNegative();
+    assertThat(ExampleShardedSortedSetService.compareMembers("z", "é")).isNegative();
+  }
+
+  private static TypedTuple<String> tuple(final String member, final double score) {
+    return new DefaultTypedTuple<>(member, score);
+  }
+
+  private static List<String> members(final List<TypedTuple<String>> tuples) {
+    return tuples.stream().map(TypedTuple::getValue).collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,124 @@
+package com.redis.example.redistemplate.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** 점수 기준 cursor 페이지 조회의 cursor 인코딩과 같은 점수 멤버 걸러내기 테스트 (레디스 없이 실행) */
+class ExampleSortedSetOperationsServiceTest {
+  private static final String EMOJI = "😀";
+
+  @Test
+  @DisplayName("cursor 는 점수와 멤버를 그대로 되돌린다")
+  void cursorRoundTrip() {
+    double[] scores = {
+      0.0, -0.0, 1.5, -1e300, Double.MIN_VALUE, Double.NaN,
+      Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY
+    };
+    String[] members = {"member", "", "a:b:c", ":", "한글", EMOJI};
+    for (double score : scores) {
+      for (String member : members) {
+        TypedTuple<String> decoded =
+            ExampleSortedSetOperationsService.decodeCursor(
+                ExampleSortedSetOperationsService.encodeCursor(
+                    new DefaultTypedTuple<>(member, score)));
+
+        assertThat(decoded.getScore()).isEqualTo(score);
+        assertThat(decoded.getValue()).isEqualTo(member);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("cursor 는 URL 에 그대로 넣을 수 있다")
+  void cursorIsUrlSafe() {
+    String cursor =
+        ExampleSortedSetOperationsService.encodeCursor(
+            new DefaultTypedTuple<>("?/+=&" + EMOJI, -3.25));
+
+    assertThat(cursor).matches("[A-Za-z0-9_-]+");
+  }
+
+  @Test
+  @DisplayName("잘못된 cursor 는 IllegalArgumentException")
+  void invalidCursor() {
+    String noSeparator = base64("3ff0000000000000");
+    String badScore = base64("zz:member");
+
+    for (String cursor : List.of("not base64!", noSeparator, badScore)) {
+      assertThatThrownBy(() -> ExampleSortedSetOperationsService.decodeCursor(cursor))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining(cursor);
+    }
+  }
+
+  @Test
+  @DisplayName("오름차순이면 after 보다 뒤의 멤버만 남긴다")
+  void tiesAfterAscending() {
+    List<TypedTuple<String>> items =
+        ExampleSortedSetOperationsService.tiesAfter(
+            new DefaultTypedTuple<>("b", 1.0), List.of("a", "b", "c", "d"), false);
+
+    assertThat(members(items)).containsExactly("c", "d");
+    assertThat(items).extracting(TypedTuple::getScore).containsOnly(1.0);
+  }
+
+  @Test
+  @DisplayName("내림차순이면 after 보다 앞의 멤버를 역순으로 남긴다")
+  void tiesAfterDescending() {
+    List<TypedTuple<String>> items =
+        ExampleSortedSetOperationsService.tiesAfter(
+            new DefaultTypedTuple<>("c", 1.0), List.of("a", "b", "c", "d"), true);
+
+    assertThat(members(items)).containsExactly("b", "a");
+  }
+
+  @Test
+  @DisplayName("after 가 지워졌어도 그 자리 이후부터 이어서 읽는다")
+  void tiesAfterRemovedMember() {
+    TypedTuple<String> after = new DefaultTypedTuple<>("b", 1.0);
+    List<String> ties = List.of("a", "c");
+
+    assertThat(members(ExampleSortedSetOperationsService.tiesAfter(after, ties, false)))
+        .containsExactly("c");
+    assertThat(members(ExampleSortedSetOperationsService.tiesAfter(after, ties, true)))
+        .containsExactly("a");
+  }
+
+  @Test
+  @DisplayName("같은 점수의 멤버는 레디스처럼 UTF-8 바이트 순서로 비교한다")
+  void tiesAfterUsesUtf8Order() {
+    // UTF-16 으로는 EMOJI(0xD83D...) 가 U+E000 보다 앞이지만, UTF-8 로는 뒤(0xF0 > 0xEE)다.
+    List<String> redisOrder = List.of("", EMOJI);
+
+    assertThat(
+            members(
+                ExampleSortedSetOperationsService.tiesAfter(
+                    new DefaultTypedTuple<>("", 1.0), redisOrder, false)))
+        .containsExactly(EMOJI);
+    assertThat(
+            members(
+                ExampleSortedSetOperationsService.tiesAfter(
+                    new DefaultTypedTuple<>(EMOJI, 1.0), redisOrder, true)))
+        .containsExactly("");
+  }
+
+  private static List<String> members(final List<TypedTuple<String>> items) {
+    return items.stream().map(TypedTuple::getValue).collect(Collectors.toList());
+  }
+
+  private static String base64(final String raw) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}